@@ -0,0 +1,84 @@
+package com.faforever.client.chat;
+
+import com.faforever.client.theme.ThemeService;
+import com.google.common.io.CharStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many chat messages per second can be rendered to HTML, comparing the previous approach (read the theme
+ * file and run a chain of replacements per message) against a compiled {@link ChatMessageTemplate}. The web view
+ * insertion is not part of this benchmark since it requires a running JavaFX platform.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatMessageTemplateBenchmark {
+
+  private URL sectionUrl;
+  private URL textUrl;
+  private ChatMessageTemplate sectionTemplate;
+  private ChatMessageTemplate textTemplate;
+  private Map<String, String> values;
+
+  @Setup
+  public void setup() throws IOException {
+    sectionUrl = getClass().getResource("/" + ThemeService.CHAT_SECTION_EXTENDED);
+    textUrl = getClass().getResource("/" + ThemeService.CHAT_TEXT_EXTENDED);
+    sectionTemplate = ChatMessageTemplate.compile(read(sectionUrl));
+    textTemplate = ChatMessageTemplate.compile(read(textUrl));
+    values = Map.of("time", "12:34",
+                    "avatar", "https://content.faforever.com/faf/avatars/avatar.png",
+                    "username", "Downlord",
+                    "clan-tag", "FAF",
+                    "decorated-clan-tag", "[FAF]",
+                    "country-flag", "https://content.faforever.com/flags/de.png",
+                    "section-id", "42",
+                    "css-classes", "user-Downlord message",
+                    "inline-style", "",
+                    "text", "gg wp, see you in <a href=\"javascript:void(0);\">#aeolus</a>");
+  }
+
+  @Benchmark
+  public String replaceChain() throws IOException {
+    return renderByReplacing(read(sectionUrl)) + renderByReplacing(read(textUrl));
+  }
+
+  @Benchmark
+  public String compiledTemplate() {
+    return sectionTemplate.render(values) + textTemplate.render(values);
+  }
+
+  private String renderByReplacing(String html) {
+    for (Map.Entry<String, String> entry : values.entrySet()) {
+      if (!entry.getKey().equals("text")) {
+        html = html.replace("{" + entry.getKey() + "}", entry.getValue());
+      }
+    }
+    return html.replace("{text}", values.get("text"));
+  }
+
+  private static String read(URL url) throws IOException {
+    try (Reader reader = new InputStreamReader(url.openStream())) {
+      return CharStreams.toString(reader);
+    }
+  }
+}
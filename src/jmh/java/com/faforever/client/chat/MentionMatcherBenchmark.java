@@ -0,0 +1,71 @@
+package com.faforever.client.chat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+
+/**
+ * Replays a synthetic channel log through the mention detection of {@link KittehChatService}, comparing a pattern
+ * compiled per message (as it used to be) against a cached {@link MentionMatcher}. Run with {@code -prof gc} to see
+ * the allocation rate per message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MentionMatcherBenchmark {
+
+  private static final String USERNAME = "Downlord";
+  private static final String[] WORDS = {"gg", "wp", "anyone", "up", "for", "setons", "2v2", "?", "lol", "rating",
+      "balance", "patch", "downlord", "@Downlord", "ladder", "Downlord,", "thx", "map", "gap", "no", "rush"};
+
+  private final List<String> channelLog = new ArrayList<>();
+  private MentionMatcher mentionMatcher;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    for (int i = 0; i < 10_000; i++) {
+      StringBuilder message = new StringBuilder();
+      int wordCount = 1 + random.nextInt(12);
+      for (int j = 0; j < wordCount; j++) {
+        message.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+      }
+      channelLog.add(message.toString().strip());
+    }
+    mentionMatcher = MentionMatcher.forUsername(USERNAME);
+  }
+
+  @Benchmark
+  public void compilePerMessage(Blackhole blackhole) {
+    for (String message : channelLog) {
+      blackhole.consume(Pattern.compile("(^|[^A-Za-z0-9-])" + Pattern.quote(USERNAME) + "([^A-Za-z0-9-]|$)",
+                                        CASE_INSENSITIVE).matcher(message).find());
+    }
+  }
+
+  @Benchmark
+  public void cachedMatcher(Blackhole blackhole) {
+    for (String message : channelLog) {
+      blackhole.consume(mentionMatcher.isMentioned(message));
+    }
+  }
+}
@@ -0,0 +1,155 @@
+package com.faforever.client.fa;
+
+import com.faforever.client.preferences.ForgedAlliancePrefs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures toggling a mod in the mod manager, which reads the active mods from the game preferences file and writes
+ * them back. Compares the previous implementation, which tried every available charset and read the file again for
+ * each attempt, with the {@link GamePrefsService}. The file is about as large as the one of a long time player and
+ * either plain ASCII or containing a UTF-8 encoded profile name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GamePrefsToggleBenchmark {
+
+  private static final Pattern ACTIVE_MODS_PATTERN = Pattern.compile("active_mods\\s*=\\s*\\{.*?}", Pattern.DOTALL);
+  private static final Pattern ACTIVE_MOD_PATTERN = Pattern.compile("\\['(.*?)']\\s*=\\s*(true|false)", Pattern.DOTALL);
+  private static final String TOGGLED_MOD = "9e8ea941-c306-4751-b367-f00000000005";
+
+  @Param({"ascii", "utf8"})
+  public String profileName;
+
+  private Path gamePrefsPath;
+  private GamePrefsService gamePrefsService;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    gamePrefsPath = Files.createTempFile("Game", ".prefs");
+    String name = profileName.equals("ascii") ? "Player" : "Jürgen";
+    String options = IntStream.range(0, 300)
+        .mapToObj("        option_%d = 'value'"::formatted)
+        .collect(Collectors.joining(",\n"));
+    Files.writeString(gamePrefsPath, """
+        profile = {
+            current = 1,
+            profiles = {
+                {
+                    Name = '%s',
+        %s
+                }
+            }
+        }
+        active_mods = {
+            ['9e8ea941-c306-4751-b367-a11000000502'] = true
+        }
+        """.formatted(name, options), StandardCharsets.UTF_8);
+
+    ForgedAlliancePrefs forgedAlliancePrefs = new ForgedAlliancePrefs();
+    forgedAlliancePrefs.setPreferencesFile(gamePrefsPath);
+    gamePrefsService = new GamePrefsService(forgedAlliancePrefs);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(gamePrefsPath);
+  }
+
+  @Benchmark
+  public Set<String> charsetProbing() throws IOException {
+    Set<String> activeMods = readActiveModsByCharsetProbing();
+    toggle(activeMods);
+    writeActiveModsByCharsetProbing(activeMods);
+    return activeMods;
+  }
+
+  @Benchmark
+  public Set<String> gamePrefsService() throws IOException {
+    Set<String> activeMods = gamePrefsService.getActiveMods();
+    toggle(activeMods);
+    gamePrefsService.setActiveMods(activeMods);
+    return activeMods;
+  }
+
+  private static void toggle(Set<String> activeMods) {
+    if (!activeMods.remove(TOGGLED_MOD)) {
+      activeMods.add(TOGGLED_MOD);
+    }
+  }
+
+  private String readPreferencesFileByCharsetProbing() throws IOException {
+    for (Charset charset : Charset.availableCharsets().values()) {
+      CharsetDecoder decoder = charset.newDecoder();
+      decoder.onMalformedInput(CodingErrorAction.REPORT);
+      decoder.onUnmappableCharacter(CodingErrorAction.REPORT);
+      try {
+        return decoder.decode(ByteBuffer.wrap(Files.readAllBytes(gamePrefsPath))).toString();
+      } catch (CharacterCodingException e) {
+        // Try the next charset
+      } catch (UnsupportedOperationException e) {
+        // Some charsets can only encode
+      }
+    }
+    throw new IOException("No charset could decode " + gamePrefsPath);
+  }
+
+  private Set<String> readActiveModsByCharsetProbing() throws IOException {
+    Set<String> activeMods = new HashSet<>();
+    Matcher matcher = ACTIVE_MODS_PATTERN.matcher(readPreferencesFileByCharsetProbing());
+    if (matcher.find()) {
+      Matcher activeModMatcher = ACTIVE_MOD_PATTERN.matcher(matcher.group(0));
+      while (activeModMatcher.find()) {
+        if (Boolean.parseBoolean(activeModMatcher.group(2))) {
+          activeMods.add(activeModMatcher.group(1));
+        }
+      }
+    }
+    return activeMods;
+  }
+
+  private void writeActiveModsByCharsetProbing(Set<String> activeMods) throws IOException {
+    String preferencesContent = readPreferencesFileByCharsetProbing();
+    String newActiveModsContent = "active_mods = {\n%s\n}".formatted(
+        activeMods.stream().map("    ['%s'] = true"::formatted).collect(Collectors.joining(",\n")));
+    Matcher matcher = ACTIVE_MODS_PATTERN.matcher(preferencesContent);
+    if (matcher.find()) {
+      preferencesContent = preferencesContent.replace(matcher.group(0), newActiveModsContent);
+    } else {
+      preferencesContent += newActiveModsContent;
+    }
+    Files.writeString(gamePrefsPath, preferencesContent);
+  }
+}
@@ -0,0 +1,82 @@
+package com.faforever.client.fx;
+
+import javafx.beans.Observable;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a netsplit in a busy chat channel: most of the users of the channel quit one after another, each removal
+ * being mirrored from the user map into the list shown by the user list. Compares the array list the channel used to
+ * mirror into with the {@link IndexedObservableList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+public class AttachedListBenchmark {
+
+  @Param("4000")
+  public int userCount;
+
+  @Param("3000")
+  public int quitCount;
+
+  private ObservableMap<String, StringProperty> arrayListUsers;
+  private ObservableMap<String, StringProperty> indexedListUsers;
+  private List<String> quittingUsers;
+
+  @Setup(Level.Invocation)
+  public void setup() {
+    arrayListUsers = createUsers(FXCollections.observableArrayList(user -> new Observable[]{user}));
+    indexedListUsers = createUsers(new IndexedObservableList<>(user -> new Observable[]{user}));
+
+    List<String> usernames = new ArrayList<>(arrayListUsers.keySet());
+    Collections.shuffle(usernames, new Random(42));
+    quittingUsers = usernames.subList(0, quitCount);
+  }
+
+  @Benchmark
+  public ObservableMap<String, StringProperty> arrayList() {
+    quittingUsers.forEach(arrayListUsers::remove);
+    return arrayListUsers;
+  }
+
+  @Benchmark
+  public ObservableMap<String, StringProperty> indexedList() {
+    quittingUsers.forEach(indexedListUsers::remove);
+    return indexedListUsers;
+  }
+
+  private ObservableMap<String, StringProperty> createUsers(ObservableList<StringProperty> list) {
+    ObservableMap<String, StringProperty> users = FXCollections.synchronizedObservableMap(FXCollections.observableHashMap());
+    JavaFxUtil.attachListToMap(FXCollections.synchronizedObservableList(list), users);
+    for (int i = 0; i < userCount; i++) {
+      String username = "user" + i;
+      users.put(username, new SimpleStringProperty(username));
+    }
+    return users;
+  }
+}
@@ -0,0 +1,156 @@
+package com.faforever.client.game;
+
+import com.faforever.client.fx.VirtualizedTileGrid;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.StackPane;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Measures how long it takes to open the custom games tile view with many open games, comparing a flow pane with a
+ * card per game against the {@link VirtualizedTileGrid}. The cards are synthetic nodes shaped like the game card since
+ * the real ones need the application context. Opening includes CSS and layout of a 1280x800 scene. The number of
+ * scene graph nodes is reported as an auxiliary counter; run with {@code -prof gc} to see the memory allocated per
+ * opening.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Dprism.order=sw", "-Djava.awt.headless=true"})
+public class GameTileGridBenchmark {
+
+  @Param("500")
+  public int gameCount;
+
+  private ObservableList<Integer> games;
+  /** The grid opened by the last invocation, which has to stop listening to the shared games list. */
+  private VirtualizedTileGrid<Integer> openedTileGrid;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    try {
+      Platform.startup(() -> {});
+    } catch (IllegalStateException ignored) {
+    }
+    games = FXCollections.observableArrayList(IntStream.range(0, gameCount).boxed().toList());
+  }
+
+  @TearDown(Level.Invocation)
+  public void disposeTileGrid() throws Exception {
+    if (openedTileGrid == null) {
+      return;
+    }
+    VirtualizedTileGrid<Integer> tileGrid = openedTileGrid;
+    openedTileGrid = null;
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    Platform.runLater(() -> {
+      tileGrid.dispose();
+      future.complete(null);
+    });
+    future.get();
+  }
+
+  @Benchmark
+  public Parent flowPane(SceneGraph sceneGraph) throws Exception {
+    return open(() -> {
+      FlowPane flowPane = new FlowPane(10, 10);
+      games.forEach(game -> flowPane.getChildren().add(createCard(game)));
+      ScrollPane scrollPane = new ScrollPane(flowPane);
+      scrollPane.setFitToWidth(true);
+      return scrollPane;
+    }, sceneGraph);
+  }
+
+  @Benchmark
+  public Parent virtualizedTileGrid(SceneGraph sceneGraph) throws Exception {
+    return open(() -> {
+      openedTileGrid = new VirtualizedTileGrid<>(games, 372, 10, 10, () -> {
+        GridPane card = createCard(null);
+        return new VirtualizedTileGrid.Tile<Integer>() {
+          @Override
+          public Node getNode() {
+            return card;
+          }
+
+          @Override
+          public void setItem(Integer game) {
+            ((Label) card.getChildren().get(1)).setText(game == null ? null : "Game " + game);
+          }
+        };
+      });
+      return openedTileGrid.getNode();
+    }, sceneGraph);
+  }
+
+  private Parent open(Supplier<Node> viewFactory, SceneGraph sceneGraph) throws InterruptedException, ExecutionException {
+    CompletableFuture<Parent> future = new CompletableFuture<>();
+    Platform.runLater(() -> {
+      Parent root = new StackPane(viewFactory.get());
+      new Scene(root, 1280, 800);
+      root.applyCss();
+      root.layout();
+      sceneGraph.nodes += countNodes(root);
+      future.complete(root);
+    });
+    return future.get();
+  }
+
+  private static GridPane createCard(Integer game) {
+    GridPane card = new GridPane(10, 5);
+    card.setPrefSize(372, 150);
+    card.add(new ImageView(), 0, 0, 1, 5);
+    card.add(new Label(game == null ? null : "Game " + game), 1, 0, 2, 1);
+    for (int row = 1; row < 4; row++) {
+      card.add(new Label("Label"), 1, row);
+      card.add(new Label("Value"), 2, row);
+    }
+    card.add(new Label("Mods"), 1, 4, 2, 1);
+    return card;
+  }
+
+  private static int countNodes(Node node) {
+    int count = 1;
+    if (node instanceof Parent parent) {
+      for (Node child : parent.getChildrenUnmodifiable()) {
+        count += countNodes(child);
+      }
+    }
+    return count;
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class SceneGraph {
+    public long nodes;
+  }
+}
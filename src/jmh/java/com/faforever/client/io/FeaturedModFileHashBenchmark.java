@@ -0,0 +1,91 @@
+package com.faforever.client.io;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to verify the files of a featured mod before a game is launched, once without a hash
+ * manifest (cold, every file is read) and once with a manifest of the unchanged files (warm). The files are generated,
+ * so the cold numbers profit from the OS file cache and are a lower bound for a real installation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeaturedModFileHashBenchmark {
+
+  @Param("40")
+  public int fileCount;
+
+  @Param("8")
+  public int fileSizeMegabytes;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private Path directory;
+  private Path manifestFile;
+  private List<Path> files;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("featured-mod");
+    manifestFile = directory.resolve("manifest.json");
+    files = new ArrayList<>(fileCount);
+    Random random = new Random(0);
+    byte[] content = new byte[fileSizeMegabytes * 1024 * 1024];
+    for (int i = 0; i < fileCount; i++) {
+      random.nextBytes(content);
+      files.add(Files.write(directory.resolve(i + ".nx2"), content));
+    }
+
+    FileHashManifest fileHashManifest = new FileHashManifest(manifestFile, objectMapper);
+    for (Path file : files) {
+      fileHashManifest.getHash(file);
+    }
+    fileHashManifest.save();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    FileSystemUtils.deleteRecursively(directory);
+  }
+
+  @Benchmark
+  public void coldLaunch(Blackhole blackhole) throws IOException {
+    FileHashManifest fileHashManifest = new FileHashManifest(directory.resolve("missing.json"), objectMapper);
+    for (Path file : files) {
+      blackhole.consume(fileHashManifest.getHash(file));
+    }
+  }
+
+  @Benchmark
+  public void warmLaunch(Blackhole blackhole) throws IOException {
+    FileHashManifest fileHashManifest = new FileHashManifest(manifestFile, objectMapper);
+    for (Path file : files) {
+      blackhole.consume(fileHashManifest.getHash(file));
+    }
+  }
+}
@@ -0,0 +1,51 @@
+package com.faforever.client.map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a scenario file without a Lua VM against evaluating it with LuaJ, which is what every installed map
+ * costs at startup. The default scenario files are taken from the test resources, so the benchmark has to be run from
+ * the project directory unless other files are specified.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScenarioReadBenchmark {
+
+  @Param({"src/test/resources/maps/SCMP_001/SCMP_001_scenario.lua", "src/test/resources/maps/palaneum.v0002/Palaneum_scenario.lua"})
+  public String scenarioFile;
+
+  private Path scenarioPath;
+
+  @Setup
+  public void setup() {
+    scenarioPath = Path.of(scenarioFile);
+  }
+
+  @Benchmark
+  public ScenarioInfo read() throws IOException {
+    return ScenarioInfo.read(scenarioPath);
+  }
+
+  @Benchmark
+  public ScenarioInfo evaluate() throws IOException {
+    return ScenarioInfo.evaluate(scenarioPath);
+  }
+}
@@ -0,0 +1,82 @@
+package com.faforever.client.replay;
+
+import com.faforever.commons.replay.ReplayDataParser;
+import com.faforever.commons.replay.ReplayMetadata;
+import org.apache.commons.compress.compressors.CompressorException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many replay headers per second can be read from a corpus of replay files, comparing a full
+ * {@link ReplayDataParser} run against reading the metadata line only. The corpus consists of copies of
+ * {@code replayFile}, so the benchmark has to be run from the project directory unless another file is specified.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReplayMetadataReadBenchmark {
+
+  private static final int CORPUS_SIZE = 100;
+
+  @Param("src/test/resources/replay/test.fafreplay")
+  public String replayFile;
+
+  private final ReplayFileReaderImpl replayFileReader = new ReplayFileReaderImpl();
+  private Path corpusDirectory;
+  private List<Path> corpus;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    corpusDirectory = Files.createTempDirectory("replays");
+    corpus = new ArrayList<>(CORPUS_SIZE);
+    for (int i = 0; i < CORPUS_SIZE; i++) {
+      corpus.add(Files.copy(Path.of(replayFile), corpusDirectory.resolve(i + ".fafreplay")));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    FileSystemUtils.deleteRecursively(corpusDirectory);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CORPUS_SIZE)
+  public void parseReplay(Blackhole blackhole) throws IOException, CompressorException {
+    for (Path path : corpus) {
+      blackhole.consume(replayFileReader.parseReplay(path).getMetadata());
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CORPUS_SIZE)
+  public void readReplayMetadata(Blackhole blackhole) throws IOException {
+    for (Path path : corpus) {
+      ReplayMetadata metadata = replayFileReader.readReplayMetadata(path);
+      blackhole.consume(metadata);
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.faforever.client.theme;
+
+import com.faforever.client.game.GameTileController;
+import io.github.sheikah45.fx2j.api.Fx2jLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Measures how many cards per second can be loaded by four threads at once, like the vault and game views do when
+ * they create their cards in background, once with the global fair lock {@link UiService} used to hold around every
+ * load and once without. The game card is loaded with a controller that has no services, since those need the
+ * application context; they are only used once a game is shown. Taking a prebuilt controller from a pool is not
+ * measured, as it is a queue poll.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Dprism.order=sw", "-Djava.awt.headless=true"})
+@Threads(4)
+public class FxmlLoadBenchmark {
+
+  private final ReentrantLock fxmlLoadLock = new ReentrantLock(true);
+  private URL cardUrl;
+
+  @Setup
+  public void setup() {
+    cardUrl = getClass().getResource("/" + UiService.GAME_CARD);
+  }
+
+  @Benchmark
+  public Object globalLock() throws IOException {
+    fxmlLoadLock.lock();
+    try {
+      return load();
+    } finally {
+      fxmlLoadLock.unlock();
+    }
+  }
+
+  @Benchmark
+  public Object lockFree() throws IOException {
+    return load();
+  }
+
+  private Object load() throws IOException {
+    Fx2jLoader loader = new Fx2jLoader();
+    loader.setLocation(cardUrl);
+    loader.setControllerFactory(controllerClass -> new GameTileController(null, null, null, null, null, null, null, null, null));
+    return loader.load();
+  }
+}
@@ -0,0 +1,70 @@
+package com.faforever.client.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures how many log lines per second are masked, once with the regular expressions compiled for every line like
+ * {@link MaskPatternLayout} used to do and once with its single pass scan. The lines are a mix of ICE adapter, IRC and
+ * client lines, of which a quarter contain the user profile or user name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MaskPatternLayoutBenchmark {
+
+  private static final String USER_PROFILE = "C:\\Users\\Commander";
+  private static final String MACHINE_NAME = "COMMANDER-PC";
+  private static final String USER = "Commander";
+  private static final String[] LINES = {
+      "2024-01-14 18:03:12.481 DEBUG 10312 --- [ice-adapter] c.f.c.f.i.IceAdapterImpl : Received candidate {\"foundation\":\"1\",\"component\":1,\"protocol\":\"udp\",\"priority\":2130706431,\"ip\":\"192.168.178.20\",\"port\":6112,\"type\":\"host\"}",
+      "2024-01-14 18:03:12.502 DEBUG 10312 --- [ice-adapter] c.f.c.f.i.IceAdapterImpl : Connectivity check succeeded for peer 4521 via relay 116.202.155.226:3478",
+      ":irc.faforever.com 353 Commander = #aeolus :Alpha Bravo Charlie Delta Echo Foxtrot Golf Hotel India Juliett Kilo",
+      ":Alpha!Alpha@faforever.com PRIVMSG #aeolus :anyone up for a 4v4 on seton's clutch?",
+      "2024-01-14 18:03:13.017  INFO 10312 --- [JavaFX Application Thread] c.f.c.g.GameService : Game 2103447 changed state from OPEN to PLAYING",
+      "2024-01-14 18:03:13.104 DEBUG 10312 --- [reactor-tcp-nio-1] c.f.c.r.FafServerAccessor : Inbound message: {\"command\":\"player_info\",\"players\":[{\"id\":4521,\"login\":\"Alpha\"}]}",
+      "2024-01-14 18:03:13.390  INFO 10312 --- [JavaFX Application Thread] c.f.c.m.MapService : Added 412 installed maps",
+      "2024-01-14 18:03:14.008  WARN 10312 --- [task-3] c.f.c.m.ModService : Corrupt mod: `C:\\Users\\Commander\\Documents\\My Games\\Gas Powered Games\\Supreme Commander Forged Alliance\\mods\\broken`",
+  };
+
+  private MaskPatternLayout maskPatternLayout;
+
+  @Setup
+  public void setup() {
+    maskPatternLayout = new MaskPatternLayout(USER_PROFILE, MACHINE_NAME, USER);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(8)
+  public void replaceAll(Blackhole blackhole) {
+    for (String line : LINES) {
+      blackhole.consume(line.replaceAll("(?i)" + Pattern.quote(USER_PROFILE), "%USER_PROFILE%")
+                            .replaceAll("(?i)" + Pattern.quote(MACHINE_NAME), "%CPU_NAME%")
+                            .replaceAll("(?i)" + Pattern.quote(USER), "%USER%"));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(8)
+  public void singlePass(Blackhole blackhole) {
+    for (String line : LINES) {
+      blackhole.consume(maskPatternLayout.maskMessage(line));
+    }
+  }
+}
@@ -0,0 +1,210 @@
+package com.faforever.client.api;
+
+import com.faforever.commons.api.elide.ElideEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Avoids sending the same API request multiple times when many components ask for the same data at once. Requests
+ * for an endpoint path that is already being requested share the pending response, and lookups of single entities by
+ * id that arrive within {@link #batchWindow} are merged into one {@code id=in=(...)} query per entity type. A batch
+ * that reaches {@link #maxBatchSize} is sent right away. Ids missing from a batch response fail with the same not found
+ * error as a request for the single entity would.
+ */
+@Slf4j
+public class ApiRequestCoalescer {
+
+  /** Matches endpoint paths of single entities like {@code /data/game/123?include=featuredMod}. */
+  private static final Pattern SINGLE_ENTITY_PATH_PATTERN = Pattern.compile("^(/data/[^/?]+)/(\\d+)(\\?.*)?$");
+
+  private final Duration batchWindow;
+  private final int maxBatchSize;
+
+  private final Map<String, Flux<?>> inFlightRequests = new ConcurrentHashMap<>();
+  private final Map<String, PendingBatch<?>> pendingBatches = new ConcurrentHashMap<>();
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder sharedRequests = new LongAdder();
+  private final LongAdder lookups = new LongAdder();
+  private final LongAdder batchedLookups = new LongAdder();
+  private final LongAdder batchRequests = new LongAdder();
+
+  ApiRequestCoalescer(Duration batchWindow, int maxBatchSize) {
+    this.batchWindow = batchWindow;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Returns the response of the specified request, sharing it with all other subscribers that request the same
+   * endpoint path while the request is in flight.
+   */
+  @SuppressWarnings("unchecked")
+  <T> Flux<T> coalesce(String endpointPath, Supplier<Flux<T>> request) {
+    return Flux.defer(() -> {
+      requests.increment();
+      AtomicBoolean created = new AtomicBoolean();
+      Flux<?> response = inFlightRequests.computeIfAbsent(endpointPath, path -> {
+        created.set(true);
+        return request.get().doOnTerminate(() -> inFlightRequests.remove(path)).cache();
+      });
+      if (!created.get()) {
+        sharedRequests.increment();
+        log.trace("Sharing in-flight request to {}", endpointPath);
+      }
+      return (Flux<T>) response;
+    }).cache();
+  }
+
+  /**
+   * Returns the entity at the specified endpoint path. Lookups of entities of the same type and with the same includes
+   * are collected for {@link #batchWindow} and then retrieved using {@code batchRequest} with a single query. Endpoint
+   * paths that don't address a single entity by its numeric id are requested right away.
+   *
+   * @param singleRequest retrieves a single entity by its endpoint path
+   * @param batchRequest retrieves all entities matching the query of the specified endpoint path
+   */
+  <T extends ElideEntity> Mono<T> lookup(String endpointPath, Function<String, Mono<T>> singleRequest,
+                                         Function<String, Flux<T>> batchRequest) {
+    return Mono.from(coalesce(endpointPath, () -> {
+      Matcher matcher = SINGLE_ENTITY_PATH_PATTERN.matcher(endpointPath);
+      if (!matcher.matches()) {
+        return singleRequest.apply(endpointPath).flux();
+      }
+      lookups.increment();
+      String query = matcher.group(3) == null ? "" : matcher.group(3);
+      return enqueueLookup(matcher.group(1) + query, matcher.group(2), endpointPath, singleRequest, batchRequest).flux();
+    }));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T extends ElideEntity> Mono<T> enqueueLookup(String collectionPath, String id, String endpointPath,
+                                                         Function<String, Mono<T>> singleRequest,
+                                                         Function<String, Flux<T>> batchRequest) {
+    AtomicBoolean created = new AtomicBoolean();
+    AtomicBoolean filled = new AtomicBoolean();
+    PendingBatch<T> batch = (PendingBatch<T>) pendingBatches.compute(collectionPath, (path, existingBatch) -> {
+      PendingBatch<?> pendingBatch = existingBatch;
+      // A full batch no longer takes lookups while its flush is pending, so they start the next batch instead
+      if (pendingBatch == null || pendingBatch.full) {
+        created.set(true);
+        pendingBatch = new PendingBatch<>(singleRequest, batchRequest);
+      }
+      ((PendingBatch<T>) pendingBatch).endpointPathsById.put(id, endpointPath);
+      if (pendingBatch.endpointPathsById.size() >= maxBatchSize) {
+        pendingBatch.full = true;
+        filled.set(true);
+      }
+      return pendingBatch;
+    });
+
+    if (filled.get()) {
+      Schedulers.boundedElastic().schedule(() -> flush(collectionPath, batch));
+    } else if (created.get()) {
+      Schedulers.boundedElastic()
+          .schedule(() -> flush(collectionPath, batch), batchWindow.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    return batch.result.asMono()
+        .flatMap(entitiesById -> Mono.justOrEmpty(entitiesById.get(id)))
+        .switchIfEmpty(Mono.error(() -> notFound(endpointPath)));
+  }
+
+  /**
+   * Returns the same error the API responds with when a single entity is requested that doesn't exist.
+   */
+  private static WebClientResponseException notFound(String endpointPath) {
+    return WebClientResponseException.create(HttpStatus.NOT_FOUND.value(), "Not Found: " + endpointPath, HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8);
+  }
+
+  private <T extends ElideEntity> void flush(String collectionPath, PendingBatch<T> batch) {
+    // A full batch may already have been replaced by the next one, in which case there is nothing to remove
+    pendingBatches.remove(collectionPath, batch);
+    if (!batch.flushed.compareAndSet(false, true)) {
+      return;
+    }
+
+    Mono<Map<String, T>> response;
+    Map<String, String> endpointPathsById = batch.endpointPathsById;
+    if (endpointPathsById.size() == 1) {
+      Map.Entry<String, String> entry = endpointPathsById.entrySet().iterator().next();
+      response = batch.singleRequest.apply(entry.getValue()).map(entity -> Map.of(entry.getKey(), entity));
+    } else {
+      Set<String> ids = Set.copyOf(endpointPathsById.keySet());
+      batchRequests.increment();
+      batchedLookups.add(ids.size());
+      log.debug("Retrieving {} entities from {} with a single request ({})", ids.size(), collectionPath, getStatistics());
+      String url = UriComponentsBuilder.fromUriString(collectionPath)
+          .replaceQueryParam("filter", "id=in=(" + String.join(",", ids) + ")")
+          .replaceQueryParam("page[size]", ids.size())
+          .build()
+          .toUriString();
+      response = batch.batchRequest.apply(url).collect(Collectors.toMap(ElideEntity::getId, entity -> entity, (entity, duplicate) -> entity));
+    }
+
+    response.switchIfEmpty(Mono.fromSupplier(Map::of))
+        .subscribe(batch.result::tryEmitValue, batch.result::tryEmitError);
+  }
+
+  Statistics getStatistics() {
+    return new Statistics(requests.sum(), sharedRequests.sum(), lookups.sum(), batchedLookups.sum(), batchRequests.sum());
+  }
+
+  /**
+   * @param requests number of requests that went through the coalescer
+   * @param sharedRequests number of requests that were served by a request that was already in flight
+   * @param lookups number of single entity lookups that were eligible for batching
+   * @param batchedLookups number of single entity lookups that were merged into batch requests
+   * @param batchRequests number of batch requests sent
+   */
+  public record Statistics(long requests, long sharedRequests, long lookups, long batchedLookups, long batchRequests) {
+
+    /**
+     * Returns the share of requests that didn't have to be sent because the same request was already in flight.
+     */
+    public double sharedRate() {
+      return requests == 0 ? 0 : (double) sharedRequests / requests;
+    }
+
+    /**
+     * Returns the share of single entity lookups that were merged into batch requests.
+     */
+    public double batchedRate() {
+      return lookups == 0 ? 0 : (double) batchedLookups / lookups;
+    }
+  }
+
+  private static class PendingBatch<T extends ElideEntity> {
+    private final Map<String, String> endpointPathsById = new ConcurrentHashMap<>();
+    private final Sinks.One<Map<String, T>> result = Sinks.one();
+    private final AtomicBoolean flushed = new AtomicBoolean();
+    private final Function<String, Mono<T>> singleRequest;
+    private final Function<String, Flux<T>> batchRequest;
+    /** Only accessed while computing the batch's entry in {@link #pendingBatches}. */
+    private boolean full;
+
+    private PendingBatch(Function<String, Mono<T>> singleRequest, Function<String, Flux<T>> batchRequest) {
+      this.singleRequest = singleRequest;
+      this.batchRequest = batchRequest;
+    }
+  }
+}
@@ -127,6 +127,7 @@ public class FafApiAccessor implements InitializingBean {
 
   private WebClient apiWebClient;
   private Retry apiRetrySpec;
+  private ApiRequestCoalescer requestCoalescer;
 
   private CountDownLatch authorizedLatch = new CountDownLatch(1);
 
@@ -137,6 +138,7 @@ public class FafApiAccessor implements InitializingBean {
         .jitter(api.getRetryJitter())
         .filter(error -> error instanceof UnreachableApiException || error instanceof RateLimitApiException)
         .doBeforeRetry(retry -> log.warn("Could not retrieve value from api retrying: Attempt #{} of {}", retry.totalRetries(), api.getRetryAttempts()));
+    requestCoalescer = new ApiRequestCoalescer(Duration.ofMillis(api.getLookupBatchWindowMillis()), api.getMaxLookupBatchSize());
   }
 
   public void authorize() {
@@ -153,6 +155,10 @@ public class FafApiAccessor implements InitializingBean {
     return clientProperties.getApi().getMaxPageSize();
   }
 
+  public ApiRequestCoalescer.Statistics getRequestStatistics() {
+    return requestCoalescer.getStatistics();
+  }
+
   public Mono<MeResult> getMe() {
     return retrieveMonoWithErrorHandling(MeResult.class, apiWebClient.get()
         .uri("/me")).doOnNext(object -> log.trace("Retrieved {} from /me with type MeResult", object));
@@ -217,7 +223,8 @@ public class FafApiAccessor implements InitializingBean {
 
     Class<T> type = navigator.getDtoClass();
     String endpointPath = navigator.build();
-    return retrieveMonoWithErrorHandling(type, apiWebClient.get().uri(endpointPath)).cache()
+    return requestCoalescer.lookup(endpointPath, path -> retrieveMonoWithErrorHandling(type, apiWebClient.get()
+            .uri(path)), path -> retrieveFluxWithErrorHandling(type, apiWebClient.get().uri(path)))
         .doOnNext(object -> log.trace("Retrieved {} from {} with type {}", object, endpointPath, type));
   }
 
@@ -236,7 +243,7 @@ public class FafApiAccessor implements InitializingBean {
 
     String url = uriComponents.toUriString();
 
-    return retrieveFluxWithErrorHandling(type, apiWebClient.get().uri(url)).cache()
+    return requestCoalescer.coalesce(url, () -> retrieveFluxWithErrorHandling(type, apiWebClient.get().uri(url)))
         .doOnNext(list -> log.trace("Retrieved {} from {}", list, url));
   }
 
@@ -254,8 +261,8 @@ public class FafApiAccessor implements InitializingBean {
       endpointPath = navigator.build();
     }
 
-    return retrieveFluxWithErrorHandling(navigator.getDtoClass(), apiWebClient.get().uri(endpointPath)).cache()
-        .doOnNext(object -> log.trace("Retrieved {} from {}", object, endpointPath));
+    return requestCoalescer.coalesce(endpointPath, () -> retrieveFluxWithErrorHandling(navigator.getDtoClass(), apiWebClient.get()
+            .uri(endpointPath))).doOnNext(object -> log.trace("Retrieved {} from {}", object, endpointPath));
   }
 
   public <T extends ElideEntity> Mono<Tuple2<List<T>, Integer>> getManyWithPageCount(
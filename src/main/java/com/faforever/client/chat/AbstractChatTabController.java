@@ -24,7 +24,6 @@ import com.faforever.client.util.ConcurrentUtil;
 import com.faforever.client.util.PopupUtil;
 import com.faforever.client.util.TimeService;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.base.Joiner;
 import com.google.common.io.CharStreams;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
@@ -52,7 +51,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import netscape.javascript.JSObject;
 import org.apache.commons.lang3.StringUtils;
-import org.jetbrains.annotations.Nullable;
 import org.springframework.core.io.ClassPathResource;
 
 import java.io.IOException;
@@ -61,8 +59,9 @@ import java.io.Reader;
 import java.lang.ref.WeakReference;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
 import java.util.function.Consumer;
@@ -90,7 +89,6 @@ public abstract class AbstractChatTabController extends TabController {
 
   static final String CSS_CLASS_CHAT_ONLY = "chat_only";
   private static final String MESSAGE_CONTAINER_ID = "chat-container";
-  private static final String MESSAGE_ITEM_CLASS = "chat-section";
   private static final PseudoClass UNREAD_PSEUDO_STATE = PseudoClass.getPseudoClass("unread");
   private static final org.springframework.core.io.Resource CHAT_JS_RESOURCE = new ClassPathResource(
       "/js/chat_container.js");
@@ -136,9 +134,14 @@ public abstract class AbstractChatTabController extends TabController {
   protected final NavigationHandler navigationHandler;
 
   /**
-   * Messages that arrived before the web view was ready. Those are appended as soon as it is ready.
+   * Messages that have not been rendered yet, either because the web view is not ready or because they arrived within
+   * the current pulse. Those are rendered as one batch as soon as possible.
    */
   private final List<ChatMessage> waitingMessages = new ArrayList<>();
+  /**
+   * Compiled chat templates by their theme file URL. Only accessed from the FX application thread.
+   */
+  private final Map<String, ChatMessageTemplate> templatesByUrl = new HashMap<>();
   private final IntegerProperty unreadMessagesCount = new SimpleIntegerProperty();
   protected final ObjectProperty<ChatChannel> chatChannel = new SimpleObjectProperty<>();
   protected final ObservableValue<String> channelName = chatChannel.map(ChatChannel::getName);
@@ -147,6 +150,7 @@ public abstract class AbstractChatTabController extends TabController {
 
   private int lastEntryId;
   private boolean isChatReady;
+  private boolean renderScheduled;
 
   public Button emoticonsButton;
   @VisibleForTesting
@@ -160,8 +164,7 @@ public abstract class AbstractChatTabController extends TabController {
 
   @Override
   protected void onInitialize() {
-    mentionPattern = Pattern.compile(
-        "(^|[^A-Za-z0-9-])" + Pattern.quote(loginService.getUsername()) + "([^A-Za-z0-9-]|$)", CASE_INSENSITIVE);
+    mentionPattern = MentionMatcher.forUsername(loginService.getUsername()).pattern();
 
     initChatView();
 
@@ -338,11 +341,9 @@ public abstract class AbstractChatTabController extends TabController {
     }
 
     synchronized (waitingMessages) {
-      waitingMessages.forEach(AbstractChatTabController.this::addMessage);
-      waitingMessages.clear();
-      scrollToBottomIfDesired();
       isChatReady = true;
     }
+    renderWaitingMessages();
   }
 
   protected abstract WebView getMessagesWebView();
@@ -432,53 +433,77 @@ public abstract class AbstractChatTabController extends TabController {
 
   protected void onChatMessage(ChatMessage chatMessage) {
     synchronized (waitingMessages) {
-      if (!isChatReady) {
-        waitingMessages.add(chatMessage);
-      } else {
-        fxApplicationThreadExecutor.execute(() -> {
-          addMessage(chatMessage);
-          removeTopmostMessages();
-          scrollToBottomIfDesired();
-        });
+      waitingMessages.add(chatMessage);
+      if (isChatReady && !renderScheduled) {
+        // Everything that arrives until the render runs ends up in the same batch
+        renderScheduled = true;
+        fxApplicationThreadExecutor.runLater(this::renderWaitingMessages);
       }
     }
   }
 
-  private void scrollToBottomIfDesired() {
+  /**
+   * Renders all waiting messages as one batch. URLs of all messages are linked within a single script call and the
+   * resulting HTML is inserted with another one, no matter how many messages are in the batch. The latter also removes
+   * the topmost chat sections exceeding {@link ChatPrefs#getMaxMessages()} and scrolls to the bottom if desired.
+   */
+  private void renderWaitingMessages() {
     JavaFxUtil.assertApplicationThread();
-    engine.executeScript("scrollToBottomIfDesired()");
-  }
+    List<ChatMessage> messages;
+    synchronized (waitingMessages) {
+      renderScheduled = false;
+      if (waitingMessages.isEmpty()) {
+        return;
+      }
+      messages = List.copyOf(waitingMessages);
+      waitingMessages.clear();
+    }
 
-  private void removeTopmostMessages() {
-    JavaFxUtil.assertApplicationThread();
-    int maxMessageItems = chatPrefs.getMaxMessages();
+    List<String> linkedTexts = convertUrlsToHyperlinks(
+        messages.stream().map(chatMessage -> htmlEscaper().escape(chatMessage.message())).toList());
 
-    int numberOfMessages = (int) engine.executeScript(
-        "document.getElementsByClassName('" + MESSAGE_ITEM_CLASS + "').length");
-    while (numberOfMessages > maxMessageItems) {
-      engine.executeScript("document.getElementsByClassName('" + MESSAGE_ITEM_CLASS + "')[0].remove()");
-      numberOfMessages--;
+    List<Object> arguments = new ArrayList<>();
+    arguments.add(chatPrefs.getMaxMessages());
+    for (int i = 0; i < messages.size(); i++) {
+      addMessage(messages.get(i), linkedTexts.get(i), arguments);
     }
+
+    callJsMethod("appendChatMessages", arguments.toArray());
+    getMessagesWebView().requestLayout();
   }
 
   /**
-   * Either inserts a new chat entry or, if the same user as before sent another message, appends it do the previous
-   * entry.
+   * Either adds a new chat entry or, if the same user as before sent another message, appends it do the previous entry.
+   * The resulting HTML is not inserted but added to {@code insertions} as pairs of container ID and HTML.
    */
-  private void addMessage(ChatMessage chatMessage) {
-    JavaFxUtil.assertApplicationThread();
+  private void addMessage(ChatMessage chatMessage, String linkedText, List<Object> insertions) {
     try {
-      if (requiresNewChatSection(chatMessage)) {
-        appendChatMessageSection(chatMessage);
-      } else {
-        appendMessage(chatMessage);
+      boolean newSection = requiresNewChatSection(chatMessage);
+      if (newSection) {
+        lastEntryId++;
+      }
+
+      Map<String, String> values = createTemplateValues(chatMessage, linkedText, lastEntryId);
+      if (newSection) {
+        addInsertion(insertions, MESSAGE_CONTAINER_ID, getTemplate(chatSectionThemeFile()).render(values));
       }
+      addInsertion(insertions, "chat-section-" + lastEntryId, getTemplate(chatTextThemeFile()).render(values));
       lastMessage = chatMessage;
     } catch (IOException e) {
       throw new AssetLoadException("Could not add message", e, "chat.message.addError");
     }
   }
 
+  private void addInsertion(List<Object> insertions, String containerId, String html) {
+    int size = insertions.size();
+    if (size >= 2 && containerId.equals(insertions.get(size - 2))) {
+      insertions.set(size - 1, insertions.get(size - 1) + html);
+    } else {
+      insertions.add(containerId);
+      insertions.add(html);
+    }
+  }
+
   private boolean requiresNewChatSection(ChatMessage chatMessage) {
     if (lastMessage == null) {
       return true;
@@ -492,38 +517,32 @@ public abstract class AbstractChatTabController extends TabController {
     return lastMessage.action();
   }
 
-  private void appendMessage(ChatMessage chatMessage) throws IOException {
-    URL themeFileUrl;
-    if (chatPrefs.getChatFormat() == ChatFormat.COMPACT) {
-      themeFileUrl = themeService.getThemeFileUrl(CHAT_TEXT_COMPACT);
-    } else {
-      themeFileUrl = themeService.getThemeFileUrl(CHAT_TEXT_EXTENDED);
-    }
-
-    String html = renderHtml(chatMessage, themeFileUrl, null);
-
-    insertIntoContainer(html, "chat-section-" + lastEntryId);
+  private String chatSectionThemeFile() {
+    return chatPrefs.getChatFormat() == ChatFormat.COMPACT ? CHAT_SECTION_COMPACT : CHAT_SECTION_EXTENDED;
   }
 
-  private void appendChatMessageSection(ChatMessage chatMessage) throws IOException {
-    URL themeFileURL;
-    if (chatPrefs.getChatFormat() == ChatFormat.COMPACT) {
-      themeFileURL = themeService.getThemeFileUrl(CHAT_SECTION_COMPACT);
-    } else {
-      themeFileURL = themeService.getThemeFileUrl(CHAT_SECTION_EXTENDED);
-    }
-
-    String html = renderHtml(chatMessage, themeFileURL, ++lastEntryId);
-    insertIntoContainer(html, MESSAGE_CONTAINER_ID);
-    appendMessage(chatMessage);
+  private String chatTextThemeFile() {
+    return chatPrefs.getChatFormat() == ChatFormat.COMPACT ? CHAT_TEXT_COMPACT : CHAT_TEXT_EXTENDED;
   }
 
-  private String renderHtml(ChatMessage chatMessage, URL themeFileUrl, @Nullable Integer sectionId) throws IOException {
-    String html;
-    try (Reader reader = new InputStreamReader(themeFileUrl.openStream())) {
-      html = CharStreams.toString(reader);
+  /**
+   * Returns the compiled template of the specified theme file. Templates are cached by their URL which differs per
+   * theme, so switching the theme or chat format picks up the right template without explicit invalidation.
+   */
+  private ChatMessageTemplate getTemplate(String relativeFile) throws IOException {
+    URL themeFileUrl = themeService.getThemeFileUrl(relativeFile);
+    String cacheKey = themeFileUrl.toExternalForm();
+    ChatMessageTemplate template = templatesByUrl.get(cacheKey);
+    if (template == null) {
+      try (Reader reader = new InputStreamReader(themeFileUrl.openStream())) {
+        template = ChatMessageTemplate.compile(CharStreams.toString(reader));
+      }
+      templatesByUrl.put(cacheKey, template);
     }
+    return template;
+  }
 
+  private Map<String, String> createTemplateValues(ChatMessage chatMessage, String linkedText, int sectionId) {
     String username = chatMessage.username();
 
     Optional<PlayerBean> playerOptional = playerService.getPlayerByNameIfOnline(chatMessage.username());
@@ -537,30 +556,10 @@ public abstract class AbstractChatTabController extends TabController {
     String clanTag = clanOptional.orElse("");
     String decoratedClanTag = clanOptional.map(tag -> i18n.get("chat.clanTagFormat", tag)).orElse("");
 
-    String timeString = timeService.asShortTime(chatMessage.time());
-    html = html.replace("{time}", timeString)
-               .replace("{avatar}", avatarUrl)
-               .replace("{username}", username)
-               .replace("{clan-tag}", clanTag)
-               .replace("{decorated-clan-tag}", decoratedClanTag)
-               .replace("{country-flag}", StringUtils.defaultString(countryFlagUrl))
-               .replace("{section-id}", String.valueOf(sectionId));
-
-    Collection<String> cssClasses = new ArrayList<>();
-    cssClasses.add(String.format("user-%s", chatMessage.username()));
-    if (chatMessage.action()) {
-      cssClasses.add(ACTION_CSS_CLASS);
-    } else {
-      cssClasses.add(MESSAGE_CSS_CLASS);
-    }
-
-    html = html.replace("{css-classes}", Joiner.on(' ').join(cssClasses));
+    String cssClasses = String.format("user-%s %s", chatMessage.username(),
+                                      chatMessage.action() ? ACTION_CSS_CLASS : MESSAGE_CSS_CLASS);
 
-    Optional.ofNullable(getMessageCssClass(username)).ifPresent(cssClasses::add);
-
-    String text = htmlEscaper().escape(chatMessage.message()).replace("\\", "\\\\");
-    text = convertUrlsToHyperlinks(text);
-    text = replaceChannelNamesWithHyperlinks(text);
+    String text = replaceChannelNamesWithHyperlinks(linkedText);
     text = transformEmoticonShortcodesToImages(text);
 
     Matcher matcher = mentionPattern.matcher(text);
@@ -569,10 +568,16 @@ public abstract class AbstractChatTabController extends TabController {
       onMention(chatMessage);
     }
 
-    return html.replace("{css-classes}", Joiner.on(' ').join(cssClasses))
-               .replace("{inline-style}", getInlineStyle(username))
-               // Always replace text last in case the message contains one of the placeholders.
-               .replace("{text}", text);
+    return Map.of("time", timeService.asShortTime(chatMessage.time()),
+                  "avatar", avatarUrl,
+                  "username", username,
+                  "clan-tag", clanTag,
+                  "decorated-clan-tag", decoratedClanTag,
+                  "country-flag", StringUtils.defaultString(countryFlagUrl),
+                  "section-id", String.valueOf(sectionId),
+                  "css-classes", cssClasses,
+                  "inline-style", getInlineStyle(username),
+                  "text", text);
   }
 
   @VisibleForTesting
@@ -620,15 +625,17 @@ public abstract class AbstractChatTabController extends TabController {
     return String.format("color: %s;", JavaFxUtil.toRgbCode(messageColor));
   }
 
-  protected String convertUrlsToHyperlinks(String text) {
+  /**
+   * Converts the URLs of all given texts to hyperlinks using a single script call.
+   */
+  protected List<String> convertUrlsToHyperlinks(List<String> texts) {
     JavaFxUtil.assertApplicationThread();
-    return (String) engine.executeScript("link('" + text.replace("'", "\\'") + "')");
-  }
-
-  private void insertIntoContainer(String html, String containerId) {
-    ((JSObject) engine.executeScript("document.getElementById('" + containerId + "')")).call("insertAdjacentHTML",
-                                                                                             "beforeend", html);
-    getMessagesWebView().requestLayout();
+    JSObject linkedTexts = (JSObject) getJsObject().call("linkAll", texts.toArray());
+    List<String> result = new ArrayList<>(texts.size());
+    for (int i = 0; i < texts.size(); i++) {
+      result.add((String) linkedTexts.getSlot(i));
+    }
+    return result;
   }
 
   /**
@@ -23,6 +23,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
+import javafx.event.Event;
 import javafx.scene.Node;
 import javafx.scene.control.Button;
 import javafx.scene.control.Hyperlink;
@@ -178,6 +179,12 @@ public class ChannelTabController extends AbstractChatTabController {
     }
   }
 
+  @Override
+  protected void onClosed(Event event) {
+    super.onClosed(event);
+    chatUserListController.disposeUserList();
+  }
+
   public AutoCompletionHelper getAutoCompletionHelper() {
     return new AutoCompletionHelper(currentWord -> users.getValue()
                                                         .stream()
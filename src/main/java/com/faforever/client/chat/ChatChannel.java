@@ -1,5 +1,6 @@
 package com.faforever.client.chat;
 
+import com.faforever.client.fx.IndexedObservableList;
 import com.faforever.client.fx.JavaFxUtil;
 import javafx.beans.Observable;
 import javafx.beans.property.BooleanProperty;
@@ -13,7 +14,6 @@ import javafx.collections.ObservableMap;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -28,21 +28,18 @@ public class ChatChannel {
 
   private final ObservableMap<String, ChatChannelUser> usernameToChatUser = FXCollections.synchronizedObservableMap(
       FXCollections.observableHashMap());
+  private final IndexedObservableList<ChatChannelUser> indexedUsers = new IndexedObservableList<>(
+      item -> new Observable[]{item.categoriesProperty(), item.colorProperty(), item.moderatorProperty()});
   private final ObservableList<ChatChannelUser> users = JavaFxUtil.attachListToMap(
-      FXCollections.synchronizedObservableList(FXCollections.observableArrayList(
-          item -> new Observable[]{item.categoriesProperty(), item.colorProperty(), item.moderatorProperty()})),
-      usernameToChatUser);
+      FXCollections.synchronizedObservableList(indexedUsers), usernameToChatUser);
   private final ObjectProperty<ChannelTopic> topic = new SimpleObjectProperty<>(new ChannelTopic("", ""));
   private final Set<Consumer<ChatMessage>> messageListeners = new HashSet<>();
-  private final List<ChatMessage> messages = new ArrayList<>();
+  private final RingBuffer<ChatMessage> messages = new RingBuffer<>(Integer.MAX_VALUE);
   private final BooleanProperty open = new SimpleBooleanProperty();
 
-  private int maxNumMessages = Integer.MAX_VALUE;
-
   public void setMaxNumMessages(int maxNumMessages) {
-    this.maxNumMessages = maxNumMessages;
-    if (messages.size() > maxNumMessages) {
-      messages.subList(0, messages.size() - maxNumMessages).clear();
+    synchronized (messages) {
+      messages.setCapacity(maxNumMessages);
     }
   }
 
@@ -63,7 +60,7 @@ public class ChatChannel {
   }
 
   public void addUsers(List<ChatChannelUser> users) {
-    users.forEach(this::addUser);
+    batchUserChanges(() -> users.forEach(this::addUser));
   }
 
   public void addUser(ChatChannelUser user) {
@@ -71,7 +68,17 @@ public class ChatChannel {
   }
 
   public void clearUsers() {
-    usernameToChatUser.clear();
+    batchUserChanges(usernameToChatUser::clear);
+  }
+
+  /**
+   * Reports the user changes as a single change, e.g. when joining a channel with thousands of users. Holds the lock
+   * of the map first, as its listener modifies the list while holding it.
+   */
+  private void batchUserChanges(Runnable changes) {
+    synchronized (usernameToChatUser) {
+      indexedUsers.batch(changes);
+    }
   }
 
   public void addUsersListeners(ListChangeListener<ChatChannelUser> listener) {
@@ -91,16 +98,19 @@ public class ChatChannel {
   }
 
   public void addMessage(ChatMessage message) {
-    messages.add(message);
-    messageListeners.forEach(chatMessageConsumer -> chatMessageConsumer.accept(message));
-    if (messages.size() > maxNumMessages) {
-      messages.remove(0);
+    synchronized (messages) {
+      messages.add(message);
     }
+    messageListeners.forEach(chatMessageConsumer -> chatMessageConsumer.accept(message));
   }
 
   public void addMessageListener(Consumer<ChatMessage> messageListener) {
     messageListeners.add(messageListener);
-    messages.forEach(messageListener);
+    List<ChatMessage> snapshot;
+    synchronized (messages) {
+      snapshot = messages.toList();
+    }
+    snapshot.forEach(messageListener);
   }
 
   public void removeMessageListener(Consumer<ChatMessage> messageListener) {
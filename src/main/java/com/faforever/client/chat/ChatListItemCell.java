@@ -20,6 +20,7 @@ import org.springframework.stereotype.Component;
 @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 public class ChatListItemCell implements Cell<ChatListItem, Node> {
 
+  private final UiService uiService;
   private final ChatCategoryItemController chatCategoryItemController;
   private final ChatUserItemController chatUserItemController;
 
@@ -29,8 +30,9 @@ public class ChatListItemCell implements Cell<ChatListItem, Node> {
   private final ObjectProperty<ChatChannelUser> chatUser = new SimpleObjectProperty<>();
 
   public ChatListItemCell(UiService uiService) {
+    this.uiService = uiService;
     chatCategoryItemController = uiService.loadFxml("theme/chat/chat_user_category.fxml");
-    chatUserItemController = uiService.loadFxml("theme/chat/chat_user_item.fxml");
+    chatUserItemController = uiService.acquireFxml(UiService.CHAT_USER_ITEM);
 
     chatCategoryItemController.chatUserCategoryProperty().bind(chatUserCategory);
     chatCategoryItemController.channelNameProperty().bind(channelName);
@@ -72,6 +74,14 @@ public class ChatListItemCell implements Cell<ChatListItem, Node> {
     }
     chatUser.set(chatListItem.user());
   }
+
+  @Override
+  public void dispose() {
+    chatUserItemController.chatUserProperty().unbind();
+    chatUserItemController.chatUserProperty().set(null);
+    uiService.releaseFxml(UiService.CHAT_USER_ITEM, chatUserItemController);
+  }
+
   @Override
   public Node getNode() {
     boolean hasUser = chatUserItemController.getChatUser() != null;
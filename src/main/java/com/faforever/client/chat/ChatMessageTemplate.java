@@ -0,0 +1,67 @@
+package com.faforever.client.chat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A chat HTML template (like {@code chat_section.html}) that has been split into literal and placeholder segments once,
+ * so rendering a message is a single pass over the segments instead of re-reading the file and running a chain of
+ * {@link String#replace(CharSequence, CharSequence)} calls per message. Since values are never substituted twice, a
+ * value containing a placeholder (e.g. a message text containing {@code {username}}) is rendered verbatim.
+ */
+final class ChatMessageTemplate {
+
+  private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{([a-z-]+)}");
+
+  /**
+   * Alternating literal and placeholder segments, always starting and ending with a (possibly empty) literal.
+   */
+  private final String[] segments;
+  private final int literalLength;
+
+  private ChatMessageTemplate(String[] segments) {
+    this.segments = segments;
+    int length = 0;
+    for (int i = 0; i < segments.length; i += 2) {
+      length += segments[i].length();
+    }
+    this.literalLength = length;
+  }
+
+  static ChatMessageTemplate compile(String html) {
+    List<String> segments = new ArrayList<>();
+    Matcher matcher = PLACEHOLDER_PATTERN.matcher(html);
+    int literalStart = 0;
+    while (matcher.find()) {
+      segments.add(html.substring(literalStart, matcher.start()));
+      segments.add(matcher.group(1));
+      literalStart = matcher.end();
+    }
+    segments.add(html.substring(literalStart));
+    return new ChatMessageTemplate(segments.toArray(String[]::new));
+  }
+
+  /**
+   * Renders the template, replacing each placeholder by its value. Placeholders without a value are kept as they are.
+   */
+  String render(Map<String, String> values) {
+    StringBuilder stringBuilder = new StringBuilder(literalLength + 64 * (segments.length / 2));
+    for (int i = 0; i < segments.length; i++) {
+      String segment = segments[i];
+      if (i % 2 == 0) {
+        stringBuilder.append(segment);
+        continue;
+      }
+      String value = values.get(segment);
+      if (value == null) {
+        stringBuilder.append('{').append(segment).append('}');
+      } else {
+        stringBuilder.append(value);
+      }
+    }
+    return stringBuilder.toString();
+  }
+}
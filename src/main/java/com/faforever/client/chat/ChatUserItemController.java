@@ -96,6 +96,7 @@ public class ChatUserItemController extends NodeController<Node> {
   private Tooltip statusTooltip;
   private Tooltip countryTooltip;
   private Tooltip noteTooltip;
+  private Tooltip gameTooltip;
 
   @Override
   protected void onInitialize() {
@@ -141,7 +142,15 @@ public class ChatUserItemController extends NodeController<Node> {
     Tooltip.install(gameStatusImageView, statusTooltip);
   }
 
+  /**
+   * Shows the game of the user in the specified tooltip, replacing the tooltip installed before, since pooled items are
+   * reused by other user lists.
+   */
   public void installGameTooltip(GameTooltipController gameInfoController, Tooltip tooltip) {
+    if (gameTooltip != null) {
+      Tooltip.uninstall(mapImageView, gameTooltip);
+    }
+    gameTooltip = tooltip;
     mapImageView.setOnMouseEntered(event -> gameInfoController.gameProperty()
         .bind(chatUser.flatMap(ChatChannelUser::playerProperty).flatMap(PlayerBean::gameProperty).when(showing)));
     Tooltip.install(mapImageView, tooltip);
@@ -197,6 +197,16 @@ public class ChatUserListController extends NodeController<VBox> {
                                        .flatMap(filterPredicate -> hiddenCategoryPredicate.map(filterPredicate::and)));
   }
 
+  /**
+   * Disposes the cells of the user list once the channel has been closed, which hands their user items back to the
+   * pool.
+   */
+  public void disposeUserList() {
+    if (chatItemListView != null) {
+      chatItemListView.dispose();
+    }
+  }
+
   private void onUserJoined(ChatChannelUser user) {
     for (ChatUserCategory category : user.getCategories()) {
       ChatListItem item = new ChatListItem(user, category, null, null);
@@ -36,6 +36,7 @@ import javafx.scene.paint.Color;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.engio.mbassy.listener.Handler;
+import org.jetbrains.annotations.Nullable;
 import org.kitteh.irc.client.library.Client;
 import org.kitteh.irc.client.library.Client.Builder.Server.SecurityType;
 import org.kitteh.irc.client.library.defaults.DefaultClient;
@@ -78,14 +79,11 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.faforever.client.chat.ChatColorMode.RANDOM;
 import static com.faforever.client.player.SocialStatus.FOE;
 import static java.util.Locale.US;
-import static java.util.regex.Pattern.CASE_INSENSITIVE;
 import static javafx.collections.FXCollections.observableHashMap;
 import static javafx.collections.FXCollections.synchronizedObservableMap;
 
@@ -130,6 +128,7 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
   @VisibleForTesting
   DefaultClient client;
   private String username;
+  private volatile MentionMatcher mentionMatcher;
 
   private boolean autoReconnect;
 
@@ -283,56 +282,59 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
     String text = event.getMessage();
     String sender = user.getNick();
     ChatChannel chatChannel = getOrCreateChannel(channelName);
-    notifyIfMentioned(text, chatChannel, sender);
+    notifyIfMentioned(text, chatChannel, sender, playerService.getPlayerByNameIfOnline(sender).orElse(null));
 
     chatChannel.addMessage(new ChatMessage(Instant.now(), sender, text, false));
   }
 
-  private void notifyIfMentioned(String text, ChatChannel chatChannel, String sender) {
-    Matcher matcher = Pattern.compile(
-        "(^|[^A-Za-z0-9-])" + Pattern.quote(loginService.getUsername()) + "([^A-Za-z0-9-]|$)",
-        CASE_INSENSITIVE).matcher(text);
-    boolean mentioned = matcher.find();
-    if (mentioned) {
-      boolean fromFoe = playerService.getPlayerByNameIfOnline(sender)
-                                     .map(PlayerBean::getSocialStatus)
-                                     .map(FOE::equals)
-                                     .orElse(false);
-      if (fromFoe || (notificationPrefs.getNotifyOnAtMentionOnlyEnabled() && !text.contains(
-          "@" + loginService.getUsername()))) {
-        log.debug("Ignored ping {} from {}", text, sender);
-        return;
-      }
+  private void notifyIfMentioned(String text, ChatChannel chatChannel, String sender, @Nullable PlayerBean player) {
+    MentionMatcher mentionMatcher = getMentionMatcher();
+    if (!mentionMatcher.isMentioned(text)) {
+      return;
+    }
 
-      audioService.playChatMentionSound();
+    boolean fromFoe = player != null && player.getSocialStatus() == FOE;
+    if (fromFoe || (notificationPrefs.getNotifyOnAtMentionOnlyEnabled() && !mentionMatcher.isAtMentioned(text))) {
+      log.debug("Ignored ping {} from {}", text, sender);
+      return;
+    }
 
-      String identIconSource = playerService.getPlayerByNameIfOnline(sender)
-                                            .map(PlayerBean::getId)
-                                            .map(String::valueOf)
-                                            .orElse(sender);
+    audioService.playChatMentionSound();
 
-      if (!chatChannel.isOpen() && notificationPrefs.isPrivateMessageToastEnabled()) {
-        notificationService.addNotification(
-            new TransientNotification(sender, text, IdenticonUtil.createIdenticon(identIconSource), evt -> {
-              navigationHandler.navigateTo(new NavigateEvent(NavigationItem.CHAT));
-            }));
-      }
+    if (!chatChannel.isOpen() && notificationPrefs.isPrivateMessageToastEnabled()) {
+      notificationService.addNotification(
+          new TransientNotification(sender, text, IdenticonUtil.createIdenticon(getIdenticonSource(sender, player)),
+                                    evt -> navigationHandler.navigateTo(new NavigateEvent(NavigationItem.CHAT))));
     }
   }
 
-  private void notifyOnPrivateMessage(String text, ChatChannel chatChannel, String sender) {
+  /**
+   * Returns the matcher for the current user name, compiling a new one only if the user name changed since the last
+   * call, e.g. after logging in with a different account.
+   */
+  private MentionMatcher getMentionMatcher() {
+    String currentUsername = loginService.getUsername();
+    MentionMatcher matcher = mentionMatcher;
+    if (matcher == null || !matcher.username().equals(currentUsername)) {
+      matcher = MentionMatcher.forUsername(currentUsername);
+      mentionMatcher = matcher;
+    }
+    return matcher;
+  }
+
+  private String getIdenticonSource(String sender, @Nullable PlayerBean player) {
+    return player != null && player.getId() != null ? String.valueOf(player.getId()) : sender;
+  }
+
+  private void notifyOnPrivateMessage(String text, ChatChannel chatChannel, String sender,
+                                      @Nullable PlayerBean player) {
     if (chatChannel.isPrivateChannel() && !chatChannel.isOpen()) {
       audioService.playPrivateMessageSound();
 
       if (!chatChannel.isOpen() && notificationPrefs.isPrivateMessageToastEnabled()) {
-        String identIconSource = playerService.getPlayerByNameIfOnline(sender)
-                                              .map(PlayerBean::getId)
-                                              .map(String::valueOf)
-                                              .orElse(sender);
         notificationService.addNotification(
-            new TransientNotification(sender, text, IdenticonUtil.createIdenticon(identIconSource), evt -> {
-              navigationHandler.navigateTo(new NavigateEvent(NavigationItem.CHAT));
-            }));
+            new TransientNotification(sender, text, IdenticonUtil.createIdenticon(getIdenticonSource(sender, player)),
+                                      evt -> navigationHandler.navigateTo(new NavigateEvent(NavigationItem.CHAT))));
       }
     }
   }
@@ -371,18 +373,16 @@ public class KittehChatService implements ChatService, InitializingBean, Disposa
     ircLog.debug("Received private message: {}", event);
 
     String senderNick = user.getNick();
+    PlayerBean player = playerService.getPlayerByNameIfOnline(senderNick).orElse(null);
 
-    if (playerService.getPlayerByNameIfOnline(senderNick)
-              .map(PlayerBean::getSocialStatus)
-              .map(status -> status == SocialStatus.FOE)
-              .orElse(false) && chatPrefs.isHideFoeMessages()) {
+    if (player != null && player.getSocialStatus() == SocialStatus.FOE && chatPrefs.isHideFoeMessages()) {
       ircLog.debug("Suppressing chat message from foe '{}'", senderNick);
       return;
     }
 
     String text = event.getMessage();
     ChatChannel chatChannel = getOrCreateChannel(senderNick);
-    notifyOnPrivateMessage(text, chatChannel, senderNick);
+    notifyOnPrivateMessage(text, chatChannel, senderNick, player);
 
     chatChannel.addMessage(new ChatMessage(Instant.now(), senderNick, text));
   }
@@ -0,0 +1,26 @@
+package com.faforever.client.chat;
+
+import java.util.regex.Pattern;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+
+/**
+ * Detects mentions of a user within chat messages. Compiling the pattern is by far the most expensive part, so
+ * instances are meant to be created once per user name and reused for every message.
+ */
+record MentionMatcher(String username, Pattern pattern, String atMention) {
+
+  static MentionMatcher forUsername(String username) {
+    Pattern pattern = Pattern.compile("(^|[^A-Za-z0-9-])" + Pattern.quote(username) + "([^A-Za-z0-9-]|$)",
+                                      CASE_INSENSITIVE);
+    return new MentionMatcher(username, pattern, "@" + username);
+  }
+
+  boolean isMentioned(String text) {
+    return pattern.matcher(text).find();
+  }
+
+  boolean isAtMentioned(String text) {
+    return text.contains(atMention);
+  }
+}
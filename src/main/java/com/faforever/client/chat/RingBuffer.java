@@ -0,0 +1,85 @@
+package com.faforever.client.chat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A bounded buffer which evicts its oldest element in O(1) once its capacity has been reached. The backing array grows
+ * up to the capacity and is reused from then on, so adding an element to a full buffer does not allocate. Not thread
+ * safe.
+ */
+final class RingBuffer<E> {
+
+  private static final int INITIAL_ARRAY_SIZE = 16;
+
+  private Object[] elements = new Object[0];
+  /** Index of the oldest element. */
+  private int head;
+  private int size;
+  private int capacity;
+
+  RingBuffer(int capacity) {
+    setCapacity(capacity);
+  }
+
+  /**
+   * Adds an element, evicting the oldest one if the buffer is full.
+   */
+  void add(E element) {
+    if (capacity == 0) {
+      return;
+    }
+    if (size == capacity) {
+      elements[head] = element;
+      head = (head + 1) % elements.length;
+      return;
+    }
+    if (size == elements.length) {
+      resize((int) Math.min(capacity, Math.max(INITIAL_ARRAY_SIZE, 2L * elements.length)));
+    }
+    elements[(head + size) % elements.length] = element;
+    size++;
+  }
+
+  /**
+   * Changes the capacity, keeping the newest elements if the buffer holds more than {@code capacity} elements.
+   */
+  void setCapacity(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+    }
+    this.capacity = capacity;
+    if (size > capacity) {
+      head = (head + size - capacity) % elements.length;
+      size = capacity;
+    }
+    if (elements.length > capacity) {
+      resize(capacity);
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns a snapshot of all elements, oldest first.
+   */
+  @SuppressWarnings("unchecked")
+  List<E> toList() {
+    List<E> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add((E) elements[(head + i) % elements.length]);
+    }
+    return list;
+  }
+
+  private void resize(int arraySize) {
+    Object[] resized = new Object[arraySize];
+    int firstChunk = Math.min(size, elements.length - head);
+    System.arraycopy(elements, head, resized, 0, firstChunk);
+    System.arraycopy(elements, 0, resized, firstChunk, size - firstChunk);
+    elements = resized;
+    head = 0;
+  }
+}
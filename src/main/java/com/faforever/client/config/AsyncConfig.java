@@ -1,6 +1,8 @@
 package com.faforever.client.config;
 
 import com.faforever.client.exception.GlobalExceptionHandler;
+import com.faforever.client.task.CompletableTask.ResourceClass;
+import com.faforever.client.task.PriorityTaskExecutor;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
@@ -15,6 +17,7 @@ import org.springframework.scheduling.annotation.SchedulingConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
+import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -48,6 +51,19 @@ public class AsyncConfig implements AsyncConfigurer, SchedulingConfigurer {
     return Executors.newCachedThreadPool();
   }
 
+  /**
+   * Executor for the tasks submitted to the {@link com.faforever.client.task.TaskService}. Disk tasks are limited to
+   * avoid thrashing the disk, network tasks to share the bandwidth between few transfers.
+   */
+  @Bean
+  public PriorityTaskExecutor priorityTaskExecutor() {
+    return new PriorityTaskExecutor(Map.of(
+        ResourceClass.DISK, 2,
+        ResourceClass.NETWORK, 6,
+        ResourceClass.CPU, Math.max(1, Runtime.getRuntime().availableProcessors() / 2)
+    ));
+  }
+
   @Bean
   public TaskScheduler taskScheduler() {
     return new ThreadPoolTaskScheduler();
@@ -63,6 +63,16 @@ public class ClientProperties {
      * URL to download the ForgedAlliance.exe from.
      */
     private String exeUrl;
+
+    /**
+     * Maximum number of featured mod files that are downloaded at the same time.
+     */
+    private int parallelDownloads = 4;
+
+    /**
+     * Number of times the download of a featured mod file is attempted before the update fails.
+     */
+    private int downloadAttempts = 3;
   }
 
   @Data
@@ -146,6 +156,9 @@ public class ClientProperties {
     private int retryAttempts = 5;
     private double retryJitter = .5;
     private int maxPageSize = 10000;
+    /** How long single entity lookups are collected to be retrieved with one request. */
+    private int lookupBatchWindowMillis = 20;
+    private int maxLookupBatchSize = 50;
   }
 
   @Data
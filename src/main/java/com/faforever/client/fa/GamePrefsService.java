@@ -0,0 +1,174 @@
+package com.faforever.client.fa;
+
+import com.faforever.client.preferences.ForgedAlliancePrefs;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_16BE;
+import static java.nio.charset.StandardCharsets.UTF_16LE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads and writes the active mods of the game's preferences file. The file is read and parsed once and kept until its
+ * size, modification time or file key change.
+ */
+@Lazy
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GamePrefsService {
+
+  private static final Pattern ACTIVE_MODS_PATTERN = Pattern.compile("active_mods\\s*=\\s*\\{.*?}", Pattern.DOTALL);
+  private static final Pattern ACTIVE_MOD_PATTERN = Pattern.compile("\\['(.*?)']\\s*=\\s*(true|false)", Pattern.DOTALL);
+  private static final byte[] UTF_8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+  private static final byte[] UTF_16LE_BOM = {(byte) 0xFF, (byte) 0xFE};
+  private static final byte[] UTF_16BE_BOM = {(byte) 0xFE, (byte) 0xFF};
+
+  private final ForgedAlliancePrefs forgedAlliancePrefs;
+
+  private GamePrefs gamePrefs;
+
+  public synchronized Set<String> getActiveMods() throws IOException {
+    return new HashSet<>(readGamePrefs().activeMods());
+  }
+
+  /**
+   * Replaces the active mods, leaving the rest of the file as it is. The file is replaced atomically, so the game never
+   * reads a partially written file.
+   */
+  public synchronized void setActiveMods(Set<String> activeMods) throws IOException {
+    GamePrefs current = readGamePrefs();
+    String newActiveModsContent = "active_mods = {\n%s\n}".formatted(
+        activeMods.stream().map("    ['%s'] = true"::formatted).collect(Collectors.joining(",\n")));
+
+    String content = current.content();
+    String newContent;
+    if (current.activeModsStart() >= 0) {
+      newContent = content.substring(0, current.activeModsStart()) + newActiveModsContent + content.substring(
+          current.activeModsEnd());
+    } else {
+      newContent = content + newActiveModsContent;
+    }
+
+    write(current.path(), current.bom(), newContent.getBytes(current.charset()));
+    gamePrefs = parse(current.path(), Files.readAttributes(current.path(), BasicFileAttributes.class), current.charset(),
+                      current.bom(), newContent);
+  }
+
+  private GamePrefs readGamePrefs() throws IOException {
+    Path preferencesFile = forgedAlliancePrefs.getPreferencesFile();
+    BasicFileAttributes attributes = Files.readAttributes(preferencesFile, BasicFileAttributes.class);
+    if (gamePrefs != null && gamePrefs.isUpToDate(preferencesFile, attributes)) {
+      return gamePrefs;
+    }
+
+    byte[] bytes = Files.readAllBytes(preferencesFile);
+    byte[] bom = detectBom(bytes);
+    Charset charset = charsetOfBom(bom);
+    ByteBuffer content = ByteBuffer.wrap(bytes, bom.length, bytes.length - bom.length);
+    String decodedContent;
+    try {
+      decodedContent = charset.newDecoder()
+          .onMalformedInput(CodingErrorAction.REPORT)
+          .onUnmappableCharacter(CodingErrorAction.REPORT)
+          .decode(content)
+          .toString();
+    } catch (CharacterCodingException e) {
+      // Every byte sequence is valid ISO-8859-1, and writing it back keeps the bytes the game does not know about
+      log.info("Preferences file `{}` is not valid {}, reading it as {}", preferencesFile, charset, ISO_8859_1);
+      charset = ISO_8859_1;
+      decodedContent = new String(bytes, ISO_8859_1);
+    }
+
+    gamePrefs = parse(preferencesFile, attributes, charset, bom, decodedContent);
+    return gamePrefs;
+  }
+
+  private static GamePrefs parse(Path path, BasicFileAttributes attributes, Charset charset, byte[] bom,
+                                 String content) {
+    Set<String> activeMods = new HashSet<>();
+    int activeModsStart = -1;
+    int activeModsEnd = -1;
+    Matcher matcher = ACTIVE_MODS_PATTERN.matcher(content);
+    if (matcher.find()) {
+      activeModsStart = matcher.start();
+      activeModsEnd = matcher.end();
+      Matcher activeModMatcher = ACTIVE_MOD_PATTERN.matcher(matcher.group());
+      while (activeModMatcher.find()) {
+        if (Boolean.parseBoolean(activeModMatcher.group(2))) {
+          activeMods.add(activeModMatcher.group(1));
+        }
+      }
+    }
+    return new GamePrefs(path, attributes.size(), attributes.lastModifiedTime().toMillis(),
+                         Objects.toString(attributes.fileKey(), null), charset, bom, content, activeModsStart,
+                         activeModsEnd, Set.copyOf(activeMods));
+  }
+
+  private static byte[] detectBom(byte[] bytes) {
+    for (byte[] bom : new byte[][]{UTF_8_BOM, UTF_16LE_BOM, UTF_16BE_BOM}) {
+      if (bytes.length >= bom.length && Arrays.equals(bytes, 0, bom.length, bom, 0, bom.length)) {
+        return bom;
+      }
+    }
+    return new byte[0];
+  }
+
+  private static Charset charsetOfBom(byte[] bom) {
+    if (bom == UTF_16LE_BOM) {
+      return UTF_16LE;
+    }
+    if (bom == UTF_16BE_BOM) {
+      return UTF_16BE;
+    }
+    return UTF_8;
+  }
+
+  private static void write(Path path, byte[] bom, byte[] content) throws IOException {
+    Path tempFile = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+    try {
+      byte[] bytes = Arrays.copyOf(bom, bom.length + content.length);
+      System.arraycopy(content, 0, bytes, bom.length, content.length);
+      Files.write(tempFile, bytes);
+      try {
+        Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+  }
+
+  private record GamePrefs(
+      Path path, long size, long lastModified, String fileKey, Charset charset, byte[] bom, String content,
+      int activeModsStart, int activeModsEnd, Set<String> activeMods
+  ) {
+
+    boolean isUpToDate(Path path, BasicFileAttributes attributes) {
+      return path.equals(this.path) && attributes.size() == size && attributes.lastModifiedTime()
+          .toMillis() == lastModified && Objects.equals(Objects.toString(attributes.fileKey(), null), fileKey);
+    }
+  }
+}
@@ -97,15 +97,34 @@ public abstract class AbstractFilterController<T> extends NodeController<SplitPa
 
   private synchronized void invalidate() {
     if (!resetInProgress) {
-      Predicate<T> finalPredicate = Stream.concat(filterPredicates.stream().map(ObservableValue::getValue),
-                                                  externalFilters.values().stream())
-                                          .reduce(Predicate::and)
-                                          .orElseThrow();
-      predicate.setValue(defaultPredicate.and(finalPredicate));
+      List<Predicate<T>> activePredicates = Stream.concat(Stream.of(defaultPredicate),
+                                                          Stream.concat(filterPredicates.stream()
+                                                                                        .map(ObservableValue::getValue),
+                                                                        externalFilters.values().stream()))
+                                                  .filter(filterPredicate -> filterPredicate != AbstractFilterNodeController.acceptAll())
+                                                  .toList();
+      predicate.setValue(activePredicates.size() == 1 ? activePredicates.get(0) : allOf(activePredicates));
       updateFilterState();
     }
   }
 
+  /**
+   * Combines the predicates in a flat loop rather than a chain of {@link Predicate#and}, as the combined predicate is
+   * tested against every item whenever a filter changes.
+   */
+  @SuppressWarnings("unchecked")
+  private static <T> Predicate<T> allOf(List<Predicate<T>> predicates) {
+    Predicate<T>[] predicateArray = predicates.toArray(Predicate[]::new);
+    return item -> {
+      for (Predicate<T> predicate : predicateArray) {
+        if (!predicate.test(item)) {
+          return false;
+        }
+      }
+      return true;
+    };
+  }
+
   private void updateFilterState() {
     boolean hasDefaultValues = filters.stream().allMatch(AbstractFilterNodeController::hasDefaultValue);
     filterActive.setValue(!hasDefaultValues);
@@ -12,7 +12,18 @@ import java.util.function.Predicate;
 
 public abstract class AbstractFilterNodeController<U, N extends Observable, T> extends NodeController<Node> {
 
-  private final ObjectProperty<Predicate<T>> predicate = new SimpleObjectProperty<>(item -> true);
+  private static final Predicate<?> ACCEPT_ALL = item -> true;
+
+  private final ObjectProperty<Predicate<T>> predicate = new SimpleObjectProperty<>(acceptAll());
+
+  /**
+   * The predicate of filters that have their default value. Filters with this predicate let every item pass and are
+   * skipped when the filters are combined.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Predicate<T> acceptAll() {
+    return (Predicate<T>) ACCEPT_ALL;
+  }
 
   public abstract boolean hasDefaultValue();
 
@@ -23,7 +34,14 @@ public abstract class AbstractFilterNodeController<U, N extends Observable, T> e
   protected abstract U getValue();
 
   public void registerListener(BiFunction<U, T, Boolean> filter) {
-    JavaFxUtil.addAndTriggerListener(valueProperty(), observable -> predicate.set(item -> filter.apply(getValue(), item)));
+    JavaFxUtil.addAndTriggerListener(valueProperty(), observable -> {
+      if (hasDefaultValue()) {
+        predicate.set(acceptAll());
+      } else {
+        U value = getValue();
+        predicate.set(item -> filter.apply(value, item));
+      }
+    });
   }
 
   public ObjectProperty<Predicate<T>> predicateProperty() {
@@ -3,6 +3,7 @@ package com.faforever.client.filter;
 import com.faforever.client.chat.ChatListItem;
 import com.faforever.client.domain.LeaderboardBean;
 import com.faforever.client.domain.PlayerBean;
+import com.faforever.client.filter.function.CompiledFilterFunction;
 import com.faforever.client.fx.FxApplicationThreadExecutor;
 import com.faforever.client.game.PlayerStatus;
 import com.faforever.client.i18n.I18n;
@@ -18,6 +19,9 @@ import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
@@ -99,10 +103,12 @@ public class ChatUserFilterController extends AbstractFilterController<ChatListI
                 .orElse(false));
 
     filterBuilder.multiCheckbox(i18n.get("country"), countryFlagService.getCountries(), countryConverter,
-        (countries, item) -> countries.isEmpty() || item.user() == null ||
-            item.user().getPlayer()
-                .map(PlayerBean::getCountry)
-                .map(countryCode -> countries.stream().map(Country::code).toList().contains(countryCode))
-                .orElse(false));
+        new CompiledFilterFunction<List<Country>, Set<String>, ChatListItem>(
+            countries -> countries.stream().map(Country::code).collect(Collectors.toSet()),
+            (countryCodes, item) -> countryCodes.isEmpty() || item.user() == null ||
+                item.user().getPlayer()
+                    .map(PlayerBean::getCountry)
+                    .map(countryCodes::contains)
+                    .orElse(false)));
   }
 }
@@ -5,6 +5,7 @@ import com.faforever.client.i18n.I18n;
 import com.faforever.client.ui.list.NoFocusModelListView;
 import com.faforever.client.ui.list.NoSelectionModelListView;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.SimpleListProperty;
 import javafx.collections.FXCollections;
@@ -73,7 +74,8 @@ public class FilterMultiCheckboxController<U, T> extends AbstractFilterNodeContr
 
   @Override
   protected List<U> getValue() {
-    return selectedItemListProperty.getValue();
+    // A snapshot backed by a hash set, so filters can look up the selected items in constant time
+    return ImmutableSet.copyOf(selectedItemListProperty).asList();
   }
 
   @Override
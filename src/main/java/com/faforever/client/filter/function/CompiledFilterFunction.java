@@ -0,0 +1,37 @@
+package com.faforever.client.filter.function;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Filter function which converts the filter value into a form that is cheaper to test items against, e.g. a set of
+ * keys, and keeps it for as long as it is called with the same value.
+ *
+ * @param <U> the type of the filter value
+ * @param <C> the type of the converted filter value
+ * @param <T> the type of the filtered items
+ */
+public class CompiledFilterFunction<U, C, T> implements BiFunction<U, T, Boolean> {
+
+  private final Function<U, C> compiler;
+  private final BiFunction<C, T, Boolean> filter;
+
+  private volatile CompiledValue<U, C> compiledValue;
+
+  public CompiledFilterFunction(Function<U, C> compiler, BiFunction<C, T, Boolean> filter) {
+    this.compiler = compiler;
+    this.filter = filter;
+  }
+
+  @Override
+  public Boolean apply(U value, T item) {
+    CompiledValue<U, C> current = compiledValue;
+    if (current == null || current.value() != value) {
+      current = new CompiledValue<>(value, compiler.apply(value));
+      compiledValue = current;
+    }
+    return filter.apply(current.compiled(), item);
+  }
+
+  private record CompiledValue<U, C>(U value, C compiled) {}
+}
@@ -0,0 +1,111 @@
+package com.faforever.client.fx;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Collects updates from any thread and applies them on the JavaFX application thread. Updates with the same key that
+ * arrive before the pending updates are applied replace each other, so that a burst of updates, like the game and
+ * player states sent by the server right after login, is applied once with the latest state of each key. Updates are
+ * applied in the order their keys were first offered. Thread safe.
+ */
+@Slf4j
+public class FxUpdateCoalescer<K, V> {
+
+  private final FxApplicationThreadExecutor fxApplicationThreadExecutor;
+  private final Consumer<List<V>> applier;
+
+  private final Map<K, PendingUpdate<V>> pendingUpdates = new LinkedHashMap<>();
+  private boolean applyScheduled;
+
+  private final LongAdder offered = new LongAdder();
+  private final LongAdder applied = new LongAdder();
+  private final LongAdder batches = new LongAdder();
+  private final LongAdder totalLagNanos = new LongAdder();
+  private final AtomicLong maxLagNanos = new AtomicLong();
+
+  /**
+   * @param applier applies the latest update of each key, called on the JavaFX application thread
+   */
+  public FxUpdateCoalescer(FxApplicationThreadExecutor fxApplicationThreadExecutor, Consumer<List<V>> applier) {
+    this.fxApplicationThreadExecutor = fxApplicationThreadExecutor;
+    this.applier = applier;
+  }
+
+  public void offer(K key, V update) {
+    offered.increment();
+    boolean scheduleApply;
+    synchronized (pendingUpdates) {
+      PendingUpdate<V> previousUpdate = pendingUpdates.get(key);
+      long offeredNanos = previousUpdate == null ? System.nanoTime() : previousUpdate.offeredNanos();
+      pendingUpdates.put(key, new PendingUpdate<>(update, offeredNanos));
+      scheduleApply = !applyScheduled;
+      applyScheduled = true;
+    }
+    if (scheduleApply) {
+      fxApplicationThreadExecutor.asScheduler().schedule(this::applyPendingUpdates);
+    }
+  }
+
+  private void applyPendingUpdates() {
+    List<PendingUpdate<V>> updates;
+    synchronized (pendingUpdates) {
+      updates = new ArrayList<>(pendingUpdates.values());
+      pendingUpdates.clear();
+      applyScheduled = false;
+    }
+
+    long now = System.nanoTime();
+    List<V> latestUpdates = new ArrayList<>(updates.size());
+    for (PendingUpdate<V> pendingUpdate : updates) {
+      // The lag of a key is measured from its first update that was not applied yet
+      long lagNanos = now - pendingUpdate.offeredNanos();
+      totalLagNanos.add(lagNanos);
+      maxLagNanos.accumulateAndGet(lagNanos, Math::max);
+      latestUpdates.add(pendingUpdate.update());
+    }
+    applied.add(latestUpdates.size());
+    batches.increment();
+
+    try {
+      applier.accept(latestUpdates);
+    } catch (Exception e) {
+      log.error("Could not apply {} updates", latestUpdates.size(), e);
+    }
+  }
+
+  public Statistics getStatistics() {
+    return new Statistics(offered.sum(), applied.sum(), batches.sum(), Duration.ofNanos(totalLagNanos.sum()), Duration.ofNanos(maxLagNanos.get()));
+  }
+
+  /**
+   * @param offered number of updates offered so far
+   * @param applied number of updates applied so far, which is less than offered if updates were replaced by newer ones
+   * @param batches number of times pending updates were applied
+   * @param totalLag sum of the time the applied updates waited to be applied
+   * @param maxLag longest time an applied update waited to be applied
+   */
+  public record Statistics(long offered, long applied, long batches, Duration totalLag, Duration maxLag) {
+
+    /**
+     * Returns how many updates were offered per applied update.
+     */
+    public double coalescingRatio() {
+      return applied == 0 ? 0 : (double) offered / applied;
+    }
+
+    public Duration averageLag() {
+      return applied == 0 ? Duration.ZERO : totalLag.dividedBy(applied);
+    }
+  }
+
+  private record PendingUpdate<V>(V update, long offeredNanos) {}
+}
@@ -0,0 +1,244 @@
+package com.faforever.client.fx;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ObservableListBase;
+import javafx.util.Callback;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An observable list for elements that are only ever appended, like the values mirrored from a map by
+ * {@link JavaFxUtil#attachListToMap}. Removing an element does not scan the list: elements are indexed by identity and
+ * carry an increasing sequence number, so their position is found by a binary search. Objects that are not contained
+ * by identity fall back to the linear lookup by {@code equals}. The order of the elements and the change events are
+ * the same as for {@link javafx.collections.FXCollections#observableArrayList()}, including update events if an
+ * extractor is given.
+ * <p>
+ * Not thread safe, wrap it with {@link javafx.collections.FXCollections#synchronizedObservableList} if required.
+ */
+public class IndexedObservableList<E> extends ObservableListBase<E> {
+
+  private final Callback<E, Observable[]> extractor;
+  private final List<Entry<E>> entries = new ArrayList<>();
+  private final Map<E, Entry<E>> entriesByElement = new IdentityHashMap<>();
+
+  private long nextSequence;
+  private int duplicates;
+
+  public IndexedObservableList() {
+    this(null);
+  }
+
+  /**
+   * @param extractor returns the observables of an element whose invalidation is reported as an update of the element
+   */
+  public IndexedObservableList(Callback<E, Observable[]> extractor) {
+    this.extractor = extractor;
+  }
+
+  @Override
+  public E get(int index) {
+    return entries.get(index).element();
+  }
+
+  @Override
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Elements can only be appended, so {@code index} must be the size of the list.
+   */
+  @Override
+  public void add(int index, E element) {
+    if (index != entries.size()) {
+      throw new UnsupportedOperationException("Elements can only be appended");
+    }
+    Entry<E> entry = new Entry<>(element, nextSequence++, createObserver(element));
+    entries.add(entry);
+    if (entriesByElement.putIfAbsent(element, entry) != null) {
+      duplicates++;
+    }
+    observe(entry);
+
+    beginChange();
+    nextAdd(index, index + 1);
+    endChange();
+  }
+
+  @Override
+  public E remove(int index) {
+    Entry<E> entry = entries.remove(index);
+    forget(entry);
+
+    beginChange();
+    nextRemove(index, entry.element());
+    endChange();
+    return entry.element();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    int index = indexOf(o);
+    if (index < 0) {
+      return false;
+    }
+    remove(index);
+    return true;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    Entry<E> entry = entriesByElement.get(o);
+    return entry != null ? indexOf(entry) : super.indexOf(o);
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return entriesByElement.containsKey(o) || super.contains(o);
+  }
+
+  /**
+   * Appends the elements and reports them in a single change.
+   */
+  @Override
+  public boolean addAll(Collection<? extends E> c) {
+    beginChange();
+    try {
+      return super.addAll(c);
+    } finally {
+      endChange();
+    }
+  }
+
+  /**
+   * Removes the elements in a single pass and reports them in a single change.
+   */
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    Set<?> elementsToRemove = c instanceof Set<?> set ? set : new HashSet<>(c);
+    return removeMatching(elementsToRemove::contains);
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    Set<?> elementsToKeep = c instanceof Set<?> set ? set : new HashSet<>(c);
+    return removeMatching(element -> !elementsToKeep.contains(element));
+  }
+
+  @Override
+  public void clear() {
+    removeMatching(element -> true);
+  }
+
+  /**
+   * Runs the specified modifications and reports all of them to the listeners in a single change.
+   */
+  public void batch(Runnable modifications) {
+    beginChange();
+    try {
+      modifications.run();
+    } finally {
+      endChange();
+    }
+  }
+
+  private boolean removeMatching(Predicate<Object> filter) {
+    beginChange();
+    try {
+      List<Entry<E>> keptEntries = new ArrayList<>(entries.size());
+      for (Entry<E> entry : entries) {
+        if (filter.test(entry.element())) {
+          forget(entry);
+          nextRemove(keptEntries.size(), entry.element());
+        } else {
+          keptEntries.add(entry);
+        }
+      }
+      boolean removed = keptEntries.size() != entries.size();
+      if (removed) {
+        entries.clear();
+        entries.addAll(keptEntries);
+      }
+      return removed;
+    } finally {
+      endChange();
+    }
+  }
+
+  private int indexOf(Entry<E> entry) {
+    int low = 0;
+    int high = entries.size() - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      long sequence = entries.get(middle).sequence();
+      if (sequence < entry.sequence()) {
+        low = middle + 1;
+      } else if (sequence > entry.sequence()) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -1;
+  }
+
+  private void forget(Entry<E> entry) {
+    unobserve(entry);
+    if (entriesByElement.get(entry.element()) != entry) {
+      duplicates--;
+      return;
+    }
+    entriesByElement.remove(entry.element());
+    if (duplicates > 0) {
+      entries.stream()
+          .filter(other -> other != entry && other.element() == entry.element())
+          .findFirst()
+          .ifPresent(other -> {
+            entriesByElement.put(other.element(), other);
+            duplicates--;
+          });
+    }
+  }
+
+  private InvalidationListener createObserver(E element) {
+    if (extractor == null) {
+      return null;
+    }
+    return observable -> {
+      Entry<E> entry = entriesByElement.get(element);
+      int index = entry != null ? indexOf(entry) : -1;
+      if (index >= 0) {
+        beginChange();
+        nextUpdate(index);
+        endChange();
+      }
+    };
+  }
+
+  private void observe(Entry<E> entry) {
+    if (entry.observer() != null) {
+      for (Observable observable : extractor.call(entry.element())) {
+        observable.addListener(entry.observer());
+      }
+    }
+  }
+
+  private void unobserve(Entry<E> entry) {
+    if (entry.observer() != null) {
+      for (Observable observable : extractor.call(entry.element())) {
+        observable.removeListener(entry.observer());
+      }
+    }
+  }
+
+  private record Entry<E>(E element, long sequence, InvalidationListener observer) {}
+}
@@ -174,7 +174,7 @@ public final class JavaFxUtil {
 
   /**
    * Returns an unmodifiable observable list from the specified list that mirrors any changes made to the specified
-   * map.
+   * map. Use an {@link IndexedObservableList} if values are removed frequently from a large map.
    */
   public static <K, V> ObservableList<V> attachListToMap(ObservableList<V> list, ObservableMap<K, V> map) {
     addListener(map, (MapChangeListener<K, V>) change -> {
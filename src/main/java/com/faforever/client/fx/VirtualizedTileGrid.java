@@ -0,0 +1,207 @@
+package com.faforever.client.fx;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import org.fxmisc.flowless.Cell;
+import org.fxmisc.flowless.VirtualFlow;
+import org.fxmisc.flowless.VirtualizedScrollPane;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Lays out tiles of the same width in rows like a {@link javafx.scene.layout.FlowPane}, but only creates tiles for the
+ * rows that are visible and reuses them for other items when scrolling. Must only be used on the JavaFX application
+ * thread.
+ *
+ * @param <T> the type of the items shown by the tiles
+ */
+public class VirtualizedTileGrid<T> {
+
+  private final ObservableList<T> items;
+  private final Supplier<Tile<T>> tileFactory;
+  private final double hgap;
+  private final double vgap;
+  private final ObservableList<List<T>> rows = FXCollections.observableArrayList();
+  private final VirtualFlow<List<T>, RowCell> virtualFlow;
+  private final VirtualizedScrollPane<VirtualFlow<List<T>, RowCell>> scrollPane;
+  private final InvalidationListener itemsListener = observable -> updateRows();
+  private final ChangeListener<Number> tileWidthListener = (observable, oldValue, newValue) -> onTileWidthChanged(newValue.doubleValue());
+
+  private double tileWidth;
+  private int columns = 1;
+
+  /**
+   * @param tileWidth the expected width of a tile, which is replaced by the actual width once a tile has been laid out
+   */
+  public VirtualizedTileGrid(ObservableList<T> items, double tileWidth, double hgap, double vgap,
+                             Supplier<Tile<T>> tileFactory) {
+    this.items = items;
+    this.tileWidth = tileWidth;
+    this.hgap = hgap;
+    this.vgap = vgap;
+    this.tileFactory = tileFactory;
+
+    virtualFlow = VirtualFlow.createVertical(rows, RowCell::new);
+    scrollPane = new VirtualizedScrollPane<>(virtualFlow);
+    virtualFlow.widthProperty().addListener(observable -> updateColumns());
+    items.addListener(itemsListener);
+    updateRows();
+  }
+
+  public Node getNode() {
+    return scrollPane;
+  }
+
+  @VisibleForTesting
+  public List<List<T>> getRows() {
+    return rows;
+  }
+
+  /**
+   * Stops following the items and disposes all tiles, once the grid is no longer shown. The grid can't be shown again
+   * afterwards.
+   */
+  public void dispose() {
+    items.removeListener(itemsListener);
+    virtualFlow.dispose();
+  }
+
+  private void updateColumns() {
+    int newColumns = Math.max(1, (int) ((virtualFlow.getWidth() + hgap) / (tileWidth + hgap)));
+    if (newColumns != columns) {
+      columns = newColumns;
+      updateRows();
+    }
+  }
+
+  private void onTileWidthChanged(double width) {
+    if (width > 0 && width != tileWidth) {
+      tileWidth = width;
+      updateColumns();
+    }
+  }
+
+  /**
+   * Splits the items into rows, replacing only the rows that changed so the cells of the others are kept.
+   */
+  private void updateRows() {
+    List<List<T>> newRows = Lists.partition(List.copyOf(items), columns);
+    int commonRows = Math.min(rows.size(), newRows.size());
+    for (int i = 0; i < commonRows; i++) {
+      if (!containSameItems(rows.get(i), newRows.get(i))) {
+        rows.set(i, newRows.get(i));
+      }
+    }
+    if (rows.size() > newRows.size()) {
+      rows.remove(newRows.size(), rows.size());
+    } else if (rows.size() < newRows.size()) {
+      rows.addAll(newRows.subList(rows.size(), newRows.size()));
+    }
+  }
+
+  private void disposeTile(Tile<T> tile) {
+    if (tile.getNode() instanceof Region region) {
+      region.widthProperty().removeListener(tileWidthListener);
+    }
+    tile.dispose();
+  }
+
+  private static boolean containSameItems(List<?> row, List<?> otherRow) {
+    if (row.size() != otherRow.size()) {
+      return false;
+    }
+    for (int i = 0; i < row.size(); i++) {
+      if (row.get(i) != otherRow.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * A reusable tile of the grid.
+   */
+  public interface Tile<T> {
+
+    Node getNode();
+
+    /**
+     * Shows the specified item, or nothing if it is {@code null}.
+     */
+    void setItem(@Nullable T item);
+
+    /**
+     * Called once the tile has been removed from the grid, e.g. to hand it back to a pool. The tile is not used by the
+     * grid afterwards.
+     */
+    default void dispose() {
+      // To be overridden by implementations that hold resources
+    }
+  }
+
+  private class RowCell implements Cell<List<T>, Node> {
+
+    private final HBox rowBox = new HBox(hgap);
+    private final List<Tile<T>> tiles = new ArrayList<>();
+
+    private RowCell(List<T> row) {
+      rowBox.setPadding(new Insets(0, 0, vgap, 0));
+      updateItem(row);
+    }
+
+    @Override
+    public Node getNode() {
+      return rowBox;
+    }
+
+    @Override
+    public boolean isReusable() {
+      return true;
+    }
+
+    @Override
+    public void updateItem(List<T> row) {
+      while (tiles.size() < row.size()) {
+        Tile<T> tile = tileFactory.get();
+        if (tile.getNode() instanceof Region region) {
+          region.widthProperty().addListener(tileWidthListener);
+        }
+        tiles.add(tile);
+        rowBox.getChildren().add(tile.getNode());
+      }
+      // Only the last row is shorter, so tiles are rarely given up here
+      while (tiles.size() > row.size()) {
+        Tile<T> tile = tiles.removeLast();
+        rowBox.getChildren().remove(tile.getNode());
+        disposeTile(tile);
+      }
+
+      for (int i = 0; i < tiles.size(); i++) {
+        tiles.get(i).setItem(row.get(i));
+      }
+    }
+
+    @Override
+    public void reset() {
+      tiles.forEach(tile -> tile.setItem(null));
+    }
+
+    @Override
+    public void dispose() {
+      rowBox.getChildren().clear();
+      tiles.forEach(VirtualizedTileGrid.this::disposeTile);
+      tiles.clear();
+    }
+  }
+}
@@ -10,6 +10,8 @@ import com.faforever.client.fa.GameParameters;
 import com.faforever.client.fa.relay.ice.CoturnService;
 import com.faforever.client.fa.relay.ice.IceAdapter;
 import com.faforever.client.fx.FxApplicationThreadExecutor;
+import com.faforever.client.fx.FxUpdateCoalescer;
+import com.faforever.client.fx.IndexedObservableList;
 import com.faforever.client.fx.JavaFxUtil;
 import com.faforever.client.fx.PlatformService;
 import com.faforever.client.game.error.GameCleanupException;
@@ -65,8 +67,6 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
-import reactor.function.TupleUtils;
 
 import java.io.IOException;
 import java.net.URI;
@@ -148,11 +148,11 @@ public class GameService implements InitializingBean {
   private final MaskPatternLayout logMasker = new MaskPatternLayout();
   private final ObservableMap<Integer, GameBean> gameIdToGame = FXCollections.synchronizedObservableMap(
       FXCollections.observableHashMap());
+  private final IndexedObservableList<GameBean> indexedGames = new IndexedObservableList<>(
+      game -> new Observable[]{game.statusProperty(), game.teamsProperty(), game.titleProperty(), game.mapFolderNameProperty(), game.simModsProperty(), game.passwordProtectedProperty()});
   @Getter
   private final ObservableList<GameBean> games = JavaFxUtil.attachListToMap(FXCollections.synchronizedObservableList(
-                                                                                FXCollections.observableArrayList(
-                                                                                    game -> new Observable[]{game.statusProperty(), game.teamsProperty(), game.titleProperty(), game.mapFolderNameProperty(), game.simModsProperty(), game.passwordProtectedProperty()})),
-                                                                            gameIdToGame);
+                                                                                indexedGames), gameIdToGame);
 
   private Process process;
   private Process replayProcess;
@@ -160,6 +160,7 @@ public class GameService implements InitializingBean {
   private boolean gameKilled;
   private boolean replayKilled;
   private int localReplayPort;
+  private FxUpdateCoalescer<Integer, GameInfo> gameInfoCoalescer;
 
   @Override
   public void afterPropertiesSet() {
@@ -180,38 +181,14 @@ public class GameService implements InitializingBean {
       }
     });
 
-    Flux<GameBean> gameUpdateFlux = fafServerAccessor.getEvents(GameInfo.class)
-                                                     .flatMap(gameInfo -> gameInfo.getGames() == null ? Flux.just(
-                                                         gameInfo) : Flux.fromIterable(gameInfo.getGames()))
-                                                     .flatMap(gameInfo -> Mono.zip(Mono.just(gameInfo),
-                                                                                   Mono.justOrEmpty(gameIdToGame.get(
-                                                                                           gameInfo.getUid()))
-                                                                                       .switchIfEmpty(
-                                                                                           initializeGameBean(
-                                                                                               gameInfo))))
-                                                     .publishOn(fxApplicationThreadExecutor.asScheduler())
-                                                     .map(TupleUtils.function(gameMapper::update))
-                                                     .doOnError(
-                                                         throwable -> log.error("Error processing game", throwable))
-                                                     .retry()
-                                                     .share();
-
-    gameUpdateFlux.filter(game -> game.getStatus() == GameStatus.CLOSED)
-                  .doOnNext(GameBean::removeListeners)
-                  .map(GameBean::getId)
-                  .publishOn(fxApplicationThreadExecutor.asScheduler())
-                  .doOnNext(gameIdToGame::remove)
-                  .doOnError(throwable -> log.error("Error closing game", throwable))
-                  .retry()
-                  .subscribe();
-
-    gameUpdateFlux.filter(playerService::isCurrentPlayerInGame).doOnNext(game -> {
-      if (GameStatus.OPEN == game.getStatus()) {
-        currentGame.set(enhanceWithLastPasswordIfPasswordProtected(game));
-      } else if (GameStatus.CLOSED == game.getStatus()) {
-        currentGame.set(null);
-      }
-    }).doOnError(throwable -> log.error("Error setting current game", throwable)).retry().subscribe();
+    gameInfoCoalescer = new FxUpdateCoalescer<>(fxApplicationThreadExecutor, this::applyGameInfos);
+    fafServerAccessor.getEvents(GameInfo.class)
+                     .flatMap(gameInfo -> gameInfo.getGames() == null ? Flux.just(gameInfo) : Flux.fromIterable(
+                         gameInfo.getGames()))
+                     .doOnNext(gameInfo -> gameInfoCoalescer.offer(gameInfo.getUid(), gameInfo))
+                     .doOnError(throwable -> log.error("Error processing game", throwable))
+                     .retry()
+                     .subscribe();
 
     fafServerAccessor.getEvents(NoticeInfo.class)
                      .filter(notice -> Objects.equals(notice.getStyle(), "kill"))
@@ -245,16 +222,53 @@ public class GameService implements InitializingBean {
     }
   }
 
-  private Mono<GameBean> initializeGameBean(GameInfo gameInfo) {
-    return Mono.fromCallable(() -> {
-                 GameBean newGame = new GameBean();
-                 newGame.setId(gameInfo.getUid());
-                 newGame.addPlayerChangeListener(generatePlayerChangeListener(newGame));
-                 return newGame;
-               })
-               .publishOn(fxApplicationThreadExecutor.asScheduler())
-               .doOnNext(game -> gameMapper.update(gameInfo, game))
-               .doOnNext(game -> gameIdToGame.put(game.getId(), game));
+  /**
+   * Applies the latest state of each game received since the last call, reporting all resulting changes of the games
+   * list as a single change. Holds the lock of the map first, as its listener modifies the list while holding it.
+   */
+  private void applyGameInfos(List<GameInfo> gameInfos) {
+    synchronized (gameIdToGame) {
+      indexedGames.batch(() -> gameInfos.forEach(gameInfo -> {
+        try {
+          applyGameInfo(gameInfo);
+        } catch (Exception e) {
+          log.error("Error processing game", e);
+        }
+      }));
+    }
+  }
+
+  private void applyGameInfo(GameInfo gameInfo) {
+    GameBean game = gameIdToGame.get(gameInfo.getUid());
+    if (game == null) {
+      game = new GameBean();
+      game.setId(gameInfo.getUid());
+      game.addPlayerChangeListener(generatePlayerChangeListener(game));
+      gameMapper.update(gameInfo, game);
+      gameIdToGame.put(game.getId(), game);
+    } else {
+      gameMapper.update(gameInfo, game);
+    }
+
+    if (game.getStatus() == GameStatus.CLOSED) {
+      game.removeListeners();
+      gameIdToGame.remove(game.getId());
+    }
+
+    if (playerService.isCurrentPlayerInGame(game)) {
+      if (GameStatus.OPEN == game.getStatus()) {
+        currentGame.set(enhanceWithLastPasswordIfPasswordProtected(game));
+      } else if (GameStatus.CLOSED == game.getStatus()) {
+        currentGame.set(null);
+      }
+    }
+  }
+
+  /**
+   * Returns how game updates from the server were coalesced and how long they waited to be applied.
+   */
+  public FxUpdateCoalescer.Statistics getGameUpdateStatistics() {
+    return gameInfoCoalescer.getStatistics();
   }
 
   private ChangeListener<Set<Integer>> generatePlayerChangeListener(GameBean newGame) {
@@ -44,6 +44,7 @@ public class GameTooltipController extends NodeController<Node> {
                                                                          .orElse(Map.of());
   private final ObservableValue<String> leaderboard = game.flatMap(GameBean::leaderboardProperty);
   private final SimpleChangeListener<Map<Integer, List<Integer>>> teamsListener = this::populateTeamsContainer;
+  private List<TeamCardController> shownTeamCardControllers = List.of();
 
   public TitledPane modsPane;
   public TilePane teamsPane;
@@ -66,11 +67,11 @@ public class GameTooltipController extends NodeController<Node> {
 
   private void populateTeamsContainer(Map<Integer, List<Integer>> newValue) {
     CompletableFuture.supplyAsync(() -> createTeamCardControllers(newValue))
-                     .thenAcceptAsync(controllers -> teamsPane.getChildren()
-                                                              .setAll(controllers.stream()
-                                                                                 .map(TeamCardController::getRoot)
-                                                                                 .toList()),
-                                      fxApplicationThreadExecutor);
+                     .thenAcceptAsync(controllers -> {
+                       teamsPane.getChildren().setAll(controllers.stream().map(TeamCardController::getRoot).toList());
+                       shownTeamCardControllers.forEach(controller -> uiService.releaseFxml(UiService.TEAM_CARD, controller));
+                       shownTeamCardControllers = controllers;
+                     }, fxApplicationThreadExecutor);
   }
 
   private List<TeamCardController> createTeamCardControllers(Map<Integer, List<Integer>> teamsValue) {
@@ -78,7 +79,7 @@ public class GameTooltipController extends NodeController<Node> {
       Integer team = entry.getKey();
       List<Integer> playerIds = entry.getValue();
 
-      TeamCardController controller = uiService.loadFxml("theme/team_card.fxml");
+      TeamCardController controller = uiService.acquireFxml(UiService.TEAM_CARD);
       controller.setRatingPrecision(RatingPrecision.ROUNDED);
       controller.ratingProviderProperty()
                 .bind(leaderboard.map(
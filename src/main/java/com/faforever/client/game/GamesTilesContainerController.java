@@ -4,9 +4,11 @@ import com.faforever.client.domain.GameBean;
 import com.faforever.client.fx.FxApplicationThreadExecutor;
 import com.faforever.client.fx.JavaFxUtil;
 import com.faforever.client.fx.NodeController;
+import com.faforever.client.fx.VirtualizedTileGrid;
 import com.faforever.client.player.PlayerService;
 import com.faforever.client.theme.UiService;
 import com.faforever.commons.lobby.GameStatus;
+import com.google.common.annotations.VisibleForTesting;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
@@ -16,12 +18,11 @@ import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
-import javafx.collections.ObservableMap;
 import javafx.collections.transformation.SortedList;
 import javafx.scene.Node;
-import javafx.scene.control.ScrollPane;
 import javafx.scene.control.Tooltip;
-import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.StackPane;
+import javafx.util.Subscription;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,9 +31,11 @@ import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
@@ -40,139 +43,192 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class GamesTilesContainerController extends NodeController<Node> {
 
+  /** Width of a game card, which is measured once the first card has been laid out. */
+  private static final double TILE_WIDTH = 372;
+  private static final double TILE_GAP = 10;
+
   private final UiService uiService;
   private final PlayerService playerService;
   private final FxApplicationThreadExecutor fxApplicationThreadExecutor;
 
-  private final Comparator<Node> averageRatingComparator = Comparator.comparingDouble(this::getAverageRatingForGame);
-  private final Comparator<Node> titleComparator = Comparator.comparing(o -> ((GameBean) o.getUserData()).getTitle()
-                                                                                                         .toLowerCase(
-                                                                                                             Locale.US));
-  private final Comparator<Node> playerCountComparator = Comparator.comparingInt(
-      o -> ((GameBean) o.getUserData()).getNumActivePlayers());
+  private final Comparator<GameBean> averageRatingComparator = Comparator.comparingDouble(game -> getSortKey(game).averageRating);
+  private final Comparator<GameBean> titleComparator = Comparator.comparing(game -> getSortKey(game).title);
+  private final Comparator<GameBean> playerCountComparator = Comparator.comparingInt(game -> getSortKey(game).playerCount);
+
+  /** The values the games are sorted by, updated when they change rather than computed for every comparison. */
+  private final Map<GameBean, SortKey> sortKeys = new HashMap<>();
+  private boolean resortScheduled;
 
-  public FlowPane tiledFlowPane;
-  public ScrollPane tiledScrollPane;
+  public StackPane tilesContainer;
   public GameTooltipController gameTooltipController;
 
   private Tooltip tooltip;
+  private VirtualizedTileGrid<GameBean> tileGrid;
 
-  private final ObservableMap<GameBean, Node> gameToGameCard = FXCollections.synchronizedObservableMap(
-      FXCollections.observableHashMap());
-  private final SortedList<Node> gameCards = new SortedList<>(
-      JavaFxUtil.attachListToMap(FXCollections.observableArrayList(), gameToGameCard));
+  private final ObservableList<GameBean> games = FXCollections.observableArrayList();
+  private final SortedList<GameBean> sortedGames = new SortedList<>(games);
   private final ObjectProperty<TilesSortingOrder> sortingOrder = new SimpleObjectProperty<>();
   private final ReadOnlyObjectWrapper<GameBean> selectedGame = new ReadOnlyObjectWrapper<>();
 
   private final ListChangeListener<GameBean> gameListChangeListener = this::onGameListChange;
-  private ObservableList<GameBean> games;
-
-  private double getAverageRatingForGame(Node tile) {
-    return this.playerService.getAverageRatingForGame((GameBean) tile.getUserData());
-  }
+  private ObservableList<GameBean> sourceGames;
 
   @Override
   protected void onInitialize() {
     tooltip = JavaFxUtil.createCustomTooltip(gameTooltipController.getRoot());
-    JavaFxUtil.fixScrollSpeed(tiledScrollPane);
 
-    gameCards.comparatorProperty().bind(sortingOrder.map(order -> switch (order) {
-      case PLAYER_DES -> playerCountComparator.reversed();
-      case PLAYER_ASC -> playerCountComparator;
-      case AVG_RATING_DES -> averageRatingComparator.reversed();
-      case AVG_RATING_ASC -> averageRatingComparator;
-      case NAME_DES -> titleComparator.reversed();
-      case NAME_ASC -> titleComparator;
-    }).when(showing));
+    sortingOrder.when(showing).subscribe(this::sort);
+
+    createTileGrid();
+    games.addListener(gameListChangeListener);
+  }
 
-    Bindings.bindContent(tiledFlowPane.getChildren(), gameCards);
+  private void createTileGrid() {
+    tileGrid = new VirtualizedTileGrid<>(sortedGames, TILE_WIDTH, TILE_GAP, TILE_GAP, this::createGameTile);
+    tilesContainer.getChildren().setAll(tileGrid.getNode());
   }
 
   @Override
   public void onHide() {
-    if (games != null) {
-      games.removeListener(gameListChangeListener);
+    if (sourceGames != null) {
+      Bindings.unbindContent(games, sourceGames);
     }
+    sortKeys.values().forEach(sortKey -> sortKey.subscription.unsubscribe());
+    sortKeys.clear();
+
+    // Returns the game cards to the pool. A disposed grid can't be shown again, so a new one takes its place.
+    tileGrid.dispose();
+    createTileGrid();
   }
 
   private void onGameListChange(Change<? extends GameBean> change) {
     while (change.next()) {
       if (change.wasRemoved()) {
-        change.getRemoved().forEach(this::removeGameCard);
+        change.getRemoved().forEach(game -> {
+          SortKey sortKey = sortKeys.remove(game);
+          if (sortKey != null) {
+            sortKey.subscription.unsubscribe();
+          }
+          clearSelectedGame(game);
+        });
       }
 
-      if (change.wasAdded()) {
-        change.getAddedSubList().forEach(this::addGameCard);
+      if (change.wasAdded() && selectedGame.get() == null) {
+        selectedGame.set(change.getAddedSubList().get(0));
       }
     }
   }
 
-  public ReadOnlyObjectProperty<GameBean> selectedGameProperty() {
-    return selectedGame.getReadOnlyProperty();
+  private void sort(TilesSortingOrder order) {
+    if (order == null) {
+      sortedGames.setComparator(null);
+      return;
+    }
+    // A new comparator makes the sorted list sort again, even if the order didn't change
+    sortedGames.setComparator(switch (order) {
+      case PLAYER_DES -> playerCountComparator.reversed();
+      case PLAYER_ASC -> playerCountComparator::compare;
+      case AVG_RATING_DES -> averageRatingComparator.reversed();
+      case AVG_RATING_ASC -> averageRatingComparator::compare;
+      case NAME_DES -> titleComparator.reversed();
+      case NAME_ASC -> titleComparator::compare;
+    });
   }
 
-  public void createTiledFlowPane(ObservableList<GameBean> games) {
-    if (this.games != null) {
-      this.games.removeListener(gameListChangeListener);
+  /**
+   * Sorts the games again once all changes of the current pulse have been applied.
+   */
+  private void scheduleResort() {
+    if (resortScheduled) {
+      return;
     }
+    resortScheduled = true;
+    fxApplicationThreadExecutor.runLater(() -> {
+      resortScheduled = false;
+      sort(sortingOrder.get());
+    });
+  }
 
-    this.games = games;
-    this.games.addListener(gameListChangeListener);
-    games.forEach(this::addGameCard);
-    selectFirstGame();
+  private SortKey getSortKey(GameBean game) {
+    // Keys are created on demand since the sorted list sees new games before the list change listener does
+    return sortKeys.computeIfAbsent(game, this::createSortKey);
   }
 
-  private void selectFirstGame() {
-    selectedGame.set(!gameCards.isEmpty() ? (GameBean) gameCards.get(0).getUserData() : null);
+  private SortKey createSortKey(GameBean game) {
+    SortKey sortKey = new SortKey();
+    sortKey.subscription = Subscription.combine(game.titleProperty().subscribe(title -> {
+      sortKey.title = title == null ? "" : title.toLowerCase(Locale.US);
+      onSortKeyChanged(sortKey, TilesSortingOrder.NAME_ASC, TilesSortingOrder.NAME_DES);
+    }), game.numActivePlayersProperty().subscribe(playerCount -> {
+      sortKey.playerCount = playerCount.intValue();
+      onSortKeyChanged(sortKey, TilesSortingOrder.PLAYER_ASC, TilesSortingOrder.PLAYER_DES);
+    }), playerService.getAverageRatingPropertyForGame(game).subscribe(averageRating -> {
+      sortKey.averageRating = averageRating == null ? 0 : averageRating;
+      onSortKeyChanged(sortKey, TilesSortingOrder.AVG_RATING_ASC, TilesSortingOrder.AVG_RATING_DES);
+    }));
+    return sortKey;
   }
 
-  private void addGameCard(GameBean game) {
-    if (gameToGameCard.containsKey(game)) {
-      return;
+  private void onSortKeyChanged(SortKey sortKey, TilesSortingOrder... affectedOrders) {
+    // The initial values are reported while the key is created
+    if (sortKey.subscription != null && List.of(affectedOrders).contains(sortingOrder.get())) {
+      scheduleResort();
+    }
+  }
+
+  public ReadOnlyObjectProperty<GameBean> selectedGameProperty() {
+    return selectedGame.getReadOnlyProperty();
+  }
+
+  public void createTiledFlowPane(ObservableList<GameBean> games) {
+    if (sourceGames != null) {
+      Bindings.unbindContent(this.games, sourceGames);
     }
 
-    CompletableFuture.supplyAsync(() -> createGameCard(game))
-                     .thenAcceptAsync(root -> {
-                       gameToGameCard.put(game, root);
-                       if (selectedGame.get() == null) {
-                         selectedGame.set(game);
-                       }
-                     }, fxApplicationThreadExecutor)
-                     .exceptionally(throwable -> {
-                       log.error("Unable to create and add game card", throwable);
-                       return null;
-                     });
+    sourceGames = games;
+    Bindings.bindContent(this.games, games);
+    selectFirstGame();
+  }
 
+  private void selectFirstGame() {
+    selectedGame.set(!sortedGames.isEmpty() ? sortedGames.get(0) : null);
   }
 
-  private Node createGameCard(GameBean game) {
-    GameTileController gameTileController = uiService.loadFxml("theme/play/game_card.fxml");
-    gameTileController.setGame(game);
+  private VirtualizedTileGrid.Tile<GameBean> createGameTile() {
+    GameTileController gameTileController = uiService.acquireFxml(UiService.GAME_CARD);
     gameTileController.setOnSelectedListener(selectedGame::set);
 
     Node root = gameTileController.getRoot();
-    root.setUserData(game);
-
-    root.setOnMouseEntered(event -> gameTooltipController.setGame(game));
+    root.setOnMouseEntered(event -> gameTooltipController.setGame((GameBean) root.getUserData()));
     root.setOnMouseExited(event -> {
-      if (Objects.equals(game, gameTooltipController.getGame())) {
+      if (Objects.equals(root.getUserData(), gameTooltipController.getGame())) {
         gameTooltipController.setGame(null);
       }
     });
     Tooltip.install(root, tooltip);
-    return root;
-  }
 
-  private void removeGameCard(GameBean game) {
-    fxApplicationThreadExecutor.execute(() -> {
-      Node card = gameToGameCard.remove(game);
-      if (card != null) {
-        Tooltip.uninstall(card, tooltip);
-        clearSelectedGame(game);
-      } else {
-        log.warn("Tried to remove game tile that did not exist.");
+    return new VirtualizedTileGrid.Tile<>() {
+      @Override
+      public Node getNode() {
+        return root;
       }
-    });
+
+      @Override
+      public void setItem(GameBean game) {
+        root.setUserData(game);
+        gameTileController.setGame(game);
+      }
+
+      @Override
+      public void dispose() {
+        setItem(null);
+        gameTileController.setOnSelectedListener(null);
+        root.setOnMouseEntered(null);
+        root.setOnMouseExited(null);
+        Tooltip.uninstall(root, tooltip);
+        uiService.releaseFxml(UiService.GAME_CARD, gameTileController);
+      }
+    };
   }
 
   private void clearSelectedGame(GameBean game) {
@@ -181,9 +237,14 @@ public class GamesTilesContainerController extends NodeController<Node> {
     }
   }
 
+  @VisibleForTesting
+  List<List<GameBean>> getTileRows() {
+    return tileGrid.getRows();
+  }
+
   @Override
   public Node getRoot() {
-    return tiledScrollPane;
+    return tilesContainer;
   }
 
   public TilesSortingOrder getSortingOrder() {
@@ -198,6 +259,13 @@ public class GamesTilesContainerController extends NodeController<Node> {
     this.sortingOrder.set(sortingOrder);
   }
 
+  private static class SortKey {
+    private String title = "";
+    private int playerCount;
+    private double averageRating;
+    private Subscription subscription;
+  }
+
   @Getter
   @RequiredArgsConstructor
   public enum TilesSortingOrder {
@@ -66,6 +66,7 @@ public class TeamCardController extends NodeController<Node> {
       .reduce(0, Integer::sum))));
 
   private final Map<PlayerBean, PlayerCardController> playerCardControllersMap = new HashMap<>();
+  private List<PlayerCardController> shownPlayerCardControllers = List.of();
 
   @Override
   protected void onInitialize() {
@@ -87,14 +88,18 @@ public class TeamCardController extends NodeController<Node> {
 
   private void populateTeamContainer(List<PlayerBean> newValue) {
     CompletableFuture.supplyAsync(() -> createPlayerCardControllers(newValue))
-        .thenAcceptAsync(controllers -> teamPane.getChildren()
-            .setAll(controllers.stream().map(PlayerCardController::getRoot).toList()), fxApplicationThreadExecutor);
+        .thenAcceptAsync(controllers -> {
+          teamPane.getChildren().setAll(controllers.stream().map(PlayerCardController::getRoot).toList());
+          shownPlayerCardControllers.forEach(controller -> uiService.releaseFxml(UiService.PLAYER_CARD, controller));
+          shownPlayerCardControllers = controllers;
+        }, fxApplicationThreadExecutor);
   }
 
   private List<PlayerCardController> createPlayerCardControllers(List<PlayerBean> players) {
     playerCardControllersMap.clear();
     return players.stream().map(player -> {
-      PlayerCardController controller = uiService.loadFxml("theme/player_card.fxml");
+      PlayerCardController controller = uiService.acquireFxml(UiService.PLAYER_CARD);
+      controller.setPlayerStats(null);
 
       controller.ratingProperty()
           .bind(ratingProvider.map(ratingFunction -> ratingFunction.apply(player))
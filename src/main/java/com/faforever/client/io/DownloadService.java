@@ -3,25 +3,44 @@ package com.faforever.client.io;
 import com.faforever.client.task.ResourceLocks;
 import com.faforever.commons.io.ByteCopier;
 import com.faforever.commons.io.ByteCountListener;
+import com.google.common.io.CountingInputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.net.HttpURLConnection;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Service
 @Lazy
@@ -29,46 +48,288 @@ import java.util.Objects;
 @RequiredArgsConstructor
 public class DownloadService {
 
+  private static final String PARTIAL_FILE_SUFFIX = ".part";
+  /** Number of attempts of a download if the caller doesn't specify it. */
+  private static final int DEFAULT_ATTEMPTS = 3;
+  private static final int REQUESTED_RANGE_NOT_SATISFIABLE = 416;
+  private static final Duration RETRY_DELAY = Duration.ofMillis(500);
+  /** Progress units per file when reporting the progress of multiple downloads. */
+  private static final long PROGRESS_PER_FILE = 1000;
+  /** Matches {@code Content-Range: bytes <first>-<last>/<size>}, where the size may be unknown. */
+  private static final Pattern CONTENT_RANGE_PATTERN = Pattern.compile("^bytes (\\d+)-(\\d+)/(\\d+|\\*)$");
+
   /*
    * Download a file from a URL using a temporary path and copy it to targetFile if it downloaded and the checksum
    * matched.
    */
-  public void downloadFile(URL url, Map<String, String> requestProperties, Path targetFile, ByteCountListener progressListener, String md5sum) throws IOException, NoSuchAlgorithmException, ChecksumMismatchException {
-    Path tempFile = Files.createTempFile(targetFile.getParent(), "download", null);
+  public DownloadStatistics downloadFile(URL url, Map<String, String> requestProperties, Path targetFile, ByteCountListener progressListener, @Nullable String md5sum) throws IOException, NoSuchAlgorithmException, ChecksumMismatchException {
+    return downloadFile(List.of(url), requestProperties, targetFile, progressListener, md5sum, DEFAULT_ATTEMPTS);
+  }
+
+  /**
+   * Downloads a file from the specified mirrors and moves it to targetFile if the checksum of the whole file matched.
+   * Without a checksum, the file is moved as soon as it has been downloaded completely.
+   * <p>
+   * The data is written to a partial file next to the target file, named after the expected checksum, which is kept if
+   * the download fails. Both the next attempt within this call and later calls for the same file continue where the
+   * download stopped, using an HTTP range request. A failed attempt is retried after a delay that grows with each
+   * attempt. As long as an attempt makes progress, the same mirror is tried again; otherwise the next mirror is used.
+   */
+  public DownloadStatistics downloadFile(List<URL> mirrors, Map<String, String> requestProperties, Path targetFile, ByteCountListener progressListener, @Nullable String md5sum, int attempts) throws IOException, NoSuchAlgorithmException, ChecksumMismatchException {
+    if (mirrors.isEmpty()) {
+      throw new IllegalArgumentException("No URL to download `" + targetFile + "` from");
+    }
+    Path partialFile = getPartialFile(targetFile, mirrors.get(0), md5sum);
+    MessageDigest messageDigest = MessageDigest.getInstance("MD5");
+    AtomicLong bytesReceived = new AtomicLong();
+    long startTime = System.nanoTime();
+    int failedAttempts = 0;
+    int failovers = 0;
+    int mirrorIndex = 0;
+
+    ResourceLocks.acquireDownloadLock();
+    try {
+      while (true) {
+        URL url = mirrors.get(mirrorIndex);
+        long bytesReceivedBefore = bytesReceived.get();
+        try {
+          log.info("Downloading file from `{}` to `{}`", url, partialFile);
+          transfer(url, requestProperties, partialFile, messageDigest, bytesReceived, progressListener);
+          verifyChecksum(url, partialFile, messageDigest, md5sum);
+          break;
+        } catch (IOException | ChecksumMismatchException e) {
+          failedAttempts++;
+          if (failedAttempts >= attempts) {
+            throw e;
+          }
+          if (mirrors.size() > 1 && (e instanceof ChecksumMismatchException || bytesReceived.get() == bytesReceivedBefore)) {
+            mirrorIndex = (mirrorIndex + 1) % mirrors.size();
+            failovers++;
+          }
+          log.warn("Download from `{}` failed, continuing from `{}` ({} bytes received so far, attempt {} of {})", url, mirrors.get(mirrorIndex), bytesReceived.get(), failedAttempts + 1, attempts, e);
+          sleep(RETRY_DELAY.multipliedBy(failedAttempts));
+        }
+      }
 
+      long fileSize = Files.size(partialFile);
+      Files.move(partialFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
+      deletePartialFiles(targetFile);
+
+      DownloadStatistics statistics = new DownloadStatistics(mirrors.get(mirrorIndex), fileSize, bytesReceived.get(), Duration.ofNanos(System.nanoTime() - startTime), failedAttempts, failovers);
+      log.info("Downloaded {} bytes ({} received) from `{}` in {} ms at {} KiB/s with {} retries and {} mirror failovers", statistics.fileSize(), statistics.bytesReceived(), statistics.url(), statistics.duration()
+          .toMillis(), statistics.bytesPerSecond() / 1024, statistics.retries(), statistics.failovers());
+      return statistics;
+    } finally {
+      ResourceLocks.freeDownloadLock();
+    }
+  }
+
+  /**
+   * Returns the partial file of a download. It is named after the expected checksum, or after the URL if there is none,
+   * so that data of a different version of the file is never resumed.
+   */
+  private static Path getPartialFile(Path targetFile, URL url, @Nullable String md5sum) throws NoSuchAlgorithmException {
+    String key = md5sum != null
+        ? md5sum.toLowerCase()
+        : HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(url.toString().getBytes(StandardCharsets.UTF_8)));
+    return targetFile.resolveSibling(targetFile.getFileName() + "." + key + PARTIAL_FILE_SUFFIX);
+  }
 
+  /**
+   * Deletes the partial files left behind by failed downloads of other versions of the target file.
+   */
+  private static void deletePartialFiles(Path targetFile) {
+    Pattern partialFilePattern = Pattern.compile(Pattern.quote(targetFile.getFileName() + ".") + "[0-9a-f]{32}" + Pattern.quote(PARTIAL_FILE_SUFFIX));
+    try (DirectoryStream<Path> partialFiles = Files.newDirectoryStream(targetFile.getParent(), path -> partialFilePattern.matcher(path.getFileName()
+        .toString()).matches())) {
+      for (Path partialFile : partialFiles) {
+        Files.deleteIfExists(partialFile);
+      }
+    } catch (IOException e) {
+      log.warn("Could not delete partial files of `{}`", targetFile, e);
+    }
+  }
+
+  private static void verifyChecksum(URL url, Path partialFile, MessageDigest messageDigest,
+                                     @Nullable String md5sum) throws IOException, ChecksumMismatchException {
+    if (md5sum == null) {
+      return;
+    }
+    // NOTE: It is crucial that we verify the checksum before using the file when downloading from mirrors! We don't
+    // want to be running unverified executables!
+    String checksum = HexFormat.of().formatHex(messageDigest.digest()).toLowerCase();
+    if (!md5sum.equalsIgnoreCase(checksum)) {
+      Files.deleteIfExists(partialFile);
+      throw new ChecksumMismatchException(url, checksum, md5sum);
+    }
+  }
+
+  private static void sleep(Duration duration) throws InterruptedIOException {
+    try {
+      Thread.sleep(duration.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to retry download");
+    }
+  }
+
+  /**
+   * Appends the data from the specified URL to the partial file if the server supports range requests and its response
+   * matches the partial file, or replaces its content otherwise. When this method returns, the digest covers the whole
+   * partial file.
+   */
+  private void transfer(URL url, Map<String, String> requestProperties, Path partialFile, MessageDigest messageDigest,
+                        AtomicLong bytesReceived, ByteCountListener progressListener) throws IOException {
+    long offset = Files.exists(partialFile) ? Files.size(partialFile) : 0;
     URLConnection urlConnection = url.openConnection();
     requestProperties.forEach(urlConnection::setRequestProperty);
+    if (offset > 0 && urlConnection instanceof HttpURLConnection) {
+      urlConnection.setRequestProperty(HttpHeaders.RANGE, "bytes=" + offset + "-");
+    }
+
+    boolean resume = false;
+    if (offset > 0 && urlConnection instanceof HttpURLConnection httpConnection) {
+      int responseCode = httpConnection.getResponseCode();
+      String contentRange = httpConnection.getHeaderField(HttpHeaders.CONTENT_RANGE);
+      if (responseCode == HttpURLConnection.HTTP_PARTIAL) {
+        resume = isResumableRange(contentRange, httpConnection.getContentLengthLong(), offset);
+      }
+      if (responseCode == REQUESTED_RANGE_NOT_SATISFIABLE || responseCode == HttpURLConnection.HTTP_PARTIAL && !resume) {
+        // The partial file doesn't belong to the file on the server, start over
+        log.warn("Discarding partial file `{}` of {} bytes, the server responded with status {} and range `{}`", partialFile, offset, responseCode, contentRange);
+        httpConnection.disconnect();
+        Files.delete(partialFile);
+        transfer(url, requestProperties, partialFile, messageDigest, bytesReceived, progressListener);
+        return;
+      }
+    }
 
-    log.info("Downloading file from `{}` to `{}`", url, tempFile);
+    messageDigest.reset();
+    if (resume) {
+      log.debug("Resuming download of `{}` at {} bytes", url, offset);
+      try (InputStream inputStream = new DigestInputStream(Files.newInputStream(partialFile), messageDigest)) {
+        inputStream.transferTo(OutputStream.nullOutputStream());
+      }
+    }
 
-    ResourceLocks.acquireDownloadLock();
-    MessageDigest messageDigest = MessageDigest.getInstance("MD5");
-    try (InputStream inputStream = urlConnection.getInputStream();
-         DigestInputStream digestInputStream = new DigestInputStream(inputStream, messageDigest);
-         OutputStream outputStream = Files.newOutputStream(tempFile)) {
+    long existingBytes = resume ? offset : 0;
+    long contentLength = urlConnection.getContentLengthLong();
+    CountingInputStream countingInputStream = new CountingInputStream(urlConnection.getInputStream());
+    try (DigestInputStream digestInputStream = new DigestInputStream(countingInputStream, messageDigest);
+         OutputStream outputStream = resume
+             ? Files.newOutputStream(partialFile, StandardOpenOption.APPEND)
+             : Files.newOutputStream(partialFile)) {
 
       ByteCopier.from(digestInputStream)
           .to(outputStream)
-          .totalBytes(urlConnection.getContentLength())
-          .listener(progressListener)
+          .totalBytes(contentLength < 0 ? -1 : existingBytes + contentLength)
+          .listener((written, total) -> progressListener.updateBytesProcessed(existingBytes + written, total))
           .copy();
+    } finally {
+      bytesReceived.addAndGet(countingInputStream.getCount());
+    }
+
+    if (contentLength >= 0 && countingInputStream.getCount() < contentLength) {
+      // Keep what has been received, so that the next attempt continues from there
+      throw new EOFException("Connection to `" + url + "` closed after " + countingInputStream.getCount() + " of " + contentLength + " bytes");
+    }
+  }
+
+  /**
+   * Returns whether the specified range response continues a partial file of the specified length: it has to start
+   * right after the partial file, match the length of the response body and end before the end of the file.
+   */
+  private static boolean isResumableRange(@Nullable String contentRange, long contentLength, long offset) {
+    Matcher matcher = contentRange == null ? null : CONTENT_RANGE_PATTERN.matcher(contentRange);
+    if (matcher == null || !matcher.matches()) {
+      return false;
+    }
+    long first = Long.parseLong(matcher.group(1));
+    long last = Long.parseLong(matcher.group(2));
+    boolean sizeKnown = !matcher.group(3).equals("*");
+    return first == offset
+        && last >= first
+        && (contentLength < 0 || contentLength == last - first + 1)
+        && (!sizeKnown || Long.parseLong(matcher.group(3)) == last + 1);
+  }
+
+  /**
+   * Downloads the specified files with at most {@code parallelism} downloads running at a time, like
+   * {@link #downloadFile(List, Map, Path, ByteCountListener, String, int)}. Each download is attempted up to
+   * {@code attempts} times. Progress is reported as the sum of the progress of all files, with each file counting the
+   * same. If a file can't be downloaded, the downloads that haven't started yet are skipped and the error of the first
+   * failed file is thrown.
+   */
+  public void downloadFiles(List<FileDownload> downloads, int parallelism, int attempts,
+                            ByteCountListener progressListener) throws IOException, NoSuchAlgorithmException, ChecksumMismatchException {
+    AtomicLongArray progressPerFile = new AtomicLongArray(downloads.size());
+    AtomicLong totalProgress = new AtomicLong();
+    long totalWork = downloads.size() * PROGRESS_PER_FILE;
 
-      // NOTE: It is crucial that we verify the checksum before using the file when downloading from mirrors! We don't
-      // want to be running unverified executables!
-      String checksum = HexFormat.of().formatHex(messageDigest.digest()).toLowerCase();
-      if (!Objects.equals(md5sum, checksum)) {
-        throw new ChecksumMismatchException(url, checksum, md5sum);
+    ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, downloads.size())));
+    try {
+      List<Future<Void>> futures = new ArrayList<>(downloads.size());
+      for (int i = 0; i < downloads.size(); i++) {
+        int index = i;
+        FileDownload download = downloads.get(i);
+        ByteCountListener fileProgressListener = (written, total) -> {
+          long progress = total > 0 ? Math.min(PROGRESS_PER_FILE, written * PROGRESS_PER_FILE / total) : 0;
+          long previousProgress = progressPerFile.getAndSet(index, progress);
+          progressListener.updateBytesProcessed(totalProgress.addAndGet(progress - previousProgress), totalWork);
+        };
+        futures.add(executorService.submit(() -> {
+          downloadFile(download.mirrors(), download.requestProperties(), download.targetFile(), fileProgressListener, download.md5sum(), attempts);
+          return null;
+        }));
       }
 
-      Files.move(tempFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
-    } finally {
-      ResourceLocks.freeDownloadLock();
-      try {
-        Files.deleteIfExists(tempFile);
-      } catch (IOException e) {
-        log.warn("Could not delete temporary file: `{}`", tempFile.toAbsolutePath(), e);
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (cause instanceof ChecksumMismatchException checksumMismatchException) {
+        throw checksumMismatchException;
       }
+      if (cause instanceof NoSuchAlgorithmException noSuchAlgorithmException) {
+        throw noSuchAlgorithmException;
+      }
+      throw new IllegalStateException("Download failed", cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for downloads", e);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * @param mirrors the URLs the file can be downloaded from, in the order they should be tried
+   */
+  public record FileDownload(List<URL> mirrors, Map<String, String> requestProperties, Path targetFile,
+                             @Nullable String md5sum) {
+
+    public FileDownload {
+      mirrors = List.copyOf(mirrors);
+    }
+  }
+
+  /**
+   * @param fileSize size of the downloaded file
+   * @param bytesReceived number of bytes received in this download, which is less than the file size if a previous
+   * download was resumed and more if parts had to be downloaded again
+   * @param retries number of attempts that failed before the download succeeded
+   * @param failovers number of mirrors that were given up
+   */
+  public record DownloadStatistics(URL url, long fileSize, long bytesReceived, Duration duration, int retries,
+                                   int failovers) {
+
+    public long bytesPerSecond() {
+      long millis = duration.toMillis();
+      return millis == 0 ? bytesReceived * 1000 : bytesReceived * 1000 / millis;
     }
   }
 }
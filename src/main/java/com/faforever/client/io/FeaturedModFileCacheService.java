@@ -2,16 +2,18 @@ package com.faforever.client.io;
 
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.Preferences;
+import com.faforever.client.preferences.PreferencesService;
 import com.faforever.client.task.ResourceLocks;
 import com.faforever.client.util.UpdaterUtil;
 import com.faforever.commons.api.dto.FeaturedModFile;
-import com.google.common.hash.Hashing;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -22,22 +24,41 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.stream.Stream;
 
-import static com.google.common.io.Files.hash;
-
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class FeaturedModFileCacheService implements InitializingBean {
+  private static final String HASH_MANIFEST_FILE_NAME = "featured_mod_file_hashes.json";
+
   private final DataPrefs dataPrefs;
   private final Preferences preferences;
+  private final ObjectMapper objectMapper;
+
+  private FileHashManifest fileHashManifest;
 
   public boolean isCached(FeaturedModFile featuredModFile) throws IOException {
     return Files.exists(getCachedFilePath(featuredModFile));
   }
 
+  /**
+   * Returns the MD5 hash of the specified file. Files are only read if they changed since they were last hashed, call
+   * {@link #saveHashManifest()} to remember the hashes across restarts.
+   */
   public String readHashFromFile(Path filePath) throws IOException {
-    return hash(filePath.toFile(), Hashing.md5()).toString();
+    return getFileHashManifest().getHash(filePath);
+  }
+
+  public void saveHashManifest() {
+    getFileHashManifest().save();
+  }
+
+  private synchronized FileHashManifest getFileHashManifest() {
+    if (fileHashManifest == null) {
+      fileHashManifest = new FileHashManifest(dataPrefs.getCacheDirectory()
+          .resolve(HASH_MANIFEST_FILE_NAME), objectMapper);
+    }
+    return fileHashManifest;
   }
 
   private Path getCachedFilePath(String hash, String group) {
@@ -54,6 +75,11 @@ public class FeaturedModFileCacheService implements InitializingBean {
     return getCachedFilePath(readHashFromFile(targetPath), targetPath.getParent().getFileName().toString());
   }
 
+  /**
+   * Installs the specified file from the cache. If possible, the installed file is a hard link to the cached file so
+   * that nothing needs to be copied; if the file system doesn't support hard links or the cache is on another file
+   * system, the file is copied.
+   */
   public void copyFeaturedModFileFromCache(FeaturedModFile featuredModFile, Path targetPath) throws IOException {
     Files.createDirectories(targetPath.getParent());
     ResourceLocks.acquireDiskLock();
@@ -63,15 +89,36 @@ public class FeaturedModFileCacheService implements InitializingBean {
         //We want to keep the old file for now in case it is needed again for example for old replays
         moveFeaturedModFileToCache(targetPath);
       }
-      Files.copy(getCachedFilePath(featuredModFile), targetPath, StandardCopyOption.REPLACE_EXISTING);
+      Path cachedFilePath = getCachedFilePath(featuredModFile);
+      // The executable is patched in place after installation, which must not modify the cached file
+      if (PreferencesService.FORGED_ALLIANCE_EXE.equals(featuredModFile.getName()) || !tryLink(cachedFilePath, targetPath)) {
+        Files.copy(cachedFilePath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+      }
       UpdaterUtil.extractMoviesAndSoundsIfPresent(targetPath, dataPrefs.getBaseDataDirectory());
     } finally {
       ResourceLocks.freeDiskLock();
     }
   }
 
+  private boolean tryLink(Path cachedFilePath, Path targetPath) throws IOException {
+    Files.deleteIfExists(targetPath);
+    try {
+      Files.createLink(targetPath, cachedFilePath);
+      return true;
+    } catch (UnsupportedOperationException | FileSystemException e) {
+      log.debug("Could not link `{}` to `{}`, copying instead ({})", targetPath, cachedFilePath, e.getMessage());
+      return false;
+    }
+  }
+
   private void moveFeaturedModFileToCache(Path targetPath) throws IOException {
-    Files.move(targetPath, getCachedFilePath(targetPath), StandardCopyOption.REPLACE_EXISTING);
+    Path cachedFilePath = getCachedFilePath(targetPath);
+    if (Files.exists(cachedFilePath)) {
+      // Already cached, most likely because the installed file is a link to the cached one
+      Files.delete(targetPath);
+    } else {
+      Files.move(targetPath, cachedFilePath);
+    }
   }
 
   /**
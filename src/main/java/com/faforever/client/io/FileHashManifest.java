@@ -0,0 +1,122 @@
+package com.faforever.client.io;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.io.Files.hash;
+
+/**
+ * Remembers the MD5 hashes of files so that they only need to be read again if they changed. A file is considered
+ * unchanged as long as its size, last modified time and, where the file system provides one, its file key (the inode
+ * on Unix) are the same as when it was hashed. The manifest is persisted as JSON. Thread safe.
+ */
+@Slf4j
+class FileHashManifest {
+
+  private static final int MANIFEST_VERSION = 1;
+
+  private final Path manifestFile;
+  private final ObjectMapper objectMapper;
+  private final Map<String, Entry> entriesByPath = new ConcurrentHashMap<>();
+  private volatile boolean changed;
+
+  FileHashManifest(Path manifestFile, ObjectMapper objectMapper) {
+    this.manifestFile = manifestFile;
+    this.objectMapper = objectMapper;
+    load();
+  }
+
+  /**
+   * Returns the MD5 hash of the specified file, reading the file only if it changed since it was last hashed.
+   */
+  String getHash(Path file) throws IOException {
+    BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    String key = file.toAbsolutePath().toString();
+    Entry entry = entriesByPath.get(key);
+    if (entry != null && entry.matches(attributes)) {
+      return entry.md5();
+    }
+
+    log.trace("Hashing `{}`", file);
+    String md5 = hash(file.toFile(), Hashing.md5()).toString();
+    // Only trust the hash if the file didn't change while it was read
+    BasicFileAttributes attributesAfterHashing = Files.readAttributes(file, BasicFileAttributes.class);
+    if (Entry.of(attributes, md5).matches(attributesAfterHashing)) {
+      entriesByPath.put(key, Entry.of(attributesAfterHashing, md5));
+      changed = true;
+    }
+    return md5;
+  }
+
+  /**
+   * Writes the manifest to disk if it changed since it was last written. Entries of files that no longer exist are
+   * dropped.
+   */
+  synchronized void save() {
+    if (!changed) {
+      return;
+    }
+
+    changed = false;
+    entriesByPath.keySet().removeIf(path -> Files.notExists(Path.of(path)));
+    try {
+      Files.createDirectories(manifestFile.getParent());
+      Path temporaryManifestFile = Files.createTempFile(manifestFile.getParent(), manifestFile.getFileName()
+          .toString(), null);
+      objectMapper.writeValue(temporaryManifestFile.toFile(), new ManifestFile(MANIFEST_VERSION, Map.copyOf(entriesByPath)));
+      Files.move(temporaryManifestFile, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      changed = true;
+      log.warn("Could not write file hash manifest to `{}`", manifestFile, e);
+    }
+  }
+
+  private void load() {
+    if (Files.notExists(manifestFile)) {
+      return;
+    }
+    try {
+      ManifestFile manifest = objectMapper.readValue(manifestFile.toFile(), ManifestFile.class);
+      if (manifest.version() == MANIFEST_VERSION) {
+        entriesByPath.putAll(manifest.entries());
+      }
+    } catch (IOException e) {
+      log.warn("Could not read file hash manifest `{}`, files will be hashed again", manifestFile, e);
+    }
+  }
+
+  @VisibleForTesting
+  record ManifestFile(int version, Map<String, Entry> entries) {}
+
+  @VisibleForTesting
+  record Entry(long size, long lastModified, @Nullable String fileKey, String md5) {
+
+    static Entry of(BasicFileAttributes attributes, String md5) {
+      return new Entry(attributes.size(), attributes.lastModifiedTime()
+          .toMillis(), fileKeyOf(attributes), md5);
+    }
+
+    boolean matches(BasicFileAttributes attributes) {
+      return size == attributes.size() && lastModified == attributes.lastModifiedTime()
+          .toMillis() && Objects.equals(fileKey, fileKeyOf(attributes));
+    }
+
+    @Nullable
+    private static String fileKeyOf(BasicFileAttributes attributes) {
+      Object fileKey = attributes.fileKey();
+      return fileKey == null ? null : fileKey.toString();
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package com.faforever.client.map;
 
 import com.faforever.client.i18n.I18n;
+import com.faforever.client.io.DownloadService;
+import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.ForgedAlliancePrefs;
 import com.faforever.client.task.CompletableTask;
 import com.faforever.commons.io.Unzipper;
@@ -10,10 +12,12 @@ import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.net.URLConnection;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Objects;
 
 @Slf4j
@@ -23,16 +27,21 @@ public class DownloadMapTask extends CompletableTask<Void> {
 
   private final I18n i18n;
   private final ForgedAlliancePrefs forgedAlliancePrefs;
+  private final DataPrefs dataPrefs;
+  private final DownloadService downloadService;
 
   private URL mapUrl;
   private String folderName;
 
   @Autowired
-  public DownloadMapTask(I18n i18n, ForgedAlliancePrefs forgedAlliancePrefs) {
+  public DownloadMapTask(I18n i18n, ForgedAlliancePrefs forgedAlliancePrefs, DataPrefs dataPrefs,
+                         DownloadService downloadService) {
     super(Priority.HIGH);
 
     this.forgedAlliancePrefs = forgedAlliancePrefs;
     this.i18n = i18n;
+    this.dataPrefs = dataPrefs;
+    this.downloadService = downloadService;
   }
 
   @Override
@@ -43,18 +52,26 @@ public class DownloadMapTask extends CompletableTask<Void> {
     updateTitle(i18n.get("mapDownloadTask.title", folderName));
     log.info("Downloading map `{}` from `{}`", folderName, mapUrl);
 
-    URLConnection urlConnection = mapUrl.openConnection();
-    int bytesToRead = urlConnection.getContentLength();
+    // Downloading to a file first allows an interrupted download to be resumed
+    Path mapArchive = dataPrefs.getCacheDirectory().resolve(folderName + ".zip");
+    Files.createDirectories(mapArchive.getParent());
+    downloadService.downloadFile(mapUrl, Map.of(), mapArchive, this::updateProgress, null);
 
     Path targetDirectory = forgedAlliancePrefs.getMapsDirectory();
 
-    try (InputStream inputStream = urlConnection.getInputStream()) {
+    try (InputStream inputStream = Files.newInputStream(mapArchive)) {
       Unzipper.from(inputStream)
           .zipBombByteCountThreshold(100_000_000)
           .to(targetDirectory)
-          .totalBytes(bytesToRead)
+          .totalBytes(Files.size(mapArchive))
           .listener(this::updateProgress)
           .unzip();
+    } finally {
+      try {
+        Files.deleteIfExists(mapArchive);
+      } catch (IOException e) {
+        log.warn("Could not delete map archive `{}`", mapArchive, e);
+      }
     }
 
     return null;
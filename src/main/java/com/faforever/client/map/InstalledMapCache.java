@@ -0,0 +1,160 @@
+package com.faforever.client.map;
+
+import com.faforever.client.domain.MapBean;
+import com.faforever.client.domain.MapBean.MapType;
+import com.faforever.client.domain.MapVersionBean;
+import com.faforever.client.preferences.DataPrefs;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Remembers what has been read from the scenario files of installed maps, so that maps only need to be read again if
+ * their scenario file changed. Entries are keyed by the scenario file's path, size and last modified time and are
+ * persisted in the cache directory. Thread safe.
+ */
+@Lazy
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class InstalledMapCache {
+
+  @VisibleForTesting
+  static final String CACHE_FILE_NAME = "installed_maps.json";
+  private static final int CACHE_VERSION = 1;
+
+  private final DataPrefs dataPrefs;
+  private final ObjectMapper objectMapper;
+
+  private final Map<String, Entry> entriesByScenarioFile = new ConcurrentHashMap<>();
+  private volatile boolean loaded;
+  private volatile boolean changed;
+
+  /**
+   * Returns the map read from the specified scenario file before, or {@code null} if it hasn't been read or has
+   * changed since.
+   */
+  @Nullable
+  public MapVersionBean get(Path scenarioFile, BasicFileAttributes attributes) {
+    loadIfNecessary();
+    Entry entry = entriesByScenarioFile.get(scenarioFile.toAbsolutePath().toString());
+    if (entry == null || entry.size() != attributes.size() || entry.lastModified() != attributes.lastModifiedTime()
+        .toMillis()) {
+      return null;
+    }
+    return entry.toMapVersion();
+  }
+
+  public void put(Path scenarioFile, BasicFileAttributes attributes, MapVersionBean mapVersion) {
+    loadIfNecessary();
+    entriesByScenarioFile.put(scenarioFile.toAbsolutePath()
+        .toString(), Entry.of(mapVersion, attributes.size(), attributes.lastModifiedTime().toMillis()));
+    changed = true;
+  }
+
+  /**
+   * Removes all entries except the ones of the specified scenario files.
+   */
+  public void retainAll(Collection<Path> scenarioFiles) {
+    loadIfNecessary();
+    Set<String> keys = scenarioFiles.stream()
+        .map(scenarioFile -> scenarioFile.toAbsolutePath().toString())
+        .collect(Collectors.toSet());
+    changed |= entriesByScenarioFile.keySet().retainAll(keys);
+  }
+
+  /**
+   * Writes the cache to disk if it changed since it was last written.
+   */
+  public synchronized void save() {
+    if (!changed) {
+      return;
+    }
+
+    Path cacheFile = getCacheFile();
+    try {
+      Files.createDirectories(cacheFile.getParent());
+      Path temporaryCacheFile = Files.createTempFile(cacheFile.getParent(), CACHE_FILE_NAME, null);
+      changed = false;
+      objectMapper.writeValue(temporaryCacheFile.toFile(), new CacheFile(CACHE_VERSION, Map.copyOf(entriesByScenarioFile)));
+      Files.move(temporaryCacheFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      changed = true;
+      log.warn("Could not write installed map cache to `{}`", cacheFile, e);
+    }
+  }
+
+  private void loadIfNecessary() {
+    if (loaded) {
+      return;
+    }
+    synchronized (this) {
+      if (loaded) {
+        return;
+      }
+      Path cacheFile = getCacheFile();
+      if (Files.exists(cacheFile)) {
+        try {
+          CacheFile cache = objectMapper.readValue(cacheFile.toFile(), CacheFile.class);
+          if (cache.version() == CACHE_VERSION) {
+            entriesByScenarioFile.putAll(cache.entries());
+          }
+        } catch (IOException e) {
+          log.warn("Could not read installed map cache `{}`, maps will be read again", cacheFile, e);
+        }
+      }
+      loaded = true;
+    }
+  }
+
+  private Path getCacheFile() {
+    return dataPrefs.getCacheDirectory().resolve(CACHE_FILE_NAME);
+  }
+
+  @VisibleForTesting
+  record CacheFile(int version, Map<String, Entry> entries) {}
+
+  @VisibleForTesting
+  record Entry(long size, long lastModified, String folderName, String displayName, String description,
+               MapType mapType, int width, int height, int maxPlayers, @Nullable String version) {
+
+    static Entry of(MapVersionBean mapVersion, long size, long lastModified) {
+      MapBean map = mapVersion.getMap();
+      MapSize mapSize = mapVersion.getSize();
+      ComparableVersion version = mapVersion.getVersion();
+      return new Entry(size, lastModified, mapVersion.getFolderName(), map.getDisplayName(), mapVersion.getDescription(), map.getMapType(), mapSize.getWidthInPixels(), mapSize.getHeightInPixels(), mapVersion.getMaxPlayers(), version == null ? null : version.toString());
+    }
+
+    MapVersionBean toMapVersion() {
+      MapVersionBean mapVersion = new MapVersionBean();
+      MapBean map = new MapBean();
+      mapVersion.setFolderName(folderName);
+      map.setDisplayName(displayName);
+      mapVersion.setDescription(description);
+      map.setMapType(mapType);
+      mapVersion.setSize(MapSize.valueOf(width, height));
+      mapVersion.setMaxPlayers(maxPlayers);
+      mapVersion.setMap(map);
+      if (version != null) {
+        mapVersion.setVersion(new ComparableVersion(version));
+      }
+      return mapVersion;
+    }
+  }
+}
@@ -12,6 +12,7 @@ import com.faforever.client.domain.PlayerBean;
 import com.faforever.client.exception.AssetLoadException;
 import com.faforever.client.fa.FaStrings;
 import com.faforever.client.fx.FxApplicationThreadExecutor;
+import com.faforever.client.fx.IndexedObservableList;
 import com.faforever.client.fx.JavaFxUtil;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.map.generator.MapGeneratorService;
@@ -24,6 +25,7 @@ import com.faforever.client.preferences.Preferences;
 import com.faforever.client.remote.AssetService;
 import com.faforever.client.task.CompletableTask;
 import com.faforever.client.task.CompletableTask.Priority;
+import com.faforever.client.task.CompletableTask.ResourceClass;
 import com.faforever.client.task.TaskService;
 import com.faforever.client.theme.ThemeService;
 import com.faforever.client.theme.UiService;
@@ -60,7 +62,6 @@ import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.luaj.vm2.LuaError;
-import org.luaj.vm2.LuaValue;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.ObjectFactory;
@@ -83,18 +84,23 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
-import static com.faforever.client.util.LuaUtil.loadFile;
 import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
 import static com.google.common.net.UrlEscapers.urlFragmentEscaper;
 import static java.lang.String.format;
@@ -113,6 +119,11 @@ public class MapService implements InitializingBean, DisposableBean {
 
   public static final String DEBUG = "debug";
   private static final String MAP_VERSION_REGEX = ".*[.v](?<version>\\d{4})$"; // Matches to an string like 'adaptive_twin_rivers.v0031'
+  /**
+   * Reading maps is mostly IO and Lua evaluation, so a few concurrent reads are enough to keep the disk busy. The reads
+   * run on virtual threads within the disk task that scans the maps, so no threads are kept around after a scan.
+   */
+  private static final int MAP_SCAN_PARALLELISM = Math.min(4, Runtime.getRuntime().availableProcessors());
 
   private final NotificationService notificationService;
   private final TaskService taskService;
@@ -132,10 +143,11 @@ public class MapService implements InitializingBean, DisposableBean {
   private final ObjectFactory<DownloadMapTask> downloadMapTaskFactory;
   private final ObjectFactory<UninstallMapTask> uninstallMapTaskFactory;
   private final FxApplicationThreadExecutor fxApplicationThreadExecutor;
+  private final InstalledMapCache installedMapCache;
 
   private final ObservableMap<String, MapVersionBean> mapsByFolderName = FXCollections.observableHashMap();
   @Getter
-  private final ObservableList<MapVersionBean> installedMaps = JavaFxUtil.attachListToMap(FXCollections.synchronizedObservableList(FXCollections.observableArrayList()), mapsByFolderName);
+  private final ObservableList<MapVersionBean> installedMaps = JavaFxUtil.attachListToMap(FXCollections.synchronizedObservableList(new IndexedObservableList<>()), mapsByFolderName);
   private final InvalidationListener mapsDirectoryInvalidationListener = observable -> tryLoadMaps();
   private String mapDownloadUrlFormat;
   private String mapPreviewUrlFormat;
@@ -227,7 +239,7 @@ public class MapService implements InitializingBean, DisposableBean {
   }
 
   private void loadInstalledMaps() {
-    taskService.submitTask(new CompletableTask<Void>(Priority.LOW) {
+    taskService.submitTask(new CompletableTask<Void>(Priority.LOW, ResourceClass.DISK) {
 
       @Override
       protected Void call() {
@@ -239,20 +251,41 @@ public class MapService implements InitializingBean, DisposableBean {
           officialMaps.stream()
               .map(officialMapsPath::resolve)
               .collect(toCollection(() -> mapPaths));
+          mapPaths.removeIf(mapPath -> mapPath.getFileName().toString().equals(DEBUG));
 
           long totalMaps = mapPaths.size();
-          long mapsRead = 0;
-          for (Path mapPath : mapPaths) {
-            if (mapPath.getFileName().toString().equals(DEBUG)) {
-              continue;
-            }
-            updateProgress(++mapsRead, totalMaps);
-            try {
-              addInstalledMap(mapPath);
-            } catch (MapLoadException exception) {
-              log.error("Map could not be read: `{}`", mapPath, exception);
-            }
+          AtomicLong mapsRead = new AtomicLong();
+          List<CompletableFuture<InstalledMap>> installedMapFutures;
+          Semaphore scanPermits = new Semaphore(MAP_SCAN_PARALLELISM);
+          try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            installedMapFutures = mapPaths.stream()
+                .map(mapPath -> CompletableFuture.supplyAsync(() -> {
+                  scanPermits.acquireUninterruptibly();
+                  try {
+                    return readInstalledMap(mapPath);
+                  } catch (RuntimeException exception) {
+                    // Includes errors evaluating the map's Lua files, which must not keep the other maps from loading
+                    log.error("Map could not be read: `{}`", mapPath, exception);
+                    return null;
+                  } finally {
+                    scanPermits.release();
+                    updateProgress(mapsRead.incrementAndGet(), totalMaps);
+                  }
+                }, executorService))
+                .toList();
           }
+
+          List<InstalledMap> installedMaps = installedMapFutures.stream()
+              .map(CompletableFuture::join)
+              .filter(Objects::nonNull)
+              .toList();
+          installedMapCache.retainAll(installedMaps.stream().map(InstalledMap::scenarioFile).toList());
+          installedMapCache.save();
+
+          fxApplicationThreadExecutor.execute(() -> installedMaps.forEach(installedMap -> mapsByFolderName.putIfAbsent(installedMap.mapVersion()
+              .getFolderName()
+              .toLowerCase(Locale.ROOT), installedMap.mapVersion())));
+          log.debug("Added {} installed maps", installedMaps.size());
         } catch (IOException e) {
           log.error("Maps could not be read from: `{}`", forgedAlliancePrefs.getMapsDirectory(), e);
         }
@@ -261,6 +294,24 @@ public class MapService implements InitializingBean, DisposableBean {
     });
   }
 
+  /**
+   * Reads the installed map in the specified folder, using the cached result if its scenario file didn't change.
+   */
+  private InstalledMap readInstalledMap(Path mapFolder) throws MapLoadException {
+    Path scenarioLuaPath = findScenarioFile(mapFolder);
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(scenarioLuaPath, BasicFileAttributes.class);
+      MapVersionBean mapVersion = installedMapCache.get(scenarioLuaPath, attributes);
+      if (mapVersion == null) {
+        mapVersion = readScenario(mapFolder, scenarioLuaPath);
+        installedMapCache.put(scenarioLuaPath, attributes, mapVersion);
+      }
+      return new InstalledMap(scenarioLuaPath, mapVersion);
+    } catch (IOException e) {
+      throw new MapLoadException("Could not load map due to IO error" + mapFolder.toAbsolutePath(), e, "map.load.ioError", mapFolder.toAbsolutePath());
+    }
+  }
+
   private void removeMap(Path mapFolder) {
     mapsByFolderName.remove(mapFolder.getFileName().toString().toLowerCase(Locale.ROOT));
   }
@@ -276,38 +327,40 @@ public class MapService implements InitializingBean, DisposableBean {
 
   @NotNull
   public MapVersionBean readMap(Path mapFolder) throws MapLoadException {
+    return readScenario(mapFolder, findScenarioFile(mapFolder));
+  }
+
+  private Path findScenarioFile(Path mapFolder) throws MapLoadException {
     if (!Files.isDirectory(mapFolder)) {
       throw new MapLoadException("Not a folder: " + mapFolder.toAbsolutePath(), null, "map.load.notAFolder", mapFolder.toAbsolutePath());
     }
 
     try (Stream<Path> mapFolderFilesStream = list(mapFolder)) {
-      Path scenarioLuaPath = mapFolderFilesStream
+      return mapFolderFilesStream
           .filter(file -> file.getFileName().toString().endsWith("_scenario.lua"))
           .findFirst()
           .orElseThrow(() -> new MapLoadException("Map folder does not contain a *_scenario.lua: " + mapFolder.toAbsolutePath(), null, "map.load.noScenario", mapFolder.toAbsolutePath()));
+    } catch (IOException e) {
+      throw new MapLoadException("Could not load map due to IO error" + mapFolder.toAbsolutePath(), e, "map.load.ioError", mapFolder.toAbsolutePath());
+    }
+  }
 
-      LuaValue luaRoot = loadFile(scenarioLuaPath);
-      LuaValue scenarioInfo = luaRoot.get("ScenarioInfo");
-      LuaValue size = scenarioInfo.get("size");
+  private MapVersionBean readScenario(Path mapFolder, Path scenarioLuaPath) throws MapLoadException {
+    try {
+      ScenarioInfo scenarioInfo = ScenarioInfo.read(scenarioLuaPath);
 
       MapVersionBean mapVersion = new MapVersionBean();
       MapBean map = new MapBean();
       mapVersion.setFolderName(mapFolder.getFileName().toString());
-      map.setDisplayName(scenarioInfo.get("name").toString());
-      mapVersion.setDescription(FaStrings.removeLocalizationTag(scenarioInfo.get("description").toString()));
-      map.setMapType(MapType.fromString(scenarioInfo.get("type").toString()));
-      mapVersion.setSize(MapSize.valueOf(size.get(1).toint(), size.get(2).toint()));
-      mapVersion.setMaxPlayers(scenarioInfo.get("Configurations")
-          .get("standard")
-          .get("teams")
-          .get(1)
-          .get("armies")
-          .length());
+      map.setDisplayName(scenarioInfo.name());
+      mapVersion.setDescription(FaStrings.removeLocalizationTag(scenarioInfo.description()));
+      map.setMapType(MapType.fromString(scenarioInfo.type()));
+      mapVersion.setSize(MapSize.valueOf(scenarioInfo.width(), scenarioInfo.height()));
+      mapVersion.setMaxPlayers(scenarioInfo.maxPlayers());
       mapVersion.setMap(map);
 
-      LuaValue version = scenarioInfo.get("map_version");
-      if (!version.isnil()) {
-        mapVersion.setVersion(new ComparableVersion(version.toString()));
+      if (scenarioInfo.version() != null) {
+        mapVersion.setVersion(new ComparableVersion(scenarioInfo.version()));
       }
 
       return mapVersion;
@@ -737,4 +790,6 @@ public class MapService implements InitializingBean, DisposableBean {
                 .collect(toList())
         )).toFuture();
   }
+
+  private record InstalledMap(Path scenarioFile, MapVersionBean mapVersion) {}
 }
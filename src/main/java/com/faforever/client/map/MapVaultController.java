@@ -118,11 +118,16 @@ public class MapVaultController extends VaultEntityController<MapVersionBean> {
 
   @Override
   protected VaultEntityCardController<MapVersionBean> createEntityCard() {
-    MapCardController controller = uiService.loadFxml("theme/vault/map/map_card.fxml");
+    MapCardController controller = uiService.acquireFxml(UiService.MAP_CARD);
     controller.setOnOpenDetailListener(this::onDisplayDetails);
     return controller;
   }
 
+  @Override
+  protected void releaseEntityCard(VaultEntityCardController<MapVersionBean> entityCard) {
+    uiService.releaseFxml(UiService.MAP_CARD, entityCard);
+  }
+
   @Override
   protected List<ShowRoomCategory> getShowRoomCategories() {
 return List.of(
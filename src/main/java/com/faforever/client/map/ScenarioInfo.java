@@ -0,0 +1,121 @@
+package com.faforever.client.map;
+
+import com.faforever.client.util.LuaLiteralParser;
+import com.faforever.client.util.LuaLiteralParser.UnsupportedSyntaxException;
+import com.faforever.client.util.LuaUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+import org.luaj.vm2.LuaError;
+import org.luaj.vm2.LuaValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The values the client needs from the {@code ScenarioInfo} table of a map's {@code _scenario.lua}.
+ */
+@Slf4j
+record ScenarioInfo(String name, String description, String type, int width, int height, int maxPlayers,
+                    @Nullable String version) {
+
+  /**
+   * Reads the specified scenario file. Scenario files are plain table literals, so they are read without a Lua VM
+   * unless they contain anything that needs to be evaluated, or the values don't have the expected types.
+   *
+   * @throws LuaError if the scenario file had to be evaluated and isn't valid
+   */
+  static ScenarioInfo read(Path scenarioFile) throws IOException {
+    byte[] bytes = Files.readAllBytes(scenarioFile);
+    try {
+      return parse(new String(bytes, UTF_8));
+    } catch (UnsupportedSyntaxException e) {
+      log.debug("Scenario file `{}` has to be evaluated: {}", scenarioFile, e.getMessage());
+      return evaluate(scenarioFile);
+    }
+  }
+
+  /**
+   * Reads the scenario info from the specified scenario file source without evaluating it.
+   */
+  static ScenarioInfo parse(String source) throws UnsupportedSyntaxException {
+    Map<String, Object> globals = LuaLiteralParser.parseAssignments(source);
+    Map<?, ?> scenarioInfo = getTable(globals, "ScenarioInfo");
+    Map<?, ?> size = getTable(scenarioInfo, "size");
+    Map<?, ?> armies = getTable(getTable(getTable(getTable(getTable(scenarioInfo, "Configurations"), "standard"), "teams"), 1L), "armies");
+
+    int armyCount = 0;
+    while (armies.containsKey(armyCount + 1L)) {
+      armyCount++;
+    }
+
+    return new ScenarioInfo(getString(scenarioInfo, "name"), getString(scenarioInfo, "description"), getString(scenarioInfo, "type"), getInt(size, 1L), getInt(size, 2L), armyCount, getVersion(scenarioInfo));
+  }
+
+  /**
+   * Reads the scenario info by evaluating the specified scenario file in a Lua VM.
+   *
+   * @throws LuaError if the scenario file isn't valid
+   */
+  static ScenarioInfo evaluate(Path scenarioFile) throws IOException {
+    LuaValue luaRoot = LuaUtil.loadFile(scenarioFile);
+    LuaValue scenarioInfo = luaRoot.get("ScenarioInfo");
+    LuaValue size = scenarioInfo.get("size");
+    LuaValue version = scenarioInfo.get("map_version");
+
+    return new ScenarioInfo(scenarioInfo.get("name").toString(), scenarioInfo.get("description")
+        .toString(), scenarioInfo.get("type").toString(), size.get(1).toint(), size.get(2).toint(), scenarioInfo.get("Configurations")
+        .get("standard")
+        .get("teams")
+        .get(1)
+        .get("armies")
+        .length(), version.isnil() ? null : version.toString());
+  }
+
+  private static Map<?, ?> getTable(Map<?, ?> table, Object key) throws UnsupportedSyntaxException {
+    if (table.get(key) instanceof Map<?, ?> value) {
+      return value;
+    }
+    throw new UnsupportedSyntaxException("'" + key + "' is not a table");
+  }
+
+  private static String getString(Map<?, ?> table, String key) throws UnsupportedSyntaxException {
+    if (table.get(key) instanceof String value) {
+      return value;
+    }
+    throw new UnsupportedSyntaxException("'" + key + "' is not a string");
+  }
+
+  private static int getInt(Map<?, ?> table, Object key) throws UnsupportedSyntaxException {
+    Object value = table.get(key);
+    if (value instanceof Long longValue) {
+      return longValue.intValue();
+    }
+    if (value instanceof Double doubleValue) {
+      return doubleValue.intValue();
+    }
+    throw new UnsupportedSyntaxException("'" + key + "' is not a number");
+  }
+
+  /**
+   * Returns the map version as Lua would print it. Fractional versions are left to Lua since its number formatting
+   * differs from Java's.
+   */
+  @Nullable
+  private static String getVersion(Map<?, ?> scenarioInfo) throws UnsupportedSyntaxException {
+    Object version = scenarioInfo.get("map_version");
+    if (version == null || version instanceof String) {
+      return (String) version;
+    }
+    if (version instanceof Long longVersion) {
+      return longVersion.toString();
+    }
+    if (version instanceof Double doubleVersion && doubleVersion == Math.rint(doubleVersion) && Math.abs(doubleVersion) < Long.MAX_VALUE) {
+      return Long.toString(doubleVersion.longValue());
+    }
+    throw new UnsupportedSyntaxException("Unsupported map_version '" + version + "'");
+  }
+}
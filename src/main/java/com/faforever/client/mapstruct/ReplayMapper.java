@@ -6,6 +6,8 @@ import com.faforever.client.domain.LeaderboardRatingJournalBean;
 import com.faforever.client.domain.MapVersionBean;
 import com.faforever.client.domain.PlayerBean;
 import com.faforever.client.domain.ReplayBean;
+import com.faforever.client.replay.LocalReplayIndexEntry;
+import com.faforever.client.replay.LocalReplayIndexEntry.Army;
 import com.faforever.commons.api.dto.Faction;
 import com.faforever.commons.api.dto.Game;
 import com.faforever.commons.api.dto.GamePlayerStats;
@@ -102,38 +104,69 @@ public interface ReplayMapper {
 
   @MapTeams
   default Map<String, List<String>> mapTeamsFromParser(ReplayDataParser parser) {
+    return mapTeams(mapArmies(parser));
+  }
+
+  @MapTeamStats
+  default HashMap<String, List<GamePlayerStatsBean>> mapTeamStatsFromParser(ReplayDataParser parser) {
+    return mapTeamStats(mapArmies(parser));
+  }
+
+  default List<Army> mapArmies(ReplayDataParser parser) {
     return parser.getArmies()
         .values()
         .stream()
         .filter(armyInfo -> !((boolean) armyInfo.get("Human")))
-        .collect(Collectors.groupingBy(armyInfo -> String.valueOf(((Float) armyInfo.get("Team")).intValue()), Collectors.mapping(armyInfo -> (String) armyInfo.get("PlayerName"), Collectors.toList())));
+        .map(armyInfo -> new Army(Integer.parseInt((String) armyInfo.get("OwnerID")), (String) armyInfo.get("PlayerName"), (String) armyInfo.get("Country"), ((Float) armyInfo.get("Team")).intValue(), ((Float) armyInfo.get("Faction")).intValue(), ((Float) armyInfo.get("MEAN")).doubleValue(), ((Float) armyInfo.get("DEV")).doubleValue()))
+        .toList();
   }
 
-  @MapTeamStats
-  default HashMap<String, List<GamePlayerStatsBean>> mapTeamStatsFromParser(ReplayDataParser parser) {
+  default Map<String, List<String>> mapTeams(List<Army> armies) {
+    return armies.stream()
+        .collect(Collectors.groupingBy(army -> String.valueOf(army.team()), Collectors.mapping(Army::playerName, Collectors.toList())));
+  }
+
+  default HashMap<String, List<GamePlayerStatsBean>> mapTeamStats(List<Army> armies) {
     HashMap<String, List<GamePlayerStatsBean>> teams = new HashMap<>();
-    parser.getArmies().values().forEach(armyInfo -> {
-      if (!(boolean) armyInfo.get("Human")) {
-        int team = ((Float) armyInfo.get("Team")).intValue();
-        String teamString = String.valueOf(team);
-        PlayerBean player = new PlayerBean();
-        player.setId(Integer.parseInt((String) armyInfo.get("OwnerID")));
-        player.setUsername((String) armyInfo.get("PlayerName"));
-        player.setCountry((String) armyInfo.get("Country"));
-        LeaderboardRatingJournalBean ratingJournal = new LeaderboardRatingJournalBean();
-        ratingJournal.setMeanBefore(((Float) armyInfo.get("MEAN")).doubleValue());
-        ratingJournal.setDeviationBefore(((Float) armyInfo.get("DEV")).doubleValue());
-        GamePlayerStatsBean stats = new GamePlayerStatsBean();
-        stats.setFaction(Faction.fromFaValue(((Float) armyInfo.get("Faction")).intValue()));
-        stats.setTeam(team);
-        stats.setLeaderboardRatingJournals(List.of(ratingJournal));
-        stats.setPlayer(player);
-        teams.computeIfAbsent(teamString, key -> new ArrayList<>()).add(stats);
-      }
+    armies.forEach(army -> {
+      PlayerBean player = new PlayerBean();
+      player.setId(army.ownerId());
+      player.setUsername(army.playerName());
+      player.setCountry(army.country());
+      LeaderboardRatingJournalBean ratingJournal = new LeaderboardRatingJournalBean();
+      ratingJournal.setMeanBefore(army.mean());
+      ratingJournal.setDeviationBefore(army.deviation());
+      GamePlayerStatsBean stats = new GamePlayerStatsBean();
+      stats.setFaction(Faction.fromFaValue(army.faction()));
+      stats.setTeam(army.team());
+      stats.setLeaderboardRatingJournals(List.of(ratingJournal));
+      stats.setPlayer(player);
+      teams.computeIfAbsent(String.valueOf(army.team()), key -> new ArrayList<>()).add(stats);
     });
     return teams;
   }
 
+  default ReplayBean map(LocalReplayIndexEntry entry, Path replayFile, FeaturedModBean featuredModBean,
+                         MapVersionBean mapVersionBean) {
+    ReplayBean replay = new ReplayBean();
+    replay.setLocal(true);
+    if (entry.uid() != null) {
+      replay.setId(entry.uid());
+    }
+    replay.setTitle(entry.title());
+    replay.setReplayAvailable(true);
+    replay.setFeaturedMod(featuredModBean);
+    replay.setMapVersion(mapVersionBean);
+    replay.setReplayFile(replayFile);
+    replay.setStartTime(fromPythonTime(entry.startTime()));
+    replay.setEndTime(fromPythonTime(entry.endTime()));
+    if (entry.armies() != null) {
+      replay.setTeamPlayerStats(mapTeamStats(entry.armies()));
+    }
+    replay.setTeams(entry.teams());
+    return replay;
+  }
+
   @Mapping(target = "name", source = "title")
   Game map(ReplayBean bean, @Context CycleAvoidingMappingContext context);
 
@@ -1,11 +1,11 @@
 package com.faforever.client.mod;
 
 import com.faforever.client.i18n.I18n;
+import com.faforever.client.io.DownloadService;
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.ForgedAlliancePrefs;
 import com.faforever.client.task.CompletableTask;
 import com.faforever.client.task.ResourceLocks;
-import com.faforever.commons.io.ByteCopier;
 import com.faforever.commons.io.Unzipper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.compress.archivers.ArchiveException;
@@ -17,11 +17,10 @@ import org.springframework.util.FileSystemUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.net.URL;
-import java.net.URLConnection;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Objects;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
@@ -36,49 +35,42 @@ public class DownloadModTask extends CompletableTask<Void> {
   private final I18n i18n;
   private final DataPrefs dataPrefs;
   private final ForgedAlliancePrefs forgedAlliancePrefs;
+  private final DownloadService downloadService;
 
   private URL url;
 
   @Autowired
-  public DownloadModTask(I18n i18n, DataPrefs dataPrefs, ForgedAlliancePrefs forgedAlliancePrefs) {
+  public DownloadModTask(I18n i18n, DataPrefs dataPrefs, ForgedAlliancePrefs forgedAlliancePrefs,
+                         DownloadService downloadService) {
     super(HIGH);
 
     this.i18n = i18n;
     this.dataPrefs = dataPrefs;
     this.forgedAlliancePrefs = forgedAlliancePrefs;
+    this.downloadService = downloadService;
   }
 
   @Override
   protected Void call() throws Exception {
     Objects.requireNonNull(url, "url has not been set");
 
-    Path tempFile = Files.createTempFile(dataPrefs.getCacheDirectory(), "mod", null);
+    // Downloading to a file named after the URL allows an interrupted download to be resumed
+    String fileName = url.getPath().substring(url.getPath().lastIndexOf('/') + 1);
+    Path modArchive = dataPrefs.getCacheDirectory().resolve(fileName.isEmpty() ? "mod.zip" : fileName);
 
-    log.info("Downloading mod from `{}` to `{}`", url, tempFile);
+    log.info("Downloading mod from `{}` to `{}`", url, modArchive);
     updateTitle(i18n.get("downloadingModTask.downloading", url));
 
-    Files.createDirectories(tempFile.getParent());
+    Files.createDirectories(modArchive.getParent());
 
-    URLConnection urlConnection = url.openConnection();
-    int contentLength = urlConnection.getContentLength();
-
-    ResourceLocks.acquireDownloadLock();
-    try (InputStream inputStream = urlConnection.getInputStream();
-         OutputStream outputStream = Files.newOutputStream(tempFile)) {
-
-      ByteCopier.from(inputStream)
-          .to(outputStream)
-          .listener(this::updateProgress)
-          .totalBytes(contentLength)
-          .copy();
-
-      extractMod(tempFile);
+    try {
+      downloadService.downloadFile(url, Map.of(), modArchive, this::updateProgress, null);
+      extractMod(modArchive);
     } finally {
-      ResourceLocks.freeDownloadLock();
       try {
-        Files.deleteIfExists(tempFile);
+        Files.deleteIfExists(modArchive);
       } catch (IOException e) {
-        log.warn("Could not delete temporary file: " + tempFile.toAbsolutePath(), e);
+        log.warn("Could not delete mod archive: " + modArchive.toAbsolutePath(), e);
       }
     }
     return null;
@@ -0,0 +1,195 @@
+package com.faforever.client.mod;
+
+import com.faforever.client.domain.ModBean;
+import com.faforever.client.domain.ModVersionBean;
+import com.faforever.client.domain.ModVersionBean.ModType;
+import com.faforever.client.preferences.DataPrefs;
+import com.faforever.commons.mod.MountInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Remembers what has been read from the mod_info.lua files of installed mods, so that mods only need to be evaluated
+ * again if their mod_info.lua changed. Entries are keyed by the mod_info.lua's path, size, last modified time and file
+ * key (e.g. the inode) and are persisted in the cache directory. Thread safe.
+ */
+@Lazy
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class InstalledModCache {
+
+  @VisibleForTesting
+  static final String CACHE_FILE_NAME = "installed_mods.json";
+  private static final int CACHE_VERSION = 2;
+
+  private final DataPrefs dataPrefs;
+  private final ObjectMapper objectMapper;
+
+  private final Map<String, Entry> entriesByModInfoFile = new ConcurrentHashMap<>();
+  private volatile boolean loaded;
+  private volatile boolean changed;
+
+  /**
+   * Returns the mod read from the specified mod_info.lua before, or {@code null} if it hasn't been read or has changed
+   * since.
+   */
+  @Nullable
+  public ModVersionBean get(Path modInfoFile, BasicFileAttributes attributes) {
+    loadIfNecessary();
+    Entry entry = entriesByModInfoFile.get(modInfoFile.toAbsolutePath().toString());
+    if (entry == null || entry.size() != attributes.size() || entry.lastModified() != attributes.lastModifiedTime()
+        .toMillis() || !Objects.equals(entry.fileKey(), fileKeyOf(attributes))) {
+      return null;
+    }
+    return entry.toModVersion(modInfoFile.getParent());
+  }
+
+  public void put(Path modInfoFile, BasicFileAttributes attributes, ModVersionBean modVersion) {
+    loadIfNecessary();
+    entriesByModInfoFile.put(modInfoFile.toAbsolutePath()
+        .toString(), Entry.of(modVersion, modInfoFile.getParent(), attributes.size(), attributes.lastModifiedTime()
+        .toMillis(), fileKeyOf(attributes)));
+    changed = true;
+  }
+
+  /**
+   * Removes all entries except the ones of the specified mod_info.lua files.
+   */
+  public void retainAll(Collection<Path> modInfoFiles) {
+    loadIfNecessary();
+    Set<String> keys = modInfoFiles.stream()
+        .map(modInfoFile -> modInfoFile.toAbsolutePath().toString())
+        .collect(Collectors.toSet());
+    changed |= entriesByModInfoFile.keySet().retainAll(keys);
+  }
+
+  /**
+   * Writes the cache to disk if it changed since it was last written.
+   */
+  public synchronized void save() {
+    if (!changed) {
+      return;
+    }
+
+    Path cacheFile = getCacheFile();
+    try {
+      Files.createDirectories(cacheFile.getParent());
+      Path temporaryCacheFile = Files.createTempFile(cacheFile.getParent(), CACHE_FILE_NAME, null);
+      changed = false;
+      objectMapper.writeValue(temporaryCacheFile.toFile(), new CacheFile(CACHE_VERSION, Map.copyOf(entriesByModInfoFile)));
+      Files.move(temporaryCacheFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      changed = true;
+      log.warn("Could not write installed mod cache to `{}`", cacheFile, e);
+    }
+  }
+
+  private void loadIfNecessary() {
+    if (loaded) {
+      return;
+    }
+    synchronized (this) {
+      if (loaded) {
+        return;
+      }
+      Path cacheFile = getCacheFile();
+      if (Files.exists(cacheFile)) {
+        try {
+          CacheFile cache = objectMapper.readValue(cacheFile.toFile(), CacheFile.class);
+          if (cache.version() == CACHE_VERSION) {
+            entriesByModInfoFile.putAll(cache.entries());
+          }
+        } catch (IOException e) {
+          log.warn("Could not read installed mod cache `{}`, mods will be read again", cacheFile, e);
+        }
+      }
+      loaded = true;
+    }
+  }
+
+  /**
+   * Returns the file key as a string, or {@code null} on file systems that don't provide one.
+   */
+  @Nullable
+  private static String fileKeyOf(BasicFileAttributes attributes) {
+    return Objects.toString(attributes.fileKey(), null);
+  }
+
+  private Path getCacheFile() {
+    return dataPrefs.getCacheDirectory().resolve(CACHE_FILE_NAME);
+  }
+
+  @VisibleForTesting
+  record CacheFile(int version, Map<String, Entry> entries) {}
+
+  @VisibleForTesting
+  record MountPoint(String file, String mountPoint) {}
+
+  /**
+   * The image path is stored relative to the mod folder, so that a moved mods directory doesn't point to the old one.
+   */
+  @VisibleForTesting
+  record Entry(long size, long lastModified, @Nullable String fileKey, String uid, String displayName, String author,
+               String description, @Nullable String version, boolean selectable, ModType modType, @Nullable String icon,
+               @Nullable String imagePath, List<MountPoint> mountPoints, List<String> hookDirectories) {
+
+    static Entry of(ModVersionBean modVersion, Path modFolder, long size, long lastModified, @Nullable String fileKey) {
+      ModBean mod = modVersion.getMod();
+      ComparableVersion version = modVersion.getVersion();
+      Path imagePath = modVersion.getImagePath();
+      List<MountPoint> mountPoints = modVersion.getMountPoints()
+          .stream()
+          .map(mountInfo -> new MountPoint(mountInfo.getFile().toString(), mountInfo.getMountPoint()))
+          .toList();
+      return new Entry(size, lastModified, fileKey, modVersion.getUid(), mod.getDisplayName(), mod.getAuthor(), modVersion.getDescription(), version == null ? null : version.toString(), modVersion.getSelectable(), modVersion.getModType(), modVersion.getIcon(), imagePath == null ? null : relativize(modFolder, imagePath), mountPoints, List.copyOf(modVersion.getHookDirectories()));
+    }
+
+    private static String relativize(Path modFolder, Path imagePath) {
+      return (imagePath.startsWith(modFolder) ? modFolder.relativize(imagePath) : imagePath).toString();
+    }
+
+    ModVersionBean toModVersion(Path modFolder) {
+      ModVersionBean modVersion = new ModVersionBean();
+      ModBean mod = new ModBean();
+      modVersion.setUid(uid);
+      mod.setDisplayName(displayName);
+      mod.setAuthor(author);
+      modVersion.setDescription(description);
+      if (version != null) {
+        modVersion.setVersion(new ComparableVersion(version));
+      }
+      modVersion.setSelectable(selectable);
+      modVersion.setModType(modType);
+      modVersion.setIcon(icon);
+      if (imagePath != null) {
+        modVersion.setImagePath(modFolder.resolve(imagePath));
+      }
+      modVersion.setMountPoints(mountPoints.stream()
+          .map(mountPoint -> new MountInfo(Path.of(mountPoint.file()), mountPoint.mountPoint()))
+          .toList());
+      modVersion.setHookDirectories(hookDirectories);
+      modVersion.setMod(mod);
+      return modVersion;
+    }
+  }
+}
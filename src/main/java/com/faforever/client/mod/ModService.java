@@ -5,7 +5,9 @@ import com.faforever.client.config.CacheNames;
 import com.faforever.client.domain.FeaturedModBean;
 import com.faforever.client.domain.ModVersionBean;
 import com.faforever.client.exception.AssetLoadException;
+import com.faforever.client.fa.GamePrefsService;
 import com.faforever.client.fx.FxApplicationThreadExecutor;
+import com.faforever.client.fx.IndexedObservableList;
 import com.faforever.client.fx.JavaFxUtil;
 import com.faforever.client.fx.PlatformService;
 import com.faforever.client.i18n.I18n;
@@ -18,6 +20,7 @@ import com.faforever.client.preferences.Preferences;
 import com.faforever.client.remote.AssetService;
 import com.faforever.client.task.CompletableTask;
 import com.faforever.client.task.CompletableTask.Priority;
+import com.faforever.client.task.CompletableTask.ResourceClass;
 import com.faforever.client.task.TaskService;
 import com.faforever.client.theme.ThemeService;
 import com.faforever.client.theme.UiService;
@@ -62,29 +65,24 @@ import reactor.util.retry.Retry;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.nio.ByteBuffer;
-import java.nio.CharBuffer;
-import java.nio.charset.CharacterCodingException;
-import java.nio.charset.Charset;
-import java.nio.charset.CharsetDecoder;
-import java.nio.charset.CodingErrorAction;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -105,8 +103,8 @@ import static java.util.stream.Collectors.toList;
 // TODO divide and conquer
 public class ModService implements InitializingBean, DisposableBean {
 
-  private static final Pattern ACTIVE_MODS_PATTERN = Pattern.compile("active_mods\\s*=\\s*\\{.*?}", Pattern.DOTALL);
-  private static final Pattern ACTIVE_MOD_PATTERN = Pattern.compile("\\['(.*?)']\\s*=\\s*(true|false)", Pattern.DOTALL);
+  /** Reading mods is mostly IO and Lua evaluation, so a few threads are enough to keep the disk busy. */
+  private static final int MOD_SCAN_PARALLELISM = Math.min(4, Runtime.getRuntime().availableProcessors());
 
   private final FafApiAccessor fafApiAccessor;
   private final TaskService taskService;
@@ -120,18 +118,23 @@ public class ModService implements InitializingBean, DisposableBean {
   private final ModMapper modMapper;
   private final ForgedAlliancePrefs forgedAlliancePrefs;
   private final Preferences preferences;
+  private final GamePrefsService gamePrefsService;
   private final ObjectFactory<ModUploadTask> modUploadTaskFactory;
   private final ObjectFactory<DownloadModTask> downloadModTaskFactory;
   private final ObjectFactory<UninstallModTask> uninstallModTaskFactory;
   private final FxApplicationThreadExecutor fxApplicationThreadExecutor;
+  private final InstalledModCache installedModCache;
 
-  private final ModReader modReader = new ModReader();
+  /** Mod readers evaluate mod_info.lua files with their own Lua globals, so they are not shared between threads. */
+  private final ThreadLocal<ModReader> modReader = ThreadLocal.withInitial(ModReader::new);
 
-  private final Map<Path, ModVersionBean> pathToMod = new HashMap<>();
+  private final Map<Path, ModVersionBean> pathToMod = new ConcurrentHashMap<>();
+  private final Map<String, Path> modFolderByUid = new ConcurrentHashMap<>();
   private final ObservableMap<String, ModVersionBean> modsByUid = FXCollections.observableHashMap();
+  private final IndexedObservableList<ModVersionBean> indexedInstalledMods = new IndexedObservableList<>();
   @Getter
   private final ObservableList<ModVersionBean> installedMods = JavaFxUtil.attachListToMap(
-      FXCollections.synchronizedObservableList(FXCollections.observableArrayList()), modsByUid);
+      FXCollections.synchronizedObservableList(indexedInstalledMods), modsByUid);
   private final InvalidationListener modDirectoryChangedListener = observable -> tryLoadMods();
 
   private Thread directoryWatcherThread;
@@ -157,7 +160,9 @@ public class ModService implements InitializingBean, DisposableBean {
       log.warn("Could not start mod directory watcher", e);
     }
 
-    installedMods.clear();
+    pathToMod.clear();
+    modFolderByUid.clear();
+    fxApplicationThreadExecutor.execute(modsByUid::clear);
     loadInstalledMods();
   }
 
@@ -200,7 +205,7 @@ public class ModService implements InitializingBean, DisposableBean {
   }
 
   private void loadInstalledMods() {
-    taskService.submitTask(new CompletableTask<Void>(Priority.LOW) {
+    taskService.submitTask(new CompletableTask<Void>(Priority.LOW, ResourceClass.DISK) {
 
       @Override
       protected Void call() {
@@ -210,19 +215,37 @@ public class ModService implements InitializingBean, DisposableBean {
           customModsDirectory.collect(toCollection(() -> modPaths));
 
           long totalMods = modPaths.size();
-          long modsRead = 0;
-          for (Path modPath : modPaths) {
-            updateProgress(++modsRead, totalMods);
-            try {
-              addInstalledMod(modPath);
-            } catch (Exception e) {
-              log.warn("Corrupt mod: `{}`", modPath, e);
-
-              notificationService.addPersistentWarnNotification(
-                  List.of(new Action(i18n.get("corruptedMods.show"), event -> platformService.reveal(modPath))),
-                  "corruptedModsError.notification", modPath.getFileName());
-            }
+          AtomicLong modsRead = new AtomicLong();
+          List<CompletableFuture<InstalledMod>> installedModFutures;
+          try (ExecutorService executorService = Executors.newFixedThreadPool(MOD_SCAN_PARALLELISM)) {
+            installedModFutures = modPaths.stream()
+                .map(modPath -> CompletableFuture.supplyAsync(() -> {
+                  try {
+                    return readInstalledMod(modPath);
+                  } catch (Exception e) {
+                    log.warn("Corrupt mod: `{}`", modPath, e);
+
+                    notificationService.addPersistentWarnNotification(
+                        List.of(new Action(i18n.get("corruptedMods.show"), event -> platformService.reveal(modPath))),
+                        "corruptedModsError.notification", modPath.getFileName());
+                    return null;
+                  } finally {
+                    updateProgress(modsRead.incrementAndGet(), totalMods);
+                  }
+                }, executorService))
+                .toList();
           }
+
+          List<InstalledMod> installedMods = installedModFutures.stream()
+              .map(CompletableFuture::join)
+              .filter(Objects::nonNull)
+              .toList();
+          installedModCache.retainAll(installedMods.stream().map(InstalledMod::modInfoFile).toList());
+          installedModCache.save();
+
+          installedMods.forEach(ModService.this::index);
+          fxApplicationThreadExecutor.execute(() -> publish(installedMods));
+          log.debug("Added {} installed mods", installedMods.size());
         } catch (IOException e) {
           log.error("Mods could not be read from: `{}`", forgedAlliancePrefs.getModsDirectory(), e);
         }
@@ -269,7 +292,7 @@ public class ModService implements InitializingBean, DisposableBean {
   public void enableSimMods(Set<String> simMods) throws IOException {
     Set<String> installedUiMods = modsByUid.keySet();
 
-    Set<String> activeMods = readActiveMods().stream().filter(installedUiMods::contains).collect(Collectors.toSet());
+    Set<String> activeMods = gamePrefsService.getActiveMods().stream().filter(installedUiMods::contains).collect(Collectors.toSet());
 
     activeMods.addAll(simMods);
 
@@ -297,22 +320,12 @@ public class ModService implements InitializingBean, DisposableBean {
   }
 
   public Path getPathForMod(ModVersionBean modVersionToFind) {
-    return pathToMod.entrySet()
-                    .stream()
-                    .filter(pathModEntry -> pathModEntry.getValue().getUid().equals(modVersionToFind.getUid()))
-                    .findFirst()
-                    .map(Entry::getKey)
-                    .orElse(null);
+    return modFolderByUid.get(modVersionToFind.getUid());
   }
 
   @NotNull
   public ModVersionBean extractModInfo(Path modFolder) {
-    Path modInfoLua = modFolder.resolve("mod_info.lua");
-    if (Files.notExists(modInfoLua)) {
-      throw new ModLoadException("Missing mod_info.lua in: " + modFolder.toAbsolutePath(), null, "mod.load.noModInfo",
-                                 modFolder.toAbsolutePath());
-    }
-
+    Path modInfoLua = findModInfoFile(modFolder);
     try (InputStream inputStream = Files.newInputStream(modInfoLua)) {
       return extractModInfo(inputStream, modFolder);
     } catch (IOException e) {
@@ -323,7 +336,16 @@ public class ModService implements InitializingBean, DisposableBean {
 
   @NotNull
   public ModVersionBean extractModInfo(InputStream inputStream, Path basePath) {
-    return modMapper.map(modReader.readModInfo(inputStream, basePath), basePath);
+    return modMapper.map(modReader.get().readModInfo(inputStream, basePath), basePath);
+  }
+
+  private Path findModInfoFile(Path modFolder) {
+    Path modInfoLua = modFolder.resolve("mod_info.lua");
+    if (Files.notExists(modInfoLua)) {
+      throw new ModLoadException("Missing mod_info.lua in: " + modFolder.toAbsolutePath(), null, "mod.load.noModInfo",
+                                 modFolder.toAbsolutePath());
+    }
+    return modInfoLua;
   }
 
   public CompletableTask<Void> uploadMod(Path modPath) {
@@ -345,7 +367,7 @@ public class ModService implements InitializingBean, DisposableBean {
   }
 
   public Collection<ModVersionBean> getActivatedSimAndUIMods() throws IOException {
-    Set<String> activeMods = readActiveMods();
+    Set<String> activeMods = gamePrefsService.getActiveMods();
     return installedMods.stream().filter(mod -> activeMods.contains(mod.getUid())).collect(Collectors.toSet());
   }
 
@@ -354,74 +376,9 @@ public class ModService implements InitializingBean, DisposableBean {
     writeActiveMods(modStates);
   }
 
-  private String readPreferencesFile(Path preferencesFile) throws IOException {
-    Map<String, Charset> availableCharsets = Charset.availableCharsets();
-    String preferencesContent = null;
-    for (Charset charset : availableCharsets.values()) {
-      CharsetDecoder decoder = charset.newDecoder();
-      decoder.onMalformedInput(CodingErrorAction.REPORT);
-      decoder.onUnmappableCharacter(CodingErrorAction.REPORT);
-      log.info("Trying to read preferences file with charset: " + charset.displayName());
-      try {
-        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(preferencesFile));
-        CharBuffer charBuffer = decoder.decode(buffer);
-        preferencesContent = charBuffer.toString();
-        log.info("Successfully read preferences file with charset: " + charset.displayName());
-        break;
-      } catch (CharacterCodingException e) {
-        log.info("Failed to read preferences file with charset: " + charset.displayName());
-        // Continue and try a different character set
-      } catch (IOException e) {
-        log.error("An IOException was thrown while trying to read the preferences file", e);
-      } catch (Exception e) {
-        // Handle all other exceptions
-        log.error("An unexpected error occurred while reading the preferences file", e);
-        throw new RuntimeException(e);
-      }
-    }
-    if (preferencesContent == null) {
-      throw new AssetLoadException("Could not read preferences file", null, "file.errorReadingPreferences");
-    }
-    return preferencesContent;
-  }
-
-  private Set<String> readActiveMods() throws IOException {
-    Path preferencesFile = forgedAlliancePrefs.getPreferencesFile();
-    Set<String> activeMods = new HashSet<>();
-    String preferencesContent = readPreferencesFile(preferencesFile);
-    Matcher matcher = ACTIVE_MODS_PATTERN.matcher(preferencesContent);
-    if (matcher.find()) {
-      Matcher activeModMatcher = ACTIVE_MOD_PATTERN.matcher(matcher.group(0));
-      while (activeModMatcher.find()) {
-        String modUid = activeModMatcher.group(1);
-        if (Boolean.parseBoolean(activeModMatcher.group(2))) {
-          activeMods.add(modUid);
-        }
-      }
-    }
-    return activeMods;
-  }
-
   private void writeActiveMods(Set<String> activeMods) {
-    Path preferencesFile = forgedAlliancePrefs.getPreferencesFile();
     try {
-      String preferencesContent = readPreferencesFile(preferencesFile);
-      String currentActiveModsContent = null;
-      Matcher matcher = ACTIVE_MODS_PATTERN.matcher(preferencesContent);
-      if (matcher.find()) {
-        currentActiveModsContent = matcher.group(0);
-      }
-
-      String newActiveModsContent = "active_mods = {\n%s\n}".formatted(
-          activeMods.stream().map("    ['%s'] = true"::formatted).collect(Collectors.joining(",\n")));
-
-      if (currentActiveModsContent != null) {
-        preferencesContent = preferencesContent.replace(currentActiveModsContent, newActiveModsContent);
-      } else {
-        preferencesContent += newActiveModsContent;
-      }
-
-      Files.writeString(preferencesFile, preferencesContent);
+      gamePrefsService.setActiveMods(activeMods);
     } catch (IOException e) {
       throw new AssetLoadException("Could not update mod state", e, "mod.errorUpdatingMods");
     }
@@ -431,22 +388,59 @@ public class ModService implements InitializingBean, DisposableBean {
     log.trace("Removing mod: `{}`", path);
     ModVersionBean modVersion = pathToMod.remove(path);
     if (modVersion != null) {
-      modsByUid.remove(modVersion.getUid());
+      modFolderByUid.remove(modVersion.getUid(), path);
+      fxApplicationThreadExecutor.execute(() -> modsByUid.remove(modVersion.getUid()));
     }
   }
 
+  /**
+   * Adds a mod found by the directory watcher. The cache is not written for every such mod, but after the next scan of
+   * the mods directory or on shutdown.
+   */
   private void addInstalledMod(Path modFolder) {
-    ModVersionBean modVersion = extractModInfo(modFolder);
-    pathToMod.put(modFolder, modVersion);
-    if (!modsByUid.containsKey(modVersion.getUid())) {
-      fxApplicationThreadExecutor.execute(() -> modsByUid.put(modVersion.getUid(), modVersion));
-      log.debug("Added mod from {}", modFolder);
+    InstalledMod installedMod = readInstalledMod(modFolder);
+    index(installedMod);
+    fxApplicationThreadExecutor.execute(() -> publish(List.of(installedMod)));
+    log.debug("Added mod from {}", modFolder);
+  }
+
+  /**
+   * Reads the installed mod in the specified folder, using the cached result if its mod_info.lua didn't change.
+   */
+  private InstalledMod readInstalledMod(Path modFolder) {
+    Path modInfoLua = findModInfoFile(modFolder);
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(modInfoLua, BasicFileAttributes.class);
+      ModVersionBean modVersion = installedModCache.get(modInfoLua, attributes);
+      if (modVersion == null) {
+        modVersion = extractModInfo(modFolder);
+        installedModCache.put(modInfoLua, attributes, modVersion);
+      }
+      return new InstalledMod(modFolder, modInfoLua, modVersion);
+    } catch (IOException e) {
+      throw new ModLoadException("IO error loading: " + modFolder.toAbsolutePath(), e, "mod.load.ioError",
+                                 modFolder.toAbsolutePath());
     }
   }
 
+  private void index(InstalledMod installedMod) {
+    pathToMod.put(installedMod.modFolder(), installedMod.modVersion());
+    modFolderByUid.putIfAbsent(installedMod.modVersion().getUid(), installedMod.modFolder());
+  }
+
+  /**
+   * Adds the mods that are not installed yet, reporting them to listeners of the installed mods as a single change. Must
+   * be called on the JavaFX application thread, which is the only thread that changes the installed mods.
+   */
+  private void publish(List<InstalledMod> installedMods) {
+    indexedInstalledMods.batch(() -> installedMods.forEach(installedMod -> modsByUid.putIfAbsent(installedMod.modVersion()
+        .getUid(), installedMod.modVersion())));
+  }
+
   @Override
   public void destroy() {
     Optional.ofNullable(directoryWatcherThread).ifPresent(Thread::interrupt);
+    installedModCache.save();
   }
 
   @Async
@@ -605,4 +599,6 @@ public class ModService implements InitializingBean, DisposableBean {
                                                                .collect(toList())))
                          .toFuture();
   }
+
+  private record InstalledMod(Path modFolder, Path modInfoFile, ModVersionBean modVersion) {}
 }
@@ -92,11 +92,16 @@ public class ModVaultController extends VaultEntityController<ModVersionBean> {
 
   @Override
   protected VaultEntityCardController<ModVersionBean> createEntityCard() {
-    ModCardController controller = uiService.loadFxml("theme/vault/mod/mod_card.fxml");
+    ModCardController controller = uiService.acquireFxml(UiService.MOD_CARD);
     controller.setOnOpenDetailListener(this::onDisplayDetails);
     return controller;
   }
 
+  @Override
+  protected void releaseEntityCard(VaultEntityCardController<ModVersionBean> entityCard) {
+    uiService.releaseFxml(UiService.MOD_CARD, entityCard);
+  }
+
   @Override
   protected List<ShowRoomCategory> getShowRoomCategories() {
     return List.of(
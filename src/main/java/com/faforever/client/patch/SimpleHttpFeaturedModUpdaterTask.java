@@ -1,9 +1,12 @@
 package com.faforever.client.patch;
 
+import com.faforever.client.config.ClientProperties;
+import com.faforever.client.config.ClientProperties.ForgedAlliance;
 import com.faforever.client.domain.FeaturedModBean;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.io.ChecksumMismatchException;
 import com.faforever.client.io.DownloadService;
+import com.faforever.client.io.DownloadService.FileDownload;
 import com.faforever.client.io.FeaturedModFileCacheService;
 import com.faforever.client.mod.ModService;
 import com.faforever.client.preferences.DataPrefs;
@@ -23,8 +26,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 
 @Component
@@ -36,6 +42,7 @@ public class SimpleHttpFeaturedModUpdaterTask extends CompletableTask<PatchResul
   private final I18n i18n;
   private final FeaturedModFileCacheService featuredModFileCacheService;
   private final DataPrefs dataPrefs;
+  private final ClientProperties clientProperties;
 
   private FeaturedModBean featuredMod;
   private Integer version;
@@ -46,7 +53,8 @@ public class SimpleHttpFeaturedModUpdaterTask extends CompletableTask<PatchResul
       DownloadService downloadService,
       I18n i18n,
       FeaturedModFileCacheService featuredModFileCacheService,
-      DataPrefs dataPrefs) {
+      DataPrefs dataPrefs,
+      ClientProperties clientProperties) {
     super(Priority.HIGH);
 
     this.modService = modService;
@@ -54,6 +62,7 @@ public class SimpleHttpFeaturedModUpdaterTask extends CompletableTask<PatchResul
     this.i18n = i18n;
     this.featuredModFileCacheService = featuredModFileCacheService;
     this.dataPrefs = dataPrefs;
+    this.clientProperties = clientProperties;
   }
 
   @Override
@@ -72,34 +81,11 @@ public class SimpleHttpFeaturedModUpdaterTask extends CompletableTask<PatchResul
 
     List<FeaturedModFile> featuredModFiles = modService.getFeaturedModFiles(featuredMod, version).join();
 
-    featuredModFiles
-        .forEach(featuredModFile -> {
-          Path targetPath = fafDataDirectory
-              .resolve(featuredModFile.getGroup())
-              .resolve(featuredModFile.getName());
-
-          try {
-            Files.createDirectories(targetPath.getParent());
-            if (fileAlreadyLoaded(featuredModFile, targetPath)) {
-              log.info("Featured mod file already prepared: `{}`", featuredModFile);
-            } else {
-              if (!featuredModFileCacheService.isCached(featuredModFile)) {
-                Path cachedFilePath = featuredModFileCacheService.getCachedFilePath(featuredModFile);
-                Files.createDirectories(cachedFilePath.getParent());
-                if (PreferencesService.FORGED_ALLIANCE_EXE.equals(featuredModFile.getName())) {
-                  patchOrDownloadForgedAllianceExe(featuredModFile, cachedFilePath, targetPath);
-                } else {
-                  downloadFeaturedModFile(featuredModFile, cachedFilePath);
-                }
-              }
-              featuredModFileCacheService.copyFeaturedModFileFromCache(featuredModFile, targetPath);
-            }
-          }
-          catch (IOException | NoSuchAlgorithmException | ChecksumMismatchException e) {
-            log.error("Error updating featured mod file: `{}`", featuredModFile, e);
-            throw new RuntimeException(e);
-          }
-        });
+    try {
+      prepareFeaturedModFiles(featuredModFiles, fafDataDirectory);
+    } finally {
+      featuredModFileCacheService.saveHashManifest();
+    }
 
     Path initFile = featuredModFiles.stream()
         .filter(featuredModFile -> "bin".equals(featuredModFile.getGroup()) &&
@@ -119,7 +105,56 @@ public class SimpleHttpFeaturedModUpdaterTask extends CompletableTask<PatchResul
     return new PatchResult(new ComparableVersion(String.valueOf(maxVersion)), initFile);
   }
 
-  private void patchOrDownloadForgedAllianceExe(FeaturedModFile featuredModFile, Path cachedFilePath, Path targetPath) throws IOException, ChecksumMismatchException, NoSuchAlgorithmException {
+  /**
+   * Installs all files that aren't installed in the right version yet. Files that aren't cached yet are downloaded in
+   * parallel first, then they are copied from the cache one by one.
+   */
+  private void prepareFeaturedModFiles(List<FeaturedModFile> featuredModFiles, Path fafDataDirectory) throws IOException, NoSuchAlgorithmException, ChecksumMismatchException {
+    Map<FeaturedModFile, Path> targetPathsByFileToInstall = new LinkedHashMap<>();
+    List<FeaturedModFile> filesToDownload = new ArrayList<>();
+    List<FileDownload> downloads = new ArrayList<>();
+    for (FeaturedModFile featuredModFile : featuredModFiles) {
+      Path targetPath = fafDataDirectory
+          .resolve(featuredModFile.getGroup())
+          .resolve(featuredModFile.getName());
+
+      Files.createDirectories(targetPath.getParent());
+      if (fileAlreadyLoaded(featuredModFile, targetPath)) {
+        log.info("Featured mod file already prepared: `{}`", featuredModFile);
+        continue;
+      }
+
+      targetPathsByFileToInstall.put(featuredModFile, targetPath);
+      if (!featuredModFileCacheService.isCached(featuredModFile)) {
+        Path cachedFilePath = featuredModFileCacheService.getCachedFilePath(featuredModFile);
+        Files.createDirectories(cachedFilePath.getParent());
+        if (!PreferencesService.FORGED_ALLIANCE_EXE.equals(featuredModFile.getName())
+            || !patchForgedAllianceExe(featuredModFile, cachedFilePath, targetPath)) {
+          filesToDownload.add(featuredModFile);
+          downloads.add(createDownload(featuredModFile, cachedFilePath));
+        }
+      }
+    }
+
+    if (!downloads.isEmpty()) {
+      updateMessage(filesToDownload.size() == 1
+          ? i18n.get("updater.downloadingFile", filesToDownload.get(0).getName())
+          : i18n.get("updater.downloadingFiles", filesToDownload.size()));
+      ForgedAlliance forgedAlliance = clientProperties.getForgedAlliance();
+      downloadService.downloadFiles(downloads, forgedAlliance.getParallelDownloads(), forgedAlliance.getDownloadAttempts(), this::updateProgress);
+    }
+
+    for (Entry<FeaturedModFile, Path> fileToInstall : targetPathsByFileToInstall.entrySet()) {
+      featuredModFileCacheService.copyFeaturedModFileFromCache(fileToInstall.getKey(), fileToInstall.getValue());
+    }
+  }
+
+  /**
+   * Tries to create the requested version of the ForgedAlliance.exe by patching the installed one.
+   *
+   * @return whether the patched file matches the requested version and has been put into the cache
+   */
+  private boolean patchForgedAllianceExe(FeaturedModFile featuredModFile, Path cachedFilePath, Path targetPath) throws IOException {
     if (Files.exists(targetPath)) {
       Files.createDirectories(cachedFilePath.getParent());
       Path tempFile = Files.createTempFile(cachedFilePath.getParent(), "download", null);
@@ -132,11 +167,11 @@ public class SimpleHttpFeaturedModUpdaterTask extends CompletableTask<PatchResul
         // Hash matches so use the patched version
         Files.move(tempFile, cachedFilePath, StandardCopyOption.REPLACE_EXISTING);
         log.debug("Using locally patched `{}` for version `{}`", featuredModFile.getName(), version);
-        return;
+        return true;
       }
+      Files.deleteIfExists(tempFile);
     }
-
-    downloadFeaturedModFile(featuredModFile, cachedFilePath);
+    return false;
   }
 
   private boolean fileAlreadyLoaded(FeaturedModFile featuredModFile, Path targetPath) throws IOException {
@@ -144,18 +179,19 @@ public class SimpleHttpFeaturedModUpdaterTask extends CompletableTask<PatchResul
         && Objects.equals(featuredModFile.getMd5(), featuredModFileCacheService.readHashFromFile(targetPath));
   }
 
-  private void downloadFeaturedModFile(FeaturedModFile featuredModFile, Path targetPath) throws IOException, NoSuchAlgorithmException, ChecksumMismatchException {
-    Files.createDirectories(targetPath.getParent());
-    updateMessage(i18n.get("updater.downloadingFile", featuredModFile.getName()));
-
-    String md5sum = featuredModFile.getMd5();
-
+  private FileDownload createDownload(FeaturedModFile featuredModFile, Path targetPath) throws IOException {
     // We can perform cloudflare hmac verification either with a query parameter or by sending a request header hmac with the value
     // Using a request header is preferred as this allows us to cache the url on cloudflare without the query string as the
     // query string effectively renders the cache ineffective.
     Map<String, String> requestParameters = Map.of(featuredModFile.getHmacParameter(), featuredModFile.getHmacToken());
 
-    downloadService.downloadFile(new URL(featuredModFile.getCacheableUrl()), requestParameters, targetPath, this::updateProgress, md5sum);
+    // The cacheable URL is served by the CDN, the plain URL by the content server itself, which is the fallback
+    List<URL> mirrors = new ArrayList<>();
+    mirrors.add(new URL(featuredModFile.getCacheableUrl()));
+    if (featuredModFile.getUrl() != null && !featuredModFile.getUrl().equals(featuredModFile.getCacheableUrl())) {
+      mirrors.add(new URL(featuredModFile.getUrl()));
+    }
+    return new FileDownload(mirrors, requestParameters, targetPath, featuredModFile.getMd5());
   }
 
   public void setFeaturedMod(FeaturedModBean featuredMod) {
@@ -5,6 +5,7 @@ import com.faforever.client.domain.GameBean;
 import com.faforever.client.domain.NameRecordBean;
 import com.faforever.client.domain.PlayerBean;
 import com.faforever.client.fx.FxApplicationThreadExecutor;
+import com.faforever.client.fx.FxUpdateCoalescer;
 import com.faforever.client.mapstruct.CycleAvoidingMappingContext;
 import com.faforever.client.mapstruct.PlayerMapper;
 import com.faforever.client.remote.FafServerAccessor;
@@ -15,6 +16,8 @@ import com.faforever.commons.api.dto.Player;
 import com.faforever.commons.api.elide.ElideNavigator;
 import com.faforever.commons.api.elide.ElideNavigatorOnCollection;
 import com.faforever.commons.lobby.PlayerInfo;
+import javafx.beans.Observable;
+import javafx.beans.binding.Bindings;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.value.ObservableValue;
@@ -25,7 +28,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.function.TupleUtils;
+import reactor.util.function.Tuple2;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -59,15 +62,17 @@ public class PlayerService implements InitializingBean {
   private final PlayerMapper playerMapper;
   private final FxApplicationThreadExecutor fxApplicationThreadExecutor;
 
+  private FxUpdateCoalescer<Integer, Tuple2<com.faforever.commons.lobby.Player, PlayerBean>> playerInfoCoalescer;
+
   @Override
   public void afterPropertiesSet() {
+    playerInfoCoalescer = new FxUpdateCoalescer<>(fxApplicationThreadExecutor, this::applyPlayerInfos);
     fafServerAccessor.getEvents(PlayerInfo.class)
                      .map(PlayerInfo::getPlayers)
                      .flatMap(Flux::fromIterable)
                      .flatMap(player -> Mono.zip(Mono.just(player), Mono.justOrEmpty(playersById.get(player.getId()))
                                                                         .switchIfEmpty(initializePlayer(player))))
-                     .publishOn(fxApplicationThreadExecutor.asScheduler())
-                     .map(TupleUtils.function(playerMapper::update))
+                     .doOnNext(playerUpdate -> playerInfoCoalescer.offer(playerUpdate.getT1().getId(), playerUpdate))
                      .doOnError(throwable -> log.error("Error processing player", throwable))
                      .retry()
                      .subscribe();
@@ -75,19 +80,40 @@ public class PlayerService implements InitializingBean {
     currentPlayer.bind(loginService.ownPlayerProperty().map(this::createOrUpdateFromOwnPlayer));
   }
 
+  /**
+   * Applies the latest state of each player received since the last call.
+   */
+  private void applyPlayerInfos(List<Tuple2<com.faforever.commons.lobby.Player, PlayerBean>> playerUpdates) {
+    playerUpdates.forEach(playerUpdate -> {
+      try {
+        playerMapper.update(playerUpdate.getT1(), playerUpdate.getT2());
+      } catch (Exception e) {
+        log.error("Error processing player", e);
+      }
+    });
+  }
+
+  /**
+   * Returns how player updates from the server were coalesced and how long they waited to be applied.
+   */
+  public FxUpdateCoalescer.Statistics getPlayerUpdateStatistics() {
+    return playerInfoCoalescer.getStatistics();
+  }
+
+  /**
+   * Returns the average rating of the online players in the specified game, which changes when players join or leave
+   * the game or the rating of one of them changes.
+   */
   public ObservableValue<Double> getAverageRatingPropertyForGame(GameBean gameBean) {
-    return gameBean.activePlayersInGameProperty()
-                   .map(ids -> ids.stream()
-                                  .map(this::getPlayerByIdIfOnline)
-                                  .flatMap(Optional::stream)
-                                  .mapToInt(
-                                      player -> RatingUtil.getLeaderboardRating(player, gameBean.getLeaderboard()))
-                                  .average()
-                                  .orElse(0));
-  }
-
-  public double getAverageRatingForGame(GameBean gameBean) {
-    return getAverageRatingPropertyForGame(gameBean).getValue();
+    return gameBean.activePlayersInGameProperty().flatMap(ids -> {
+      List<PlayerBean> players = ids.stream().map(this::getPlayerByIdIfOnline).flatMap(Optional::stream).toList();
+      Observable[] ratings = players.stream().map(PlayerBean::leaderboardRatingsProperty).toArray(Observable[]::new);
+      return Bindings.<Double>createObjectBinding(() -> players.stream()
+                                                                .mapToInt(player -> RatingUtil.getLeaderboardRating(
+                                                                    player, gameBean.getLeaderboard()))
+                                                                .average()
+                                                                .orElse(0), ratings);
+    });
   }
 
   public boolean isCurrentPlayerInGame(GameBean game) {
@@ -0,0 +1,28 @@
+package com.faforever.client.preferences;
+
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+
+/**
+ * The SHA-256 of the game executable together with the file attributes it was computed for, so it only needs to be
+ * computed again once the executable changed.
+ *
+ * @param fileKey the key identifying the file on file systems that provide one, e.g. the inode
+ */
+public record ExecutableHash(Path path, long size, long lastModified, String fileKey, String sha256) {
+
+  public static ExecutableHash of(Path path, BasicFileAttributes attributes, String sha256) {
+    return new ExecutableHash(path, attributes.size(), attributes.lastModifiedTime()
+        .toMillis(), fileKeyOf(attributes), sha256);
+  }
+
+  public boolean matches(Path path, BasicFileAttributes attributes) {
+    return path.equals(this.path) && attributes.size() == size && attributes.lastModifiedTime()
+        .toMillis() == lastModified && Objects.equals(fileKeyOf(attributes), fileKey);
+  }
+
+  private static String fileKeyOf(BasicFileAttributes attributes) {
+    return Objects.toString(attributes.fileKey(), null);
+  }
+}
@@ -46,6 +46,7 @@ public class ForgedAlliancePrefs {
    * antivirus programs, see <a href="https://github.com/FAForever/downlords-faf-client/issues/2781">#2781</a>.
    */
   BooleanProperty changeProcessPriority = new SimpleBooleanProperty(false);
+  ObjectProperty<ExecutableHash> executableHash = new SimpleObjectProperty<>();
 
   public Path getPreferencesFile() {
     return preferencesFile.get();
@@ -190,4 +191,16 @@ public class ForgedAlliancePrefs {
   public BooleanProperty changeProcessPriorityProperty() {
     return changeProcessPriority;
   }
+
+  public ExecutableHash getExecutableHash() {
+    return executableHash.get();
+  }
+
+  public void setExecutableHash(ExecutableHash executableHash) {
+    this.executableHash.set(executableHash);
+  }
+
+  public ObjectProperty<ExecutableHash> executableHashProperty() {
+    return executableHash;
+  }
 }
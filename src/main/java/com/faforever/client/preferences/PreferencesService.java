@@ -20,6 +20,7 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -59,6 +60,21 @@ public class PreferencesService implements InitializingBean {
         Files.copy(gamePrefsResource, gamePrefs);
       }
     }
+
+    CompletableFuture.runAsync(this::revalidateGamePath);
+  }
+
+  /**
+   * Hashes the game executable in background if it changed since it was last hashed, so launching the first game does
+   * not have to wait for it.
+   */
+  private void revalidateGamePath() {
+    Path installationPath = preferences.getForgedAlliance().getInstallationPath();
+    try {
+      isGamePathValidWithErrorMessage(installationPath);
+    } catch (IOException | NoSuchAlgorithmException e) {
+      log.warn("Could not validate installation directory `{}`", installationPath, e);
+    }
   }
 
   public boolean isValidGamePath() {
@@ -80,9 +96,9 @@ public class PreferencesService implements InitializingBean {
     Path binPath = installationPath.resolve("bin");
     String exeHash;
     if (Files.exists(binPath.resolve(FORGED_ALLIANCE_EXE))) {
-      exeHash = sha256OfFile(binPath.resolve(FORGED_ALLIANCE_EXE));
+      exeHash = sha256OfExecutable(binPath.resolve(FORGED_ALLIANCE_EXE));
     } else {
-      exeHash = sha256OfFile(binPath.resolve(SUPREME_COMMANDER_EXE));
+      exeHash = sha256OfExecutable(binPath.resolve(SUPREME_COMMANDER_EXE));
     }
     for (String hash : clientProperties.getVanillaGameHashes()) {
       log.info("Hash of Supreme Commander.exe in selected User directory: " + exeHash);
@@ -98,6 +114,23 @@ public class PreferencesService implements InitializingBean {
     return null;
   }
 
+  /**
+   * Returns the hash of the executable, which is only computed if the size, modification time or file key of the
+   * executable changed since it was last computed.
+   */
+  private synchronized String sha256OfExecutable(Path executable) throws IOException, NoSuchAlgorithmException {
+    ForgedAlliancePrefs forgedAlliancePrefs = preferences.getForgedAlliance();
+    BasicFileAttributes attributes = Files.readAttributes(executable, BasicFileAttributes.class);
+    ExecutableHash executableHash = forgedAlliancePrefs.getExecutableHash();
+    if (executableHash != null && executableHash.matches(executable, attributes)) {
+      return executableHash.sha256();
+    }
+
+    String sha256 = sha256OfFile(executable);
+    forgedAlliancePrefs.setExecutableHash(ExecutableHash.of(executable, attributes, sha256));
+    return sha256;
+  }
+
   private String sha256OfFile(Path path) throws IOException, NoSuchAlgorithmException {
     byte[] buffer = new byte[4096];
     MessageDigest digest = MessageDigest.getInstance("SHA-256");
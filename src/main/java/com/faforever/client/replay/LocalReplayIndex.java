@@ -0,0 +1,322 @@
+package com.faforever.client.replay;
+
+import com.faforever.client.config.ClientProperties;
+import com.faforever.client.preferences.DataPrefs;
+import com.faforever.client.replay.LocalReplayIndexEntry.Army;
+import com.faforever.commons.replay.ReplayMetadata;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Keeps track of the local replay files and their metadata, so the local replay vault doesn't have to read replays every
+ * time a page is shown. Entries are created from the metadata header of a replay. The players' ratings are only stored
+ * in a replay's body, so they are added to the entry once the body has been read for the replay's details. Entries are persisted in the cache directory and keyed by file name, size and last modified time. After an initial scan, the replay directory is
+ * watched so that only files which have been created, modified or deleted since need to be looked at again. If the
+ * directory can't be watched, it is scanned on every access instead.
+ */
+@Lazy
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LocalReplayIndex implements DisposableBean {
+
+  @VisibleForTesting
+  static final String INDEX_FILE_NAME = "local_replay_index.json";
+  private static final int INDEX_VERSION = 3;
+
+  private final ReplayFileReader replayFileReader;
+  private final ClientProperties clientProperties;
+  private final DataPrefs dataPrefs;
+  private final ObjectMapper objectMapper;
+
+  /** Size and last modified time of all replay files, by file name. */
+  private final Map<String, FileStat> fileStatsByName = new HashMap<>();
+  private final Map<String, LocalReplayIndexEntry> entriesByFileName = new HashMap<>();
+  /** Names of files the watcher reported as changed since the last access. */
+  private final Set<String> changedFileNames = new HashSet<>();
+  private Path replaysDirectory;
+  private boolean rescanRequired = true;
+  private boolean entriesChanged;
+  private volatile boolean watching;
+  private Thread directoryWatcherThread;
+
+  /**
+   * Returns all replay files, most recently modified first. This only reads the replay directory if it has changed
+   * since the last call.
+   */
+  public synchronized List<Path> getReplayFiles() throws IOException {
+    Path directory = dataPrefs.getReplaysDirectory();
+    if (!directory.equals(replaysDirectory)) {
+      switchDirectory(directory);
+    }
+
+    if (rescanRequired || !watching) {
+      scanDirectory();
+    } else {
+      changedFileNames.forEach(this::updateFileStat);
+    }
+    changedFileNames.clear();
+
+    return fileStatsByName.entrySet()
+        .stream()
+        .sorted(Entry.<String, FileStat>comparingByValue(Comparator.comparingLong(FileStat::lastModified)).reversed())
+        .map(entry -> replaysDirectory.resolve(entry.getKey()))
+        .toList();
+  }
+
+  /**
+   * Returns the index entry of the specified replay file, reading the replay's metadata only if it hasn't been indexed
+   * yet or has changed since.
+   */
+  public LocalReplayIndexEntry getEntry(Path replayFile) throws IOException {
+    String fileName = replayFile.getFileName().toString();
+    FileStat fileStat;
+    synchronized (this) {
+      fileStat = fileStatsByName.get(fileName);
+      LocalReplayIndexEntry entry = entriesByFileName.get(fileName);
+      if (fileStat != null && entry != null && entry.isUpToDate(fileStat.size(), fileStat.lastModified())) {
+        return entry;
+      }
+    }
+
+    if (fileStat == null) {
+      fileStat = FileStat.of(Files.readAttributes(replayFile, BasicFileAttributes.class));
+    }
+    LocalReplayIndexEntry entry = createEntry(replayFile, fileStat);
+
+    synchronized (this) {
+      entriesByFileName.put(fileName, entry);
+      entriesChanged = true;
+    }
+    return entry;
+  }
+
+  /**
+   * Adds the armies read from the body of the specified replay file to its entry, so the players' ratings can be listed
+   * without reading the body again. Does nothing if the file is not an indexed local replay or has changed since it was
+   * indexed.
+   */
+  public synchronized void putArmies(Path replayFile, List<Army> armies) {
+    if (replaysDirectory == null || !replaysDirectory.equals(replayFile.getParent())) {
+      return;
+    }
+
+    String fileName = replayFile.getFileName().toString();
+    FileStat fileStat = fileStatsByName.get(fileName);
+    LocalReplayIndexEntry entry = entriesByFileName.get(fileName);
+    if (fileStat == null || entry == null || !entry.isUpToDate(fileStat.size(), fileStat.lastModified())) {
+      return;
+    }
+    entriesByFileName.put(fileName, entry.withArmies(armies));
+    entriesChanged = true;
+  }
+
+  /**
+   * Writes the index to disk if it changed since it was last written.
+   */
+  public synchronized void save() {
+    if (!entriesChanged || replaysDirectory == null) {
+      return;
+    }
+
+    Path indexFile = getIndexFile();
+    try {
+      Files.createDirectories(indexFile.getParent());
+      Path temporaryIndexFile = Files.createTempFile(indexFile.getParent(), INDEX_FILE_NAME, null);
+      objectMapper.writeValue(temporaryIndexFile.toFile(), new IndexFile(INDEX_VERSION, replaysDirectory.toString(), List.copyOf(entriesByFileName.values())));
+      Files.move(temporaryIndexFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      entriesChanged = false;
+    } catch (IOException e) {
+      log.warn("Could not write local replay index to `{}`", indexFile, e);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    Optional.ofNullable(directoryWatcherThread).ifPresent(Thread::interrupt);
+    save();
+  }
+
+  private LocalReplayIndexEntry createEntry(Path replayFile, FileStat fileStat) throws IOException {
+    ReplayMetadata metadata = replayFileReader.readReplayMetadata(replayFile);
+    return new LocalReplayIndexEntry(replayFile.getFileName()
+        .toString(), fileStat.size(), fileStat.lastModified(), metadata.getUid(), metadata.getTitle(), metadata.getFeaturedMod(), metadata.getMapname(), metadata.getGameTime() > 0 ? metadata.getGameTime() : metadata.getLaunchedAt(), metadata.getGameEnd(), metadata.getTeams(), null);
+  }
+
+  private void switchDirectory(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    Optional.ofNullable(directoryWatcherThread).ifPresent(Thread::interrupt);
+    save();
+
+    replaysDirectory = directory;
+    fileStatsByName.clear();
+    entriesByFileName.clear();
+    changedFileNames.clear();
+    rescanRequired = true;
+    entriesChanged = false;
+
+    readIndexFile();
+    try {
+      directoryWatcherThread = startDirectoryWatcher(directory);
+    } catch (IOException e) {
+      log.warn("Could not watch replay directory `{}`, it will be scanned on every access", directory, e);
+      directoryWatcherThread = null;
+      watching = false;
+    }
+  }
+
+  private void readIndexFile() {
+    Path indexFile = getIndexFile();
+    if (Files.notExists(indexFile)) {
+      return;
+    }
+
+    try {
+      IndexFile index = objectMapper.readValue(indexFile.toFile(), IndexFile.class);
+      if (index.version() != INDEX_VERSION || !replaysDirectory.toString().equals(index.replaysDirectory())) {
+        log.info("Discarding outdated local replay index `{}`", indexFile);
+        return;
+      }
+      index.entries().forEach(entry -> entriesByFileName.put(entry.fileName(), entry));
+    } catch (IOException e) {
+      log.warn("Could not read local replay index `{}`, replays will be indexed again", indexFile, e);
+    }
+  }
+
+  private void scanDirectory() throws IOException {
+    PathMatcher replayFileMatcher = getReplayFileMatcher();
+    Map<String, FileStat> fileStats = new HashMap<>();
+    try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(replaysDirectory, replayFileMatcher::matches)) {
+      for (Path replayFile : directoryStream) {
+        try {
+          fileStats.put(replayFile.getFileName()
+              .toString(), FileStat.of(Files.readAttributes(replayFile, BasicFileAttributes.class)));
+        } catch (IOException e) {
+          log.warn("Could not read attributes of replay file `{}`", replayFile, e);
+        }
+      }
+    }
+
+    fileStatsByName.clear();
+    fileStatsByName.putAll(fileStats);
+    entriesChanged |= entriesByFileName.keySet().retainAll(fileStats.keySet());
+    rescanRequired = false;
+  }
+
+  private void updateFileStat(String fileName) {
+    Path replayFile = replaysDirectory.resolve(fileName);
+    try {
+      fileStatsByName.put(fileName, FileStat.of(Files.readAttributes(replayFile, BasicFileAttributes.class)));
+    } catch (NoSuchFileException e) {
+      fileStatsByName.remove(fileName);
+      entriesChanged |= entriesByFileName.remove(fileName) != null;
+    } catch (IOException e) {
+      log.warn("Could not read attributes of replay file `{}`", replayFile, e);
+      rescanRequired = true;
+    }
+  }
+
+  private synchronized void onFileChanged(Path directory, Path fileName) {
+    if (directory.equals(replaysDirectory) && getReplayFileMatcher().matches(fileName)) {
+      changedFileNames.add(fileName.toString());
+    }
+  }
+
+  private synchronized void onEventsLost(Path directory) {
+    if (directory.equals(replaysDirectory)) {
+      rescanRequired = true;
+    }
+  }
+
+  private PathMatcher getReplayFileMatcher() {
+    PathMatcher globMatcher = replaysDirectory.getFileSystem()
+        .getPathMatcher("glob:" + clientProperties.getReplay().getReplayFileGlob());
+    return path -> globMatcher.matches(path.getFileName());
+  }
+
+  private Path getIndexFile() {
+    return dataPrefs.getCacheDirectory().resolve(INDEX_FILE_NAME);
+  }
+
+  private Thread startDirectoryWatcher(Path directory) throws IOException {
+    WatchService watcher = directory.getFileSystem().newWatchService();
+    try {
+      directory.register(watcher, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+    } catch (IOException e) {
+      watcher.close();
+      throw e;
+    }
+
+    watching = true;
+    Thread thread = new Thread(() -> {
+      try (watcher) {
+        while (!Thread.interrupted()) {
+          WatchKey key = watcher.take();
+          key.pollEvents().forEach(event -> {
+            if (event.kind() == OVERFLOW) {
+              onEventsLost(directory);
+            } else {
+              onFileChanged(directory, (Path) event.context());
+            }
+          });
+          if (!key.reset()) {
+            log.warn("Replay directory `{}` is no longer watched", directory);
+            break;
+          }
+        }
+      } catch (IOException e) {
+        log.warn("Could not close replay directory watcher for `{}`", directory, e);
+      } catch (InterruptedException e) {
+        log.info("Watcher terminated ({})", e.getMessage());
+      } finally {
+        synchronized (this) {
+          if (directory.equals(replaysDirectory)) {
+            watching = false;
+          }
+        }
+      }
+    });
+    thread.setDaemon(true);
+    thread.start();
+    return thread;
+  }
+
+  private record FileStat(long size, long lastModified) {
+
+    static FileStat of(BasicFileAttributes attributes) {
+      return new FileStat(attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+  }
+
+  @VisibleForTesting
+  record IndexFile(int version, String replaysDirectory, List<LocalReplayIndexEntry> entries) {}
+}
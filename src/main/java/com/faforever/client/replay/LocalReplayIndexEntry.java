@@ -0,0 +1,46 @@
+package com.faforever.client.replay;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the local replay vault needs to show a replay, read from a replay file once. The file's size and last
+ * modified time are kept to detect whether the entry is still up-to-date.
+ *
+ * @param startTime python time as stored in the replay metadata
+ * @param endTime python time as stored in the replay metadata
+ * @param armies the players and their ratings as stored in the replay body, or {@code null} if the body hasn't been
+ * read yet
+ */
+public record LocalReplayIndexEntry(
+    String fileName,
+    long size,
+    long lastModified,
+    Integer uid,
+    String title,
+    String featuredMod,
+    String mapName,
+    double startTime,
+    double endTime,
+    Map<String, List<String>> teams,
+    @Nullable List<Army> armies
+) {
+
+  public LocalReplayIndexEntry {
+    teams = teams == null ? Map.of() : Map.copyOf(teams);
+    armies = armies == null ? null : List.copyOf(armies);
+  }
+
+  LocalReplayIndexEntry withArmies(List<Army> armies) {
+    return new LocalReplayIndexEntry(fileName, size, lastModified, uid, title, featuredMod, mapName, startTime, endTime, teams, armies);
+  }
+
+  boolean isUpToDate(long size, long lastModified) {
+    return this.size == size && this.lastModified == lastModified;
+  }
+
+  public record Army(int ownerId, String playerName, String country, int team, int faction, double mean,
+                     double deviation) {}
+}
@@ -11,6 +11,7 @@ import com.faforever.client.preferences.VaultPrefs;
 import com.faforever.client.query.SearchablePropertyMappings;
 import com.faforever.client.reporting.ReportingService;
 import com.faforever.client.theme.UiService;
+import com.faforever.client.vault.VaultEntityCardController;
 import com.faforever.client.vault.VaultEntityController;
 import com.faforever.client.vault.search.SearchController.SearchConfig;
 import com.faforever.commons.api.dto.Game;
@@ -81,11 +82,18 @@ public class LocalReplayVaultController extends VaultEntityController<ReplayBean
 
   @Override
   protected ReplayCardController createEntityCard() {
-    ReplayCardController controller = uiService.loadFxml("theme/vault/replay/replay_card.fxml");
+    ReplayCardController controller = uiService.acquireFxml(UiService.REPLAY_CARD);
     controller.setOnOpenDetailListener(this::onDisplayDetails);
     controller.setOnDeleteListener(() -> onPageChange(searchController.getLastSearchConfig(), false));
     return controller;
   }
+
+  @Override
+  protected void releaseEntityCard(VaultEntityCardController<ReplayBean> entityCard) {
+    ((ReplayCardController) entityCard).setOnDeleteListener(null);
+    uiService.releaseFxml(UiService.REPLAY_CARD, entityCard);
+  }
+
   @Override
   protected List<ShowRoomCategory> getShowRoomCategories() {
     return List.of();
@@ -17,6 +17,7 @@ import com.faforever.client.query.CategoryFilterController;
 import com.faforever.client.query.SearchablePropertyMappings;
 import com.faforever.client.reporting.ReportingService;
 import com.faforever.client.theme.UiService;
+import com.faforever.client.vault.VaultEntityCardController;
 import com.faforever.client.vault.VaultEntityController;
 import com.faforever.client.vault.search.SearchController.SearchConfig;
 import com.faforever.commons.api.dto.Game;
@@ -88,11 +89,16 @@ public class OnlineReplayVaultController extends VaultEntityController<ReplayBea
 
   @Override
   protected ReplayCardController createEntityCard() {
-    ReplayCardController controller = uiService.loadFxml("theme/vault/replay/replay_card.fxml");
+    ReplayCardController controller = uiService.acquireFxml(UiService.REPLAY_CARD);
     controller.setOnOpenDetailListener(this::onDisplayDetails);
     return controller;
   }
 
+  @Override
+  protected void releaseEntityCard(VaultEntityCardController<ReplayBean> entityCard) {
+    uiService.releaseFxml(UiService.REPLAY_CARD, entityCard);
+  }
+
   @Override
   protected List<ShowRoomCategory> getShowRoomCategories() {
     return List.of(
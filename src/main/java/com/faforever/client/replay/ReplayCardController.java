@@ -108,7 +108,8 @@ public class ReplayCardController extends VaultEntityCardController<ReplayBean>
     playerCountLabel.textProperty()
         .bind(entity.flatMap(ReplayBean::numPlayersProperty).map(i18n::number).when(showing));
     qualityLabel.textProperty()
-        .bind(entity.map(ratingService::calculateQuality)
+        .bind(entity.flatMap(replayBean -> replayBean.teamPlayerStatsProperty()
+                .map(teamPlayerStats -> ratingService.calculateQuality(replayBean)))
             .map(quality -> !Double.isNaN(quality) ? i18n.get("percentage", Math.round(quality * 100)) : i18n.get("gameQuality.undefined"))
             .when(showing));
     ratingLabel.textProperty()
@@ -256,7 +256,9 @@ public class ReplayDetailController extends NodeController<Node> {
                         .orElse(i18n.get("unknown"))
                         .when(showing));
 
-    ObservableValue<Double> qualityObservable = replay.map(ratingService::calculateQuality);
+    // The player stats of a local replay may only be known once its details have been read
+    ObservableValue<Double> qualityObservable = replay.flatMap(replayBean -> replayBean.teamPlayerStatsProperty()
+        .map(teamPlayerStats -> ratingService.calculateQuality(replayBean)));
     BooleanExpression qualityNotDefined = BooleanExpression.booleanExpression(
         qualityObservable.map(quality -> quality.isNaN()));
     qualityLabel.textProperty()
@@ -430,6 +432,10 @@ public class ReplayDetailController extends NodeController<Node> {
         replay.setMapVersion(replayDetails.mapVersion());
       }
 
+      if (replay.getTeamPlayerStats().isEmpty()) {
+        replay.setTeamPlayerStats(replayDetails.teamPlayerStats());
+      }
+
       replay.setChatMessages(replayDetails.chatMessages());
       replay.setGameOptions(replayDetails.gameOptions());
     }, fxApplicationThreadExecutor).exceptionally(throwable -> {
@@ -1,15 +1,19 @@
 package com.faforever.client.replay;
 
+import com.faforever.client.domain.GamePlayerStatsBean;
 import com.faforever.client.domain.MapVersionBean;
 import com.faforever.client.domain.ReplayBean.ChatMessage;
 import com.faforever.client.domain.ReplayBean.GameOption;
 
 import java.util.List;
+import java.util.Map;
 
-public record ReplayDetails(List<ChatMessage> chatMessages, List<GameOption> gameOptions, MapVersionBean mapVersion) {
+public record ReplayDetails(List<ChatMessage> chatMessages, List<GameOption> gameOptions, MapVersionBean mapVersion,
+                            Map<String, List<GamePlayerStatsBean>> teamPlayerStats) {
 
   public ReplayDetails {
     chatMessages = List.copyOf(chatMessages);
     gameOptions = List.copyOf(gameOptions);
+    teamPlayerStats = Map.copyOf(teamPlayerStats);
   }
 }
@@ -2,6 +2,7 @@ package com.faforever.client.replay;
 
 
 import com.faforever.commons.replay.ReplayDataParser;
+import com.faforever.commons.replay.ReplayMetadata;
 import org.apache.commons.compress.compressors.CompressorException;
 
 import java.io.IOException;
@@ -13,4 +14,10 @@ public interface ReplayFileReader {
    * executed commands and so on.
    */
   ReplayDataParser parseReplay(Path path) throws IOException, CompressorException;
+
+  /**
+   * Reads only the metadata header of the specified {@code .fafreplay} file, without decoding or decompressing the
+   * replay data that follows it.
+   */
+  ReplayMetadata readReplayMetadata(Path path) throws IOException;
 }
@@ -1,6 +1,7 @@
 package com.faforever.client.replay;
 
 import com.faforever.commons.replay.ReplayDataParser;
+import com.faforever.commons.replay.ReplayMetadata;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -8,9 +9,13 @@ import org.apache.commons.compress.compressors.CompressorException;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 @Lazy
 @Component
 @Slf4j
@@ -23,4 +28,15 @@ public class ReplayFileReaderImpl implements ReplayFileReader {
   public ReplayDataParser parseReplay(Path path) throws IOException, CompressorException {
     return new ReplayDataParser(path, objectMapper);
   }
+
+  @Override
+  public ReplayMetadata readReplayMetadata(Path path) throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(path, UTF_8)) {
+      String metadataLine = reader.readLine();
+      if (metadataLine == null) {
+        throw new IOException("Replay file is empty: " + path);
+      }
+      return objectMapper.readValue(metadataLine, ReplayMetadata.class);
+    }
+  }
 }
@@ -2,10 +2,9 @@ package com.faforever.client.replay;
 
 import com.faforever.commons.replay.ReplayMetadata;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 public interface ReplayFileWriter {
 
-  void writeReplayDataToFile(ByteArrayOutputStream replayData, ReplayMetadata replayInfo) throws IOException;
+  void writeReplayDataToFile(ReplayRecording replayRecording, ReplayMetadata replayInfo) throws IOException;
 }
@@ -3,7 +3,6 @@ package com.faforever.client.replay;
 import com.faforever.client.config.ClientProperties;
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.commons.io.Bytes;
-import com.faforever.commons.replay.QtCompress;
 import com.faforever.commons.replay.ReplayMetadata;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
@@ -14,8 +13,8 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
 import java.io.BufferedWriter;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -38,25 +37,25 @@ public class ReplayFileWriterImpl implements ReplayFileWriter {
   private final DataPrefs dataPrefs;
 
   @Override
-  public void writeReplayDataToFile(ByteArrayOutputStream replayData, ReplayMetadata replayInfo) throws IOException {
+  public void writeReplayDataToFile(ReplayRecording replayRecording, ReplayMetadata replayInfo) throws IOException {
     String fileName = String.format(clientProperties.getReplay().getReplayFileFormat(), replayInfo.getUid(), replayInfo.getRecorder());
     Path replayFile = dataPrefs.getReplaysDirectory().resolve(fileName);
     Path temporaryReplayFile = Files.createTempFile(dataPrefs.getCacheDirectory(), fileName, "fafreplay");
 
-    log.info("Writing replay file to `{}` ({})", replayFile, Bytes.formatSize(replayData.size(), Locale.ROOT));
+    log.info("Writing replay file to `{}` ({})", replayFile, Bytes.formatSize(replayRecording.size(), Locale.ROOT));
 
     Files.createDirectories(replayFile.getParent());
 
     try (BufferedWriter writer = Files.newBufferedWriter(temporaryReplayFile, UTF_8, APPEND)) {
-      byte[] compressedBytes = QtCompress.qCompress(replayData.toByteArray());
-      String base64ReplayData = BaseEncoding.base64().encode(compressedBytes);
-
       StringWriter replayInfoWriter = new StringWriter();
 
       objectMapper.writeValue(replayInfoWriter, replayInfo);
       writer.write(replayInfoWriter.toString());
       writer.write('\n');
-      writer.write(base64ReplayData);
+
+      try (OutputStream base64OutputStream = BaseEncoding.base64().encodingStream(writer)) {
+        replayRecording.transferTo(base64OutputStream);
+      }
     }
 
     Files.move(temporaryReplayFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
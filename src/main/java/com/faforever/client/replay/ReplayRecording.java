@@ -0,0 +1,79 @@
+package com.faforever.client.replay;
+
+import com.faforever.commons.replay.QtCompress;
+import com.google.common.primitives.Ints;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Replay data of a game that is being recorded. The data is compressed as it comes in and spilled to a temporary file,
+ * so memory usage doesn't depend on how long the game runs. Closing the recording deletes the temporary file.
+ */
+public class ReplayRecording implements Closeable {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Path compressedDataFile;
+  private final Deflater deflater = new Deflater();
+  private final DeflaterOutputStream compressingOutputStream;
+  private long size;
+  private boolean finished;
+
+  public ReplayRecording(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    compressedDataFile = Files.createTempFile(directory, "replay", ".tmp");
+    compressingOutputStream = new DeflaterOutputStream(new BufferedOutputStream(Files.newOutputStream(compressedDataFile), BUFFER_SIZE), deflater, BUFFER_SIZE);
+  }
+
+  public void write(byte[] bytes, int offset, int length) throws IOException {
+    if (finished) {
+      throw new IllegalStateException("Recording has already been finished");
+    }
+    compressingOutputStream.write(bytes, offset, length);
+    size += length;
+  }
+
+  /**
+   * Returns the number of uncompressed bytes recorded so far.
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Finishes the recording and writes the recorded data to the specified stream in the same format as
+   * {@link QtCompress#qCompress(byte[])} produces, without loading it into memory.
+   */
+  public void transferTo(OutputStream outputStream) throws IOException {
+    finish();
+    if (size > Integer.MAX_VALUE) {
+      throw new IOException("Replay data is too large: " + size + " bytes");
+    }
+    outputStream.write(Ints.toByteArray((int) size));
+    Files.copy(compressedDataFile, outputStream);
+  }
+
+  private void finish() throws IOException {
+    if (!finished) {
+      finished = true;
+      compressingOutputStream.close();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      finish();
+    } finally {
+      deflater.end();
+      Files.deleteIfExists(compressedDataFile);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package com.faforever.client.replay;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relays the live replay stream of a game to the remote replay server without ever blocking the game. Data is handed
+ * over through a bounded queue and sent by a virtual thread in batches, which are flushed once they reach
+ * {@link #BATCH_SIZE} bytes or have been collected for {@link #FLUSH_INTERVAL}. Since the replay server can't handle
+ * gaps in the stream, relaying is given up if the remote falls so far behind that the queue runs full.
+ */
+@Slf4j
+class ReplayRelay implements Closeable {
+
+  /**
+   * Number of chunks that may wait for the remote. The live replay stream produces about 70 bytes per second (See #973)
+   * so this is only reached if the remote stops accepting data.
+   */
+  static final int QUEUE_CAPACITY = 1024;
+  private static final int BATCH_SIZE = 8192;
+  private static final Duration FLUSH_INTERVAL = Duration.ofMillis(200);
+  private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+  private static final byte[] END_OF_STREAM = new byte[0];
+
+  private final OutputStream remoteOutputStream;
+  private final BlockingQueue<byte[]> queue;
+  private final Thread senderThread;
+  private final AtomicLong bytesQueued = new AtomicLong();
+  private final AtomicLong bytesRelayed = new AtomicLong();
+  private volatile boolean dropped;
+
+  ReplayRelay(OutputStream remoteOutputStream) {
+    this(remoteOutputStream, QUEUE_CAPACITY);
+  }
+
+  ReplayRelay(OutputStream remoteOutputStream, int queueCapacity) {
+    this.remoteOutputStream = new BufferedOutputStream(remoteOutputStream, BATCH_SIZE);
+    queue = new ArrayBlockingQueue<>(queueCapacity);
+    senderThread = Thread.ofVirtual().name("replay-relay").start(this::sendQueuedData);
+  }
+
+  /**
+   * Queues the specified data to be sent to the remote. Never blocks; if the remote can't keep up, relaying is given up
+   * and any further data is ignored.
+   */
+  void relay(byte[] bytes, int offset, int length) {
+    if (dropped) {
+      return;
+    }
+    bytesQueued.addAndGet(length);
+    if (!queue.offer(Arrays.copyOfRange(bytes, offset, offset + length))) {
+      log.warn("Replay server can't keep up, giving up relaying ({} bytes behind)", getLag());
+      drop();
+    }
+  }
+
+  /**
+   * Returns the number of bytes that have been sent to the remote.
+   */
+  long getBytesRelayed() {
+    return bytesRelayed.get();
+  }
+
+  /**
+   * Returns the number of bytes that have been queued but not yet sent to the remote.
+   */
+  long getLag() {
+    return bytesQueued.get() - bytesRelayed.get();
+  }
+
+  /**
+   * Returns whether relaying has been given up because the connection was lost or the remote couldn't keep up.
+   */
+  boolean isDropped() {
+    return dropped;
+  }
+
+  /**
+   * Sends the remaining queued data, waiting at most {@link #CLOSE_TIMEOUT} for the remote to accept it.
+   */
+  @Override
+  public void close() {
+    if (!dropped && !queue.offer(END_OF_STREAM)) {
+      drop();
+    }
+    try {
+      if (!senderThread.join(CLOSE_TIMEOUT)) {
+        log.warn("Replay server did not accept the remaining {} bytes in time", getLag());
+        senderThread.interrupt();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      senderThread.interrupt();
+    }
+  }
+
+  private void drop() {
+    dropped = true;
+    queue.clear();
+    queue.offer(END_OF_STREAM);
+  }
+
+  private void sendQueuedData() {
+    try {
+      byte[] chunk = queue.take();
+      while (chunk != END_OF_STREAM && !dropped) {
+        long flushDeadline = System.nanoTime() + FLUSH_INTERVAL.toNanos();
+        int batchSize = 0;
+        while (chunk != null && chunk != END_OF_STREAM && batchSize < BATCH_SIZE) {
+          remoteOutputStream.write(chunk);
+          batchSize += chunk.length;
+          chunk = queue.poll(flushDeadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+        remoteOutputStream.flush();
+        bytesRelayed.addAndGet(batchSize);
+
+        if (chunk == null) {
+          chunk = queue.take();
+        }
+      }
+    } catch (IOException e) {
+      // In case we lose connection to the replay server, just stop writing to it
+      log.warn("Connection to replay server lost ({})", e.getMessage());
+      drop();
+    } catch (InterruptedException e) {
+      log.debug("Replay relay interrupted with {} bytes left", getLag());
+    }
+  }
+}
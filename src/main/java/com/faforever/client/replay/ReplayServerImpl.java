@@ -9,6 +9,7 @@ import com.faforever.client.notification.NotificationService;
 import com.faforever.client.notification.PersistentNotification;
 import com.faforever.client.notification.Severity;
 import com.faforever.client.player.PlayerService;
+import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.update.Version;
 import com.faforever.client.user.LoginService;
 import com.faforever.commons.replay.ReplayMetadata;
@@ -19,21 +20,20 @@ import org.jetbrains.annotations.Nullable;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.ConnectException;
 import java.net.ServerSocket;
 import java.net.Socket;
-import java.net.SocketException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -44,12 +44,10 @@ import java.util.stream.Collectors;
 public class ReplayServerImpl implements ReplayServer {
 
   /**
-   * Size for buffer used to send data to the live replay server. The buffer needs to be large enough to not flush too
-   * many times (after all, it's a TCP stream so we don't want to send single bytes) but small enough to not delay data
-   * for too long. I don't have any data right now but it can be expected that the replay stream produces about 70 bytes
-   * per second (See #973).
+   * Size of the buffer used to read the replay stream from the game. Reads return as soon as any data is available, so
+   * this doesn't delay anything; batching the data sent to the live replay server is up to {@link ReplayRelay}.
    */
-  private static final int REPLAY_BUFFER_SIZE = 128;
+  private static final int REPLAY_BUFFER_SIZE = 8192;
 
   /**
    * This is a prefix used in the FA live replay protocol that needs to be stripped away when storing to a file.
@@ -62,6 +60,11 @@ public class ReplayServerImpl implements ReplayServer {
   private final LoginService loginService;
   private final ReplayFileWriter replayFileWriter;
   private final PlayerService playerService;
+  private final DataPrefs dataPrefs;
+
+  private final AtomicLong bytesRelayed = new AtomicLong();
+  private final AtomicLong relayLag = new AtomicLong();
+  private final AtomicInteger droppedRelayConnections = new AtomicInteger();
 
   private ReplayMetadata replayInfo;
   private ServerSocket serverSocket;
@@ -74,6 +77,28 @@ public class ReplayServerImpl implements ReplayServer {
     return System.currentTimeMillis() / 1000;
   }
 
+  /**
+   * Returns the total number of bytes sent to the live replay server.
+   */
+  public long getBytesRelayed() {
+    return bytesRelayed.get();
+  }
+
+  /**
+   * Returns the number of bytes of the current game that haven't been sent to the live replay server yet.
+   */
+  public long getRelayLag() {
+    return relayLag.get();
+  }
+
+  /**
+   * Returns how often relaying to the live replay server had to be given up, either because the connection was lost or
+   * because the server couldn't keep up.
+   */
+  public int getDroppedRelayConnections() {
+    return droppedRelayConnections.get();
+  }
+
   @Override
   public void stop() throws IOException {
     if (serverSocket == null) {
@@ -87,7 +112,7 @@ public class ReplayServerImpl implements ReplayServer {
   public CompletableFuture<Integer> start(int gameId, Supplier<GameBean> gameSupplier) {
     stoppedGracefully = false;
     CompletableFuture<Integer> future = new CompletableFuture<>();
-    new Thread(() -> {
+    Thread.ofVirtual().name("replay-server").start(() -> {
       String remoteReplayServerHost = clientProperties.getReplay().getRemoteHost();
       Integer remoteReplayServerPort = clientProperties.getReplay().getRemotePort();
 
@@ -98,9 +123,8 @@ public class ReplayServerImpl implements ReplayServer {
         this.serverSocket = localSocket;
         future.complete(serverSocket.getLocalPort());
 
-        try (Socket remoteReplayServerSocket = new Socket(remoteReplayServerHost, remoteReplayServerPort);
-             DataOutputStream fafReplayOutputStream = new DataOutputStream(remoteReplayServerSocket.getOutputStream())) {
-          recordAndRelay(gameId, localSocket, fafReplayOutputStream, gameSupplier);
+        try (Socket remoteReplayServerSocket = new Socket(remoteReplayServerHost, remoteReplayServerPort)) {
+          recordAndRelay(gameId, localSocket, remoteReplayServerSocket.getOutputStream(), gameSupplier);
         } catch (ConnectException e) {
           log.warn("Could not connect to remote replay server", e);
           notificationService.addNotification(new PersistentNotification(i18n.get("replayServer.unreachable"), Severity.WARN));
@@ -117,7 +141,7 @@ public class ReplayServerImpl implements ReplayServer {
             Severity.WARN, Collections.singletonList(new Action(i18n.get("replayServer.retry"), event -> start(gameId, gameSupplier)))
         ));
       }
-    }).start();
+    });
     return future;
   }
 
@@ -141,38 +165,47 @@ public class ReplayServerImpl implements ReplayServer {
 
     initReplayInfo(uid);
 
-    ByteArrayOutputStream replayData = new ByteArrayOutputStream();
-
-    boolean connectionToServerLost = false;
     byte[] buffer = new byte[REPLAY_BUFFER_SIZE];
-    try (InputStream inputStream = socket.getInputStream()) {
+    ReplayRelay replayRelay = fafReplayOutputStream != null ? new ReplayRelay(fafReplayOutputStream) : null;
+    try (ReplayRecording replayRecording = new ReplayRecording(dataPrefs.getCacheDirectory());
+         InputStream inputStream = socket.getInputStream()) {
       int bytesRead;
       while ((bytesRead = inputStream.read(buffer)) != -1) {
-        if (replayData.size() == 0 && Bytes.indexOf(buffer, LIVE_REPLAY_PREFIX) != -1) {
+        if (replayRecording.size() == 0 && Bytes.indexOf(buffer, LIVE_REPLAY_PREFIX) != -1) {
           int dataBeginIndex = Bytes.indexOf(buffer, (byte) 0x00) + 1;
-          replayData.write(buffer, dataBeginIndex, bytesRead - dataBeginIndex);
+          replayRecording.write(buffer, dataBeginIndex, bytesRead - dataBeginIndex);
         } else {
-          replayData.write(buffer, 0, bytesRead);
+          replayRecording.write(buffer, 0, bytesRead);
         }
 
-        if (!connectionToServerLost && fafReplayOutputStream != null) {
-          try {
-            fafReplayOutputStream.write(buffer, 0, bytesRead);
-          } catch (SocketException e) {
-            // In case we lose connection to the replay server, just stop writing to it
-            log.warn("Connection to replay server lost ({})", e.getMessage());
-            connectionToServerLost = true;
-          }
+        if (replayRelay != null) {
+          replayRelay.relay(buffer, 0, bytesRead);
+          relayLag.set(replayRelay.getLag());
         }
       }
+
+      log.info("FAF disconnected, writing replay data to file");
+      finishReplayInfo(game);
+      replayFileWriter.writeReplayDataToFile(replayRecording, replayInfo);
     } catch (Exception e) {
       log.error("Error while recording replay", e);
       throw e;
+    } finally {
+      closeRelay(replayRelay);
     }
+  }
 
-    log.info("FAF disconnected, writing replay data to file");
-    finishReplayInfo(game);
-    replayFileWriter.writeReplayDataToFile(replayData, replayInfo);
+  private void closeRelay(@Nullable ReplayRelay replayRelay) {
+    if (replayRelay == null) {
+      return;
+    }
+    replayRelay.close();
+    bytesRelayed.addAndGet(replayRelay.getBytesRelayed());
+    relayLag.set(0);
+    if (replayRelay.isDropped()) {
+      droppedRelayConnections.incrementAndGet();
+    }
+    log.info("Relayed {} bytes to the replay server ({} bytes not relayed)", replayRelay.getBytesRelayed(), replayRelay.getLag());
   }
 
   private void finishReplayInfo(GameBean game) {
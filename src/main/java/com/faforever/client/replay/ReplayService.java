@@ -21,6 +21,7 @@ import com.faforever.client.notification.Action;
 import com.faforever.client.notification.NotificationService;
 import com.faforever.client.notification.PersistentNotification;
 import com.faforever.client.preferences.DataPrefs;
+import com.faforever.client.replay.LocalReplayIndexEntry.Army;
 import com.faforever.client.task.TaskService;
 import com.faforever.client.user.LoginService;
 import com.faforever.client.util.FileSizeReader;
@@ -51,15 +52,13 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.FileTime;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -70,7 +69,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static com.faforever.client.notification.Severity.WARN;
 import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
@@ -104,6 +102,7 @@ public class ReplayService {
   private final ReplayMapper replayMapper;
   private final DataPrefs dataPrefs;
   private final ObjectFactory<ReplayDownloadTask> replayDownloadTaskFactory;
+  private final LocalReplayIndex localReplayIndex;
 
   @VisibleForTesting
   static Integer parseSupComVersion(ReplayDataParser parser) {
@@ -152,53 +151,34 @@ public class ReplayService {
   @Async
   public CompletableFuture<Tuple2<List<ReplayBean>, Integer>> loadLocalReplayPage(int pageSize,
                                                                                   int page) throws IOException {
-    String replayFileGlob = clientProperties.getReplay().getReplayFileGlob();
-
-    Path replaysDirectory = dataPrefs.getReplaysDirectory();
-    if (Files.notExists(replaysDirectory)) {
-      Files.createDirectories(replaysDirectory);
-    }
-
     int skippedReplays = pageSize * (page - 1);
 
-    try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(replaysDirectory, replayFileGlob)) {
-      Stream<Path> filesStream = StreamSupport.stream(directoryStream.spliterator(), false)
-          .sorted(Comparator.comparing(path -> {
-            try {
-              return Files.getLastModifiedTime((Path) path);
-            } catch (IOException e) {
-              log.warn("Could not get last modified time of file {}", path, e);
-              return FileTime.from(Instant.EPOCH);
-            }
-          }).reversed());
-
-      List<Path> filesList = filesStream.toList();
-      int numPages = filesList.size() / pageSize;
-
-      List<CompletableFuture<ReplayBean>> replayFutures = filesList.stream()
-          .skip(skippedReplays)
-          .limit(pageSize)
-          .map(this::tryLoadingLocalReplay)
-          .filter(e -> !e.isCompletedExceptionally())
-          .toList();
-
-      return Mono.fromFuture(CompletableFuture.allOf(replayFutures.toArray(new CompletableFuture[0]))
-          .thenApply(ignoredVoid -> replayFutures.stream()
-              .map(CompletableFuture::join)
-              .filter(Objects::nonNull)
-              .collect(Collectors.toList()))).zipWith(Mono.just(numPages)).toFuture();
-    }
+    List<Path> filesList = localReplayIndex.getReplayFiles();
+    int numPages = filesList.size() / pageSize;
+
+    List<CompletableFuture<ReplayBean>> replayFutures = filesList.stream()
+        .skip(skippedReplays)
+        .limit(pageSize)
+        .map(this::tryLoadingLocalReplay)
+        .filter(e -> !e.isCompletedExceptionally())
+        .toList();
+
+    return Mono.fromFuture(CompletableFuture.allOf(replayFutures.toArray(new CompletableFuture[0]))
+        .thenApply(ignoredVoid -> replayFutures.stream()
+            .map(CompletableFuture::join)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList()))
+        .whenComplete((replays, throwable) -> localReplayIndex.save())).zipWith(Mono.just(numPages)).toFuture();
   }
 
 
   private CompletableFuture<ReplayBean> tryLoadingLocalReplay(Path replayFile) {
     try {
-      ReplayDataParser replayData = replayFileReader.parseReplay(replayFile);
-      ReplayMetadata replayMetadata = replayData.getMetadata();
+      LocalReplayIndexEntry indexEntry = localReplayIndex.getEntry(replayFile);
 
-      CompletableFuture<FeaturedModBean> featuredModFuture = modService.getFeaturedMod(replayMetadata.getFeaturedMod())
+      CompletableFuture<FeaturedModBean> featuredModFuture = modService.getFeaturedMod(indexEntry.featuredMod())
           .toFuture();
-      CompletableFuture<Optional<MapVersionBean>> mapVersionFuture = mapService.findByMapFolderName(replayMetadata.getMapname());
+      CompletableFuture<Optional<MapVersionBean>> mapVersionFuture = mapService.findByMapFolderName(indexEntry.mapName());
 
       return CompletableFuture.allOf(featuredModFuture, mapVersionFuture).thenApply(ignoredVoid -> {
         MapVersionBean mapVersion = mapVersionFuture.join().orElse(null);
@@ -206,7 +186,7 @@ public class ReplayService {
         if (mapVersion == null) {
           log.warn("Could not find map for replay file `{}`", replayFile);
         }
-        return replayMapper.map(replayData, replayFile, featuredMod, mapVersion);
+        return replayMapper.map(indexEntry, replayFile, featuredMod, mapVersion);
       }).exceptionally(throwable -> {
         log.warn("Could not read replay file `{}`", replayFile, throwable);
         moveCorruptedReplayFile(replayFile);
@@ -278,10 +258,28 @@ public class ReplayService {
   }
 
   /**
-   * Reads the specified replay file in order to add more information to the specified replay instance.
+   * Reads the specified replay file in order to add more information to the specified replay instance. Unlike the
+   * local replay listing, which only reads the metadata header, this parses the whole replay. The players' ratings of
+   * local replays are added to the local replay index, and local replays that can't be parsed are moved aside.
    */
   public ReplayDetails loadReplayDetails(Path path) throws CompressorException, IOException {
-    ReplayDataParser replayDataParser = replayFileReader.parseReplay(path);
+    ReplayDataParser replayDataParser;
+    try {
+      replayDataParser = replayFileReader.parseReplay(path);
+    } catch (FileNotFoundException | NoSuchFileException e) {
+      throw e;
+    } catch (CompressorException | IOException | RuntimeException e) {
+      if (path.startsWith(dataPrefs.getReplaysDirectory())) {
+        log.warn("Could not read replay file `{}`", path, e);
+        moveCorruptedReplayFile(path);
+      }
+      throw e;
+    }
+
+    List<Army> armies = replayMapper.mapArmies(replayDataParser);
+    localReplayIndex.putArmies(path, armies);
+    localReplayIndex.save();
+
     List<ChatMessage> chatMessages = replayDataParser.getChatMessages().stream().map(replayMapper::map).toList();
     List<GameOption> gameOptions = Stream.concat(Stream.of(new GameOption("FAF Version", String.valueOf(parseSupComVersion(replayDataParser)))), replayDataParser.getGameOptions()
         .stream()
@@ -295,7 +293,7 @@ public class ReplayService {
     mapVersion.setMap(map);
     map.setDisplayName(mapFolderName);
 
-    return new ReplayDetails(chatMessages, gameOptions, mapVersion);
+    return new ReplayDetails(chatMessages, gameOptions, mapVersion, replayMapper.mapTeamStats(armies));
   }
 
   public CompletableFuture<Integer> getFileSize(ReplayBean replay) {
@@ -9,10 +9,16 @@ import java.util.concurrent.CompletableFuture;
 public abstract class CompletableTask<V> extends Task<V> implements PrioritizedCompletableTask<V> {
 
   private final CompletableFuture<V> future;
+  private final ResourceClass resourceClass;
   private Priority priority;
 
   public CompletableTask(Priority priority) {
+    this(priority, ResourceClass.NETWORK);
+  }
+
+  public CompletableTask(Priority priority, ResourceClass resourceClass) {
     this.priority = priority;
+    this.resourceClass = resourceClass;
     this.future = new CompletableFuture<>();
     setOnCancelled(event -> future.cancel(true));
     setOnFailed(event -> future.completeExceptionally(getException()));
@@ -29,6 +35,16 @@ public abstract class CompletableTask<V> extends Task<V> implements PrioritizedC
     return priority.compareTo(other.priority);
   }
 
+  @Override
+  public Priority getPriority() {
+    return priority;
+  }
+
+  @Override
+  public ResourceClass getResourceClass() {
+    return resourceClass;
+  }
+
   public void setPriority(Priority priority) {
     Assert.checkNotNullIllegalState(this.priority, "Priority has already been set");
     this.priority = priority;
@@ -45,4 +61,13 @@ public abstract class CompletableTask<V> extends Task<V> implements PrioritizedC
     MEDIUM,
     HIGH
   }
+
+  /**
+   * The resource a task mostly waits for, which decides how many tasks of its kind may run at once.
+   */
+  public enum ResourceClass {
+    DISK,
+    NETWORK,
+    CPU
+  }
 }
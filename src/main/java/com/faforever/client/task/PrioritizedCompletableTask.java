@@ -1,5 +1,7 @@
 package com.faforever.client.task;
 
+import com.faforever.client.task.CompletableTask.Priority;
+import com.faforever.client.task.CompletableTask.ResourceClass;
 import javafx.concurrent.Worker;
 
 import java.util.concurrent.CompletableFuture;
@@ -20,4 +22,8 @@ public interface PrioritizedCompletableTask<V> extends Comparable<CompletableTas
   boolean cancel(boolean mayInterruptIfRunning);
 
   CompletableFuture<V> getFuture();
+
+  Priority getPriority();
+
+  ResourceClass getResourceClass();
 }
@@ -0,0 +1,131 @@
+package com.faforever.client.task;
+
+import com.faforever.client.task.CompletableTask.Priority;
+import com.faforever.client.task.CompletableTask.ResourceClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs tasks in one lane per {@link ResourceClass}. Each lane runs a limited number of tasks at once and starts queued
+ * tasks by priority, and in submission order for tasks of the same priority. Tasks that block on disk or network I/O
+ * run on virtual threads, CPU bound tasks on platform threads.
+ */
+@Slf4j
+public class PriorityTaskExecutor {
+
+  private final Map<ResourceClass, Lane> lanes = new EnumMap<>(ResourceClass.class);
+  private final AtomicLong sequence = new AtomicLong();
+
+  public PriorityTaskExecutor(Map<ResourceClass, Integer> concurrencyByResourceClass) {
+    for (ResourceClass resourceClass : ResourceClass.values()) {
+      int concurrency = concurrencyByResourceClass.getOrDefault(resourceClass, 1);
+      ThreadFactory threadFactory = resourceClass == ResourceClass.CPU
+          ? Thread.ofPlatform().daemon().name("task-cpu-", 0).factory()
+          : Thread.ofVirtual().name("task-" + resourceClass.name().toLowerCase() + "-", 0).factory();
+      lanes.put(resourceClass, new Lane(resourceClass, concurrency, Executors.newThreadPerTaskExecutor(threadFactory)));
+    }
+  }
+
+  public void execute(PrioritizedCompletableTask<?> task) {
+    lanes.get(task.getResourceClass())
+        .enqueue(new QueuedTask(task, task.getPriority(), sequence.getAndIncrement(), System.nanoTime()));
+  }
+
+  public Statistics getStatistics(ResourceClass resourceClass) {
+    return lanes.get(resourceClass).getStatistics();
+  }
+
+  /**
+   * Discards all queued tasks and interrupts the running ones.
+   */
+  public void shutdown() {
+    lanes.values().forEach(Lane::shutdown);
+  }
+
+  /**
+   * @param queued number of tasks waiting for a free slot
+   * @param running number of tasks currently running
+   * @param started number of tasks started so far
+   * @param totalWait sum of the time the started tasks waited in the queue
+   * @param maxWait longest time a started task waited in the queue
+   */
+  public record Statistics(int queued, int running, long started, Duration totalWait, Duration maxWait) {
+
+    public Duration averageWait() {
+      return started == 0 ? Duration.ZERO : totalWait.dividedBy(started);
+    }
+  }
+
+  private record QueuedTask(PrioritizedCompletableTask<?> task, Priority priority, long sequence, long enqueuedNanos) {
+
+    private static final Comparator<QueuedTask> EXECUTION_ORDER = Comparator.comparing(QueuedTask::priority, Comparator.reverseOrder())
+        .thenComparingLong(QueuedTask::sequence);
+  }
+
+  private static class Lane {
+    private final ResourceClass resourceClass;
+    private final int concurrency;
+    private final ExecutorService executor;
+    private final PriorityQueue<QueuedTask> queue = new PriorityQueue<>(QueuedTask.EXECUTION_ORDER);
+    private final LongAdder started = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+    private int running;
+
+    private Lane(ResourceClass resourceClass, int concurrency, ExecutorService executor) {
+      this.resourceClass = resourceClass;
+      this.concurrency = concurrency;
+      this.executor = executor;
+    }
+
+    private synchronized void enqueue(QueuedTask queuedTask) {
+      queue.add(queuedTask);
+      startQueuedTasks();
+    }
+
+    private synchronized void startQueuedTasks() {
+      while (running < concurrency && !queue.isEmpty() && !executor.isShutdown()) {
+        QueuedTask queuedTask = queue.poll();
+        running++;
+        executor.execute(() -> run(queuedTask));
+      }
+    }
+
+    private void run(QueuedTask queuedTask) {
+      long waitNanos = System.nanoTime() - queuedTask.enqueuedNanos();
+      started.increment();
+      totalWaitNanos.add(waitNanos);
+      maxWaitNanos.accumulate(waitNanos);
+      log.trace("Starting {} task '{}' with priority {} after waiting {} ms", resourceClass, queuedTask.task()
+          .getTitle(), queuedTask.priority(), Duration.ofNanos(waitNanos).toMillis());
+      try {
+        queuedTask.task().run();
+      } finally {
+        synchronized (this) {
+          running--;
+          startQueuedTasks();
+        }
+      }
+    }
+
+    private synchronized Statistics getStatistics() {
+      return new Statistics(queue.size(), running, started.sum(), Duration.ofNanos(totalWaitNanos.sum()), Duration.ofNanos(maxWaitNanos.get()));
+    }
+
+    private synchronized void shutdown() {
+      queue.clear();
+      executor.shutdownNow();
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package com.faforever.client.task;
 
 import com.faforever.client.fx.FxApplicationThreadExecutor;
+import com.faforever.client.task.CompletableTask.ResourceClass;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.concurrent.Worker;
@@ -9,13 +10,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.ExecutorService;
-
 /**
  * Enqueues and runs tasks in background. Services that need to run a task (tasks that finish, not long-running
  * background jobs) in background should always submit them to this service.
  * <p>
- * There are different queues for different kind of tasks. For every queue, only one task is executed at a time.
+ * Tasks are queued by the {@link ResourceClass} they use and started by priority, see {@link PriorityTaskExecutor}.
  */
 @Lazy
 @Service
@@ -23,7 +22,7 @@ import java.util.concurrent.ExecutorService;
 @Slf4j
 public class TaskService {
 
-  private final ExecutorService taskExecutor;
+  private final PriorityTaskExecutor priorityTaskExecutor;
   private final FxApplicationThreadExecutor fxApplicationThreadExecutor;
 
   private final ObservableList<Worker<?>> activeTasks = FXCollections.synchronizedObservableList(FXCollections.observableArrayList());
@@ -36,20 +35,23 @@ public class TaskService {
    * @param task the task to execute
    */
   public <T extends PrioritizedCompletableTask<?>> T submitTask(T task) {
+    // Both updates of the active tasks go through the FX thread in order, so a task can't be removed before it's added
+    fxApplicationThreadExecutor.execute(() -> activeTasks.add(task));
     task.getFuture().whenComplete((o, throwable) -> {
-      activeTasks.remove(task);
+      fxApplicationThreadExecutor.execute(() -> activeTasks.remove(task));
       if (throwable != null) {
         log.error("Task failed", throwable);
       }
     });
-    fxApplicationThreadExecutor.execute(() -> {
-      activeTasks.add(task);
-      taskExecutor.execute(task);
-    });
+    priorityTaskExecutor.execute(task);
 
     return task;
   }
 
+  public PriorityTaskExecutor.Statistics getStatistics(ResourceClass resourceClass) {
+    return priorityTaskExecutor.getStatistics(resourceClass);
+  }
+
   public ObservableList<Worker<?>> getActiveWorkers() {
     return unmodifiableObservableList;
   }
@@ -9,6 +9,7 @@ import com.faforever.client.domain.PartyBean.PartyMember;
 import com.faforever.client.domain.PlayerBean;
 import com.faforever.client.exception.NotifiableException;
 import com.faforever.client.fx.FxApplicationThreadExecutor;
+import com.faforever.client.fx.IndexedObservableList;
 import com.faforever.client.fx.JavaFxUtil;
 import com.faforever.client.fx.SimpleChangeListener;
 import com.faforever.client.fx.SimpleInvalidationListener;
@@ -120,7 +121,7 @@ public class TeamMatchmakingService implements InitializingBean {
       FXCollections.observableHashMap());
   @Getter
   private final ObservableList<MatchmakerQueueBean> queues = JavaFxUtil.attachListToMap(
-      FXCollections.synchronizedObservableList(FXCollections.observableArrayList(
+      FXCollections.synchronizedObservableList(new IndexedObservableList<>(
           queue -> new Observable[]{queue.selectedProperty(), queue.matchingStatusProperty()})), nameToQueue);
   private final FilteredList<MatchmakerQueueBean> selectedQueues = new FilteredList<>(queues,
                                                                                       MatchmakerQueueBean::isSelected);
@@ -3,6 +3,7 @@ package com.faforever.client.theme;
 import com.faforever.client.config.CacheNames;
 import com.faforever.client.exception.FxmlLoadException;
 import com.faforever.client.fx.Controller;
+import com.faforever.client.fx.FxApplicationThreadExecutor;
 import com.faforever.client.fx.JavaFxUtil;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.ui.dialog.Dialog;
@@ -19,30 +20,87 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
 import org.springframework.context.support.MessageSourceResourceBundle;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 
 
 @Lazy
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class UiService implements InitializingBean {
+public class UiService implements InitializingBean, DisposableBean {
 
   private final ThemeService themeService;
   private final MessageSource messageSource;
   private final ApplicationContext applicationContext;
   private final I18n i18n;
+  private final FxApplicationThreadExecutor fxApplicationThreadExecutor;
+
+  public static final String GAME_CARD = "theme/play/game_card.fxml";
+  public static final String TEAM_CARD = "theme/team_card.fxml";
+  public static final String PLAYER_CARD = "theme/player_card.fxml";
+  public static final String CHAT_USER_ITEM = "theme/chat/chat_user_item.fxml";
+  public static final String MAP_CARD = "theme/vault/map/map_card.fxml";
+  public static final String MOD_CARD = "theme/vault/mod/mod_card.fxml";
+  public static final String REPLAY_CARD = "theme/vault/replay/replay_card.fxml";
+
+  /** The FXML files that are created often enough to keep prebuilt controllers, and how many to keep of each. */
+  private static final Map<String, Integer> FXML_POOL_SIZES = Map.of(
+      GAME_CARD, 16,
+      TEAM_CARD, 8,
+      PLAYER_CARD, 32,
+      CHAT_USER_ITEM, 32,
+      MAP_CARD, 12,
+      MOD_CARD, 12,
+      REPLAY_CARD, 12
+  );
+
+  /**
+   * The pooled FXML files whose controllers listen to shared state, like preferences, as soon as they are initialized.
+   * Their pools are filled on the JavaFX application thread, one controller at a time, rather than in background.
+   */
+  private static final Set<String> FX_THREAD_POOLED_FXML = Set.of(CHAT_USER_ITEM);
+
+  /**
+   * The FXML files whose controllers either only touch their own state while they are being loaded or are only ever
+   * loaded on the JavaFX application thread, so they don't need to wait for other loads. All other files are loaded one
+   * at a time.
+   */
+  private static final Set<String> LOCK_FREE_FXML = Set.of(GAME_CARD, CHAT_USER_ITEM, MAP_CARD, MOD_CARD, REPLAY_CARD);
 
   private final ReentrantLock fxmlLoadLock = new ReentrantLock(true);
+  private final Map<String, BlockingQueue<Controller<?>>> fxmlPools = FXML_POOL_SIZES.entrySet()
+      .stream()
+      .collect(Collectors.toUnmodifiableMap(Entry::getKey, entry -> new ArrayBlockingQueue<>(entry.getValue())));
+  private final Set<String> fxmlPoolsBeingFilled = ConcurrentHashMap.newKeySet();
+  private final ExecutorService fxmlPoolExecutor = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+      .name("fxml-pool")
+      .daemon()
+      .priority(Thread.MIN_PRIORITY)
+      .factory());
+  private final LongAdder pooledFxmlHits = new LongAdder();
+  private final LongAdder pooledFxmlMisses = new LongAdder();
 
   private MessageSourceResourceBundle resources;
 
@@ -51,6 +109,19 @@ public class UiService implements InitializingBean {
     resources = new MessageSourceResourceBundle(messageSource, i18n.getUserSpecificLocale());
   }
 
+  /**
+   * Fills the FXML pools once the application is up.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void fillFxmlPools() {
+    fxmlPools.keySet().forEach(this::fillFxmlPool);
+  }
+
+  @Override
+  public void destroy() {
+    fxmlPoolExecutor.shutdownNow();
+  }
+
   /**
    * Loads an image with caching.
    */
@@ -61,10 +132,23 @@ public class UiService implements InitializingBean {
 
   /**
    * Loads an FXML file and returns its controller instance. The controller instance is retrieved from the application
-   * context, so its scope (which should always be "prototype") depends on the bean definition.
+   * context, so its scope (which should always be "prototype") depends on the bean definition. Cards that are created
+   * in large numbers are loaded without waiting for other loads, all other files are loaded one at a time.
    */
   public <T extends Controller<?>> T loadFxml(String relativePath) {
+    if (LOCK_FREE_FXML.contains(relativePath)) {
+      return loadFxmlUnlocked(relativePath);
+    }
+
     fxmlLoadLock.lock();
+    try {
+      return loadFxmlUnlocked(relativePath);
+    } finally {
+      fxmlLoadLock.unlock();
+    }
+  }
+
+  private <T extends Controller<?>> T loadFxmlUnlocked(String relativePath) {
     try {
       Fx2jLoader loader = new Fx2jLoader();
       loader.setLocation(themeService.getThemeFileUrl(relativePath));
@@ -74,8 +158,89 @@ public class UiService implements InitializingBean {
       return loader.getController();
     } catch (IOException e) {
       throw new FxmlLoadException("Could not load fxml " + relativePath, e, "fxml.loadError", relativePath);
-    } finally {
-      fxmlLoadLock.unlock();
+    }
+  }
+
+  /**
+   * Returns a controller of the specified FXML file like {@link #loadFxml(String)}, but takes a prebuilt one if the
+   * file is pooled. Pooled controllers are either unused or have been handed back using {@link #releaseFxml(String,
+   * Controller)}, so callers need to set all the state they depend on. The pool is refilled afterwards.
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Controller<?>> T acquireFxml(String relativePath) {
+    BlockingQueue<Controller<?>> pool = fxmlPools.get(relativePath);
+    if (pool == null) {
+      return loadFxml(relativePath);
+    }
+
+    Controller<?> controller = pool.poll();
+    fillFxmlPool(relativePath);
+    if (controller == null) {
+      pooledFxmlMisses.increment();
+      log.trace("No pooled controller for {}", relativePath);
+      return loadFxml(relativePath);
+    }
+    pooledFxmlHits.increment();
+    return (T) controller;
+  }
+
+  /**
+   * Hands a controller that was acquired using {@link #acquireFxml(String)} back to its pool once its root node has
+   * been removed from the scene graph. Must not be called for controllers that are still in use.
+   */
+  public void releaseFxml(String relativePath, Controller<?> controller) {
+    BlockingQueue<Controller<?>> pool = fxmlPools.get(relativePath);
+    if (pool != null) {
+      pool.offer(controller);
+    }
+  }
+
+  public FxmlPoolStatistics getFxmlPoolStatistics() {
+    return new FxmlPoolStatistics(pooledFxmlHits.sum(), pooledFxmlMisses.sum());
+  }
+
+  private void fillFxmlPool(String relativePath) {
+    if (!fxmlPoolsBeingFilled.add(relativePath)) {
+      return;
+    }
+
+    BlockingQueue<Controller<?>> pool = fxmlPools.get(relativePath);
+    if (FX_THREAD_POOLED_FXML.contains(relativePath)) {
+      fxApplicationThreadExecutor.runLater(() -> fillFxmlPoolOnFxThread(relativePath, pool));
+      return;
+    }
+
+    fxmlPoolExecutor.execute(() -> {
+      try {
+        while (pool.remainingCapacity() > 0) {
+          pool.offer(loadFxml(relativePath));
+        }
+      } catch (RuntimeException e) {
+        log.warn("Could not prebuild controller for {}", relativePath, e);
+      } finally {
+        fxmlPoolsBeingFilled.remove(relativePath);
+      }
+    });
+  }
+
+  /**
+   * Prebuilds a single controller and schedules the next one, so other events are handled in between.
+   */
+  private void fillFxmlPoolOnFxThread(String relativePath, BlockingQueue<Controller<?>> pool) {
+    boolean filled = true;
+    try {
+      if (!fxmlPoolExecutor.isShutdown() && pool.remainingCapacity() > 0) {
+        pool.offer(loadFxml(relativePath));
+        filled = pool.remainingCapacity() == 0;
+      }
+    } catch (RuntimeException e) {
+      log.warn("Could not prebuild controller for {}", relativePath, e);
+    }
+
+    if (filled) {
+      fxmlPoolsBeingFilled.remove(relativePath);
+    } else {
+      fxApplicationThreadExecutor.runLater(() -> fillFxmlPoolOnFxThread(relativePath, pool));
     }
   }
 
@@ -129,4 +294,16 @@ public class UiService implements InitializingBean {
     JavaFxUtil.bind(scrollPane.prefHeightProperty(), dialogContent.heightProperty());
     dialog.setContent(scrollPane);
   }
+
+  /**
+   * @param hits number of controllers taken from a pool
+   * @param misses number of controllers that had to be loaded since their pool was empty
+   */
+  public record FxmlPoolStatistics(long hits, long misses) {
+
+    public double hitRatio() {
+      long acquired = hits + misses;
+      return acquired == 0 ? 0 : (double) hits / acquired;
+    }
+  }
 }
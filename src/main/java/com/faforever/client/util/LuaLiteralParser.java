@@ -0,0 +1,412 @@
+package com.faforever.client.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads Lua chunks that consist of nothing but global assignments of literal values, like the {@code _scenario.lua} of
+ * a map, without executing them in a Lua VM. Strings, numbers, booleans and table constructors are supported; the
+ * values of function calls and variable references can't be known without evaluating the chunk, so they are returned
+ * as {@link #UNRESOLVED}. Anything else is rejected with an {@link UnsupportedSyntaxException}, in which case the chunk
+ * needs to be evaluated by {@link LuaUtil} instead.
+ *
+ * <p>Values are returned as {@link String}, {@link Long}, {@link Double}, {@link Boolean} or {@code Map<Object,
+ * Object>} for tables, where the positional fields of a table are keyed by their {@link Long} index starting at 1.
+ * Fields that are assigned {@code nil} are left out, just like Lua does.</p>
+ */
+public final class LuaLiteralParser {
+
+  /** Value of expressions that would need to be evaluated, like {@code STRING('ARMY_9')}. */
+  public static final Object UNRESOLVED = new Object() {
+    @Override
+    public String toString() {
+      return "<unresolved>";
+    }
+  };
+
+  private final String source;
+  private int position;
+
+  private LuaLiteralParser(String source) {
+    this.source = source;
+  }
+
+  /**
+   * Returns the values of all global variables assigned by the specified chunk.
+   */
+  public static Map<String, Object> parseAssignments(String source) throws UnsupportedSyntaxException {
+    return new LuaLiteralParser(source).parseChunk();
+  }
+
+  private Map<String, Object> parseChunk() throws UnsupportedSyntaxException {
+    Map<String, Object> globals = new HashMap<>();
+    skipWhitespaceAndComments();
+    while (position < source.length()) {
+      String name = parseName();
+      skipWhitespaceAndComments();
+      expect('=');
+      Object value = parseExpression();
+      if (value == null) {
+        globals.remove(name);
+      } else {
+        globals.put(name, value);
+      }
+      skipWhitespaceAndComments();
+      if (peek() == ';') {
+        position++;
+        skipWhitespaceAndComments();
+      }
+    }
+    return globals;
+  }
+
+  private Object parseExpression() throws UnsupportedSyntaxException {
+    skipWhitespaceAndComments();
+    char c = peek();
+    Object value;
+    if (c == '{') {
+      value = parseTable();
+    } else if (c == '"' || c == '\'') {
+      value = parseQuotedString();
+    } else if (c == '[' && isLongBracketStart()) {
+      value = parseLongBracket();
+    } else if (c == '-' || c == '.' || isDigit(c)) {
+      value = parseNumber();
+    } else if (isNameStart(c)) {
+      value = parseNameExpression();
+    } else {
+      throw unsupported("Unexpected character '" + c + "'");
+    }
+    skipWhitespaceAndComments();
+    char next = peek();
+    if (next != ',' && next != ';' && next != '}' && next != ')' && next != ']' && !isNameStart(next) && next != 0) {
+      throw unsupported("Unsupported operator '" + next + "'");
+    }
+    return value;
+  }
+
+  private Object parseNameExpression() throws UnsupportedSyntaxException {
+    String name = parseName();
+    switch (name) {
+      case "true":
+        return Boolean.TRUE;
+      case "false":
+        return Boolean.FALSE;
+      case "nil":
+        return null;
+      case "function", "not", "local", "return", "if", "for", "while", "do", "repeat":
+        throw unsupported("Unsupported keyword '" + name + "'");
+      default:
+        break;
+    }
+
+    skipWhitespaceAndComments();
+    if (peek() == '(') {
+      position++;
+      skipWhitespaceAndComments();
+      while (peek() != ')') {
+        parseExpression();
+        if (peek() == ',') {
+          position++;
+        } else if (peek() != ')') {
+          throw unsupported("Expected ')'");
+        }
+      }
+      position++;
+    } else if (peek() == '.' || peek() == '[' || peek() == ':') {
+      throw unsupported("Unsupported indexing of '" + name + "'");
+    }
+    return UNRESOLVED;
+  }
+
+  private Map<Object, Object> parseTable() throws UnsupportedSyntaxException {
+    expect('{');
+    Map<Object, Object> table = new HashMap<>();
+    long index = 1;
+    skipWhitespaceAndComments();
+    while (peek() != '}') {
+      Object key;
+      Object value;
+      char c = peek();
+      if (c == '[' && !isLongBracketStart()) {
+        position++;
+        key = normalizeKey(parseExpression());
+        expect(']');
+        skipWhitespaceAndComments();
+        expect('=');
+        value = parseExpression();
+      } else if (isNameStart(c) && isNamedField()) {
+        key = parseName();
+        skipWhitespaceAndComments();
+        expect('=');
+        value = parseExpression();
+      } else {
+        key = index++;
+        value = parseExpression();
+        if (value == null) {
+          throw unsupported("Unsupported nil in list");
+        }
+      }
+
+      if (key == null || key == UNRESOLVED) {
+        throw unsupported("Unsupported table key");
+      }
+      if (value == null) {
+        table.remove(key);
+      } else {
+        table.put(key, value);
+      }
+
+      c = peek();
+      if (c == ',' || c == ';') {
+        position++;
+        skipWhitespaceAndComments();
+      } else if (c != '}') {
+        throw unsupported("Expected '}'");
+      }
+    }
+    position++;
+    return table;
+  }
+
+  /**
+   * Returns whether the name at the current position is followed by {@code =}, as opposed to being the start of a
+   * positional value like {@code STRING('x')}.
+   */
+  private boolean isNamedField() {
+    int start = position;
+    try {
+      parseName();
+      skipWhitespaceAndComments();
+      return peek() == '=' && (position + 1 >= source.length() || source.charAt(position + 1) != '=');
+    } catch (UnsupportedSyntaxException e) {
+      return false;
+    } finally {
+      position = start;
+    }
+  }
+
+  private static Object normalizeKey(Object key) {
+    if (key instanceof Double doubleKey && doubleKey == Math.rint(doubleKey) && !Double.isInfinite(doubleKey)) {
+      return doubleKey.longValue();
+    }
+    return key;
+  }
+
+  private Object parseNumber() throws UnsupportedSyntaxException {
+    int start = position;
+    boolean negative = false;
+    if (peek() == '-') {
+      negative = true;
+      position++;
+      skipWhitespaceAndComments();
+      if (peek() == '-') {
+        throw unsupported("Unsupported operator '-'");
+      }
+      start = position;
+    }
+    if (source.startsWith("0x", position) || source.startsWith("0X", position)) {
+      throw unsupported("Unsupported hexadecimal number");
+    }
+
+    boolean integer = true;
+    while (position < source.length()) {
+      char c = source.charAt(position);
+      if (isDigit(c)) {
+        position++;
+      } else if (c == '.' && !source.startsWith("..", position)) {
+        integer = false;
+        position++;
+      } else if (c == 'e' || c == 'E') {
+        integer = false;
+        position++;
+        if (peek() == '+' || peek() == '-') {
+          position++;
+        }
+      } else {
+        break;
+      }
+    }
+
+    String literal = source.substring(start, position);
+    try {
+      if (integer) {
+        long value = Long.parseLong(literal);
+        return negative ? -value : value;
+      }
+      double value = Double.parseDouble(literal);
+      return negative ? -value : value;
+    } catch (NumberFormatException e) {
+      throw unsupported("Invalid number '" + literal + "'");
+    }
+  }
+
+  private String parseQuotedString() throws UnsupportedSyntaxException {
+    char quote = source.charAt(position++);
+    int start = position;
+    StringBuilder builder = null;
+    while (true) {
+      if (position >= source.length()) {
+        throw unsupported("Unfinished string");
+      }
+      char c = source.charAt(position);
+      if (c == quote) {
+        String value = builder == null ? source.substring(start, position) : builder.toString();
+        position++;
+        return value;
+      }
+      if (c == '\n' || c == '\r') {
+        throw unsupported("Unfinished string");
+      }
+      if (c == '\\') {
+        if (builder == null) {
+          builder = new StringBuilder(source.substring(start, position));
+        }
+        position++;
+        builder.append(parseEscapeSequence());
+        continue;
+      }
+      if (builder != null) {
+        builder.append(c);
+      }
+      position++;
+    }
+  }
+
+  private char parseEscapeSequence() throws UnsupportedSyntaxException {
+    char c = peek();
+    position++;
+    switch (c) {
+      case 'n':
+        return '\n';
+      case 't':
+        return '\t';
+      case 'r':
+        return '\r';
+      case 'a':
+        return '\u0007';
+      case 'b':
+        return '\b';
+      case 'f':
+        return '\f';
+      case 'v':
+        return '\u000B';
+      case '\\', '"', '\'', '\n':
+        return c;
+      default:
+        if (isDigit(c)) {
+          int value = c - '0';
+          for (int i = 0; i < 2 && isDigit(peek()); i++) {
+            value = value * 10 + source.charAt(position++) - '0';
+          }
+          // Non-ASCII bytes would need to be decoded together with their neighbours
+          if (value < 128) {
+            return (char) value;
+          }
+        }
+        throw unsupported("Unsupported escape sequence '\\" + c + "'");
+    }
+  }
+
+  private boolean isLongBracketStart() {
+    int i = position + 1;
+    while (i < source.length() && source.charAt(i) == '=') {
+      i++;
+    }
+    return i < source.length() && source.charAt(i) == '[';
+  }
+
+  /**
+   * Parses a long bracket like {@code [[text]]} or {@code [==[text]==]}, as used by long strings and comments.
+   */
+  private String parseLongBracket() throws UnsupportedSyntaxException {
+    int level = 0;
+    position++;
+    while (peek() == '=') {
+      level++;
+      position++;
+    }
+    position++;
+
+    String closingBracket = "]" + "=".repeat(level) + "]";
+    int end = source.indexOf(closingBracket, position);
+    if (end < 0) {
+      throw unsupported("Unfinished long bracket");
+    }
+    int start = position;
+    if (source.startsWith("\r\n", start)) {
+      start += 2;
+    } else if (start < end && (source.charAt(start) == '\n' || source.charAt(start) == '\r')) {
+      start++;
+    }
+    position = end + closingBracket.length();
+    return source.substring(start, end);
+  }
+
+  private String parseName() throws UnsupportedSyntaxException {
+    int start = position;
+    if (!isNameStart(peek())) {
+      throw unsupported("Expected name");
+    }
+    position++;
+    while (position < source.length() && isNamePart(source.charAt(position))) {
+      position++;
+    }
+    return source.substring(start, position);
+  }
+
+  private void expect(char expected) throws UnsupportedSyntaxException {
+    if (peek() != expected) {
+      throw unsupported("Expected '" + expected + "'");
+    }
+    position++;
+    skipWhitespaceAndComments();
+  }
+
+  private void skipWhitespaceAndComments() throws UnsupportedSyntaxException {
+    while (position < source.length()) {
+      char c = source.charAt(position);
+      if (Character.isWhitespace(c) || c == '\uFEFF') {
+        position++;
+      } else if (c == '-' && source.startsWith("--", position)) {
+        position += 2;
+        if (peek() == '[' && isLongBracketStart()) {
+          parseLongBracket();
+        } else {
+          while (position < source.length() && source.charAt(position) != '\n') {
+            position++;
+          }
+        }
+      } else {
+        return;
+      }
+    }
+  }
+
+  private char peek() {
+    return position < source.length() ? source.charAt(position) : 0;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isNameStart(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+  }
+
+  private static boolean isNamePart(char c) {
+    return isNameStart(c) || isDigit(c);
+  }
+
+  private UnsupportedSyntaxException unsupported(String message) {
+    return new UnsupportedSyntaxException(message + " at offset " + position);
+  }
+
+  public static class UnsupportedSyntaxException extends Exception {
+
+    public UnsupportedSyntaxException(String message) {
+      super(message);
+    }
+  }
+}
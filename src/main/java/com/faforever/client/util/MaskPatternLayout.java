@@ -2,26 +2,39 @@ package com.faforever.client.util;
 
 import ch.qos.logback.classic.PatternLayout;
 import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.google.common.annotations.VisibleForTesting;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
-import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
+/**
+ * Replaces the user's profile directory, machine name and user name in log lines, ignoring case. Lines are scanned once
+ * for all of them; a line that contains none of them is returned as it is.
+ */
 public class MaskPatternLayout extends PatternLayout {
-  private final String userProfile;
-  private final String machineName;
-  private final String user;
+
+  private final Secret[] secrets;
 
   public MaskPatternLayout() {
-    userProfile = System.getProperty("user.home");
-    user = System.getProperty("user.name");
-    String machineName;
+    this(System.getProperty("user.home"), getMachineName(), System.getProperty("user.name"));
+  }
+
+  @VisibleForTesting
+  MaskPatternLayout(String userProfile, String machineName, String user) {
+    // The order decides which replacement wins where secrets overlap, e.g. the user name within the profile directory
+    secrets = Stream.of(new Secret(userProfile, "%USER_PROFILE%"), new Secret(machineName, "%CPU_NAME%"),
+                        new Secret(user, "%USER%"))
+        .filter(secret -> secret.value() != null && !secret.value().isEmpty())
+        .toArray(Secret[]::new);
+  }
+
+  private static String getMachineName() {
     try {
-      machineName = InetAddress.getLocalHost().getHostName();
+      return InetAddress.getLocalHost().getHostName();
     } catch (UnknownHostException e) {
-      machineName = "";
+      return "";
     }
-    this.machineName = machineName;
   }
 
   @Override
@@ -30,9 +43,52 @@ public class MaskPatternLayout extends PatternLayout {
   }
 
   public String maskMessage(String message) {
-    return message
-        .replaceAll("(?i)" + Pattern.quote(userProfile), "%USER_PROFILE%")
-        .replaceAll("(?i)" + Pattern.quote(machineName), "%CPU_NAME%")
-        .replaceAll("(?i)" + Pattern.quote(user), "%USER%");
+    StringBuilder maskedMessage = null;
+    int unmaskedStart = 0;
+    int length = message.length();
+    int index = 0;
+    while (index < length) {
+      Secret secret = findSecretAt(message, index);
+      if (secret == null) {
+        index++;
+        continue;
+      }
+      if (maskedMessage == null) {
+        maskedMessage = new StringBuilder(length + 16);
+      }
+      maskedMessage.append(message, unmaskedStart, index).append(secret.replacement());
+      index += secret.value().length();
+      unmaskedStart = index;
+    }
+
+    if (maskedMessage == null) {
+      return message;
+    }
+    return maskedMessage.append(message, unmaskedStart, length).toString();
+  }
+
+  private Secret findSecretAt(String message, int index) {
+    char foldedCharacter = foldCase(message.charAt(index));
+    for (Secret secret : secrets) {
+      if (foldedCharacter == secret.foldedStart() && message.regionMatches(true, index, secret.value(), 0, secret.value()
+          .length())) {
+        return secret;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Folds the case the same way {@link String#regionMatches(boolean, int, String, int, int)} does when ignoring case.
+   */
+  private static char foldCase(char character) {
+    return Character.toLowerCase(Character.toUpperCase(character));
+  }
+
+  private record Secret(String value, String replacement, char foldedStart) {
+
+    Secret(String value, String replacement) {
+      this(value, replacement, value == null || value.isEmpty() ? 0 : foldCase(value.charAt(0)));
+    }
   }
 }
@@ -65,6 +65,7 @@ public abstract class VaultEntityController<T> extends NodeController<Node> {
   private final List<VBox> showRoomRoots = new ArrayList<>();
   private final ObservableList<T> resultEntities = FXCollections.observableArrayList();
   private final ObservableList<Node> resultCardRoots = FXCollections.observableArrayList();
+  private final List<VaultEntityCardController<T>> resultCards = new ArrayList<>();
 
   public Pane root;
   public StackPane vaultRoot;
@@ -95,6 +96,11 @@ public abstract class VaultEntityController<T> extends NodeController<Node> {
 
   protected abstract VaultEntityCardController<T> createEntityCard();
 
+  /**
+   * Hands back a card created by {@link #createEntityCard()} once it has been removed from the view.
+   */
+  protected abstract void releaseEntityCard(VaultEntityCardController<T> entityCard);
+
   protected abstract List<ShowRoomCategory> getShowRoomCategories();
 
   protected abstract void setSupplier(SearchConfig searchConfig);
@@ -199,19 +205,27 @@ public abstract class VaultEntityController<T> extends NodeController<Node> {
 
   private void onPerPageCountChanged(Integer oldValue, Integer newValue) {
     if (newValue < oldValue) {
-      fxApplicationThreadExecutor.execute(() -> resultCardRoots.remove(newValue, oldValue));
+      fxApplicationThreadExecutor.execute(() -> {
+        resultCardRoots.remove(newValue, oldValue);
+        List<VaultEntityCardController<T>> removedCards = resultCards.subList(newValue, oldValue);
+        removedCards.forEach(this::disposeResultCard);
+        removedCards.clear();
+      });
     } else if (newValue > oldValue) {
       CompletableFuture.runAsync(() -> {
-        List<Node> newNodes = IntStream.range(oldValue, newValue).mapToObj(i -> {
+        List<VaultEntityCardController<T>> newCards = IntStream.range(oldValue, newValue).mapToObj(i -> {
           VaultEntityCardController<T> entityCard = createEntityCard();
           entityCard.entityProperty().bind(Bindings.valueAt(resultEntities, i));
           Node entityCardRoot = entityCard.getRoot();
           entityCardRoot.visibleProperty().bind(entityCard.entityProperty().isNotNull());
           JavaFxUtil.bindManagedToVisible(entityCardRoot);
-          return entityCardRoot;
+          return entityCard;
         }).toList();
 
-        fxApplicationThreadExecutor.execute(() -> resultCardRoots.addAll(newNodes));
+        fxApplicationThreadExecutor.execute(() -> {
+          resultCards.addAll(newCards);
+          resultCardRoots.addAll(newCards.stream().map(VaultEntityCardController::getRoot).toList());
+        });
       });
     }
 
@@ -222,6 +236,15 @@ public abstract class VaultEntityController<T> extends NodeController<Node> {
     }
   }
 
+  private void disposeResultCard(VaultEntityCardController<T> entityCard) {
+    entityCard.entityProperty().unbind();
+    entityCard.setEntity(null);
+    Node entityCardRoot = entityCard.getRoot();
+    entityCardRoot.visibleProperty().unbind();
+    entityCardRoot.managedProperty().unbind();
+    releaseEntityCard(entityCard);
+  }
+
   protected void enterSearchingState() {
     fxApplicationThreadExecutor.execute(() -> state.set(State.SEARCHING));
   }
@@ -24,6 +24,35 @@ function link(input) {
   );
 }
 
+function linkAll() {
+  var linked = [];
+  for (var i = 0; i < arguments.length; i++) {
+    linked.push(link(arguments[i]));
+  }
+  return linked;
+}
+
+function appendChatMessages(maxSections) {
+  for (var i = 1; i + 1 < arguments.length; i += 2) {
+    document.getElementById(arguments[i]).insertAdjacentHTML("beforeend", arguments[i + 1]);
+  }
+  removeTopmostChatSections(maxSections);
+  scrollToBottomIfDesired();
+}
+
+function removeTopmostChatSections(maxSections) {
+  var sections = document.getElementsByClassName("chat-section");
+  var excess = sections.length - maxSections;
+  if (excess <= 0) {
+    return;
+  }
+  // Sections are siblings, so all excess ones are removed at once instead of one by one
+  var range = document.createRange();
+  range.setStartBefore(sections[0]);
+  range.setEndAfter(sections[excess - 1]);
+  range.deleteContents();
+}
+
 function showClanInfo(clanTag) {
     java.clanInfo(clanTag);
 }
@@ -23,8 +23,10 @@ import com.github.rutledgepaulv.qbuilders.builders.QBuilder;
 import com.github.rutledgepaulv.qbuilders.visitors.RSQLVisitor;
 import io.netty.resolver.DefaultAddressResolverGroup;
 import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,7 +36,9 @@ import org.mockito.Spy;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.testfx.util.WaitForAsyncUtils;
+import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
 import reactor.test.StepVerifier;
 
@@ -47,7 +51,9 @@ import java.util.concurrent.TimeoutException;
 
 import static com.faforever.commons.api.elide.ElideNavigator.qBuilder;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -101,6 +107,10 @@ public class FafApiAccessorTest extends ServiceTest {
   }
 
   private void prepareJsonApiResponse(Object object) throws Exception {
+    mockApi.enqueue(jsonApiResponse(object));
+  }
+
+  private MockResponse jsonApiResponse(Object object) throws Exception {
     byte[] serializedObject;
     if (object instanceof Iterable) {
       serializedObject = resourceConverter.writeDocumentCollection(new JSONAPIDocument<Iterable<?>>((Iterable<?>) object));
@@ -109,9 +119,9 @@ public class FafApiAccessorTest extends ServiceTest {
     } else {
       serializedObject = resourceConverter.writeDocument(new JSONAPIDocument<>(object));
     }
-    mockApi.enqueue(new MockResponse()
+    return new MockResponse()
         .setBody(new String(serializedObject))
-        .addHeader("Content-Type", "application/vnd.api+json;charset=utf-8"));
+        .addHeader("Content-Type", "application/vnd.api+json;charset=utf-8");
   }
 
   private void prepareJsonApiErrorResponse(List<Error> errors, int responseCode) throws Exception {
@@ -192,6 +202,86 @@ public class FafApiAccessorTest extends ServiceTest {
         .verifyComplete();
   }
 
+  @Test
+  public void testGetOneSharesInFlightRequest() throws Exception {
+    ReplayReviewBean reviewBean = ReplayReviewBeanBuilder.create().defaultValues().id(0).get();
+    GameReview review = reviewMapper.map(reviewBean, new CycleAvoidingMappingContext());
+
+    prepareJsonApiResponse(review);
+    StepVerifier.create(Mono.zip(instance.getOne(ElideNavigator.of(review)), instance.getOne(ElideNavigator.of(review))))
+        .expectNextMatches(tuple -> tuple.getT1().equals(review) && tuple.getT2().equals(review))
+        .verifyComplete();
+
+    assertEquals(1, mockApi.getRequestCount());
+    assertEquals(1, instance.getRequestStatistics().sharedRequests());
+  }
+
+  @Test
+  public void testGetOneBatchesLookups() throws Exception {
+    Game game1 = new Game();
+    game1.setId("1");
+    Game game2 = new Game();
+    game2.setId("2");
+
+    prepareJsonApiResponse(List.of(game1, game2));
+    StepVerifier.create(Mono.zip(instance.getOne(ElideNavigator.of(Game.class).id("1")), instance.getOne(ElideNavigator.of(Game.class)
+            .id("2"))))
+        .expectNextMatches(tuple -> tuple.getT1().getId().equals("1") && tuple.getT2().getId().equals("2"))
+        .verifyComplete();
+
+    assertEquals(1, mockApi.getRequestCount());
+    HttpUrl requestedUrl = mockApi.takeRequest().getRequestUrl();
+    assertEquals("/data/game", requestedUrl.encodedPath());
+    assertThat(requestedUrl.queryParameter("filter"), anyOf(is("id=in=(1,2)"), is("id=in=(2,1)")));
+    assertEquals("2", requestedUrl.queryParameter("page[size]"));
+    assertEquals(2, instance.getRequestStatistics().batchedLookups());
+  }
+
+  @Test
+  public void testGetOneMissingFromBatchIsNotFound() throws Exception {
+    Game game1 = new Game();
+    game1.setId("1");
+
+    prepareJsonApiResponse(List.of(game1));
+    StepVerifier.create(Mono.zip(instance.getOne(ElideNavigator.of(Game.class).id("1")), instance.getOne(ElideNavigator.of(Game.class)
+            .id("2"))))
+        .expectError(WebClientResponseException.NotFound.class)
+        .verify();
+
+    assertEquals(1, mockApi.getRequestCount());
+  }
+
+  @Test
+  public void testGetOneSplitsFullBatches() throws Exception {
+    clientProperties.getApi().setMaxLookupBatchSize(2);
+    instance.afterPropertiesSet();
+
+    Game game1 = new Game();
+    game1.setId("1");
+    Game game2 = new Game();
+    game2.setId("2");
+    Game game3 = new Game();
+    game3.setId("3");
+    MockResponse batchResponse = jsonApiResponse(List.of(game1, game2));
+    MockResponse singleResponse = jsonApiResponse(game3);
+    mockApi.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        return request.getRequestUrl().encodedPath().equals("/data/game") ? batchResponse : singleResponse;
+      }
+    });
+
+    StepVerifier.create(Mono.zip(instance.getOne(ElideNavigator.of(Game.class).id("1")), instance.getOne(ElideNavigator.of(Game.class)
+            .id("2")), instance.getOne(ElideNavigator.of(Game.class).id("3"))))
+        .expectNextMatches(tuple -> tuple.getT1().getId().equals("1") && tuple.getT2().getId().equals("2") && tuple.getT3()
+            .getId()
+            .equals("3"))
+        .verifyComplete();
+
+    assertEquals(2, mockApi.getRequestCount());
+    assertEquals(2, instance.getRequestStatistics().batchedLookups());
+  }
+
   @Test
   public void testGetMe() throws Exception {
     MeResult meResult = new MeResult().setId("0");
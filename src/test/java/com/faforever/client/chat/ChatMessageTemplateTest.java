@@ -0,0 +1,45 @@
+package com.faforever.client.chat;
+
+import com.faforever.client.test.ServiceTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ChatMessageTemplateTest extends ServiceTest {
+
+  @Test
+  public void testRenderReplacesAllOccurrences() {
+    ChatMessageTemplate template = ChatMessageTemplate.compile("<span class=\"{username}\">{username}: {text}</span>");
+
+    String result = template.render(Map.of("username", "junit", "text", "Hello"));
+
+    assertEquals("<span class=\"junit\">junit: Hello</span>", result);
+  }
+
+  @Test
+  public void testRenderKeepsUnknownPlaceholders() {
+    ChatMessageTemplate template = ChatMessageTemplate.compile("{time} {unknown}");
+
+    String result = template.render(Map.of("time", "12:00"));
+
+    assertEquals("12:00 {unknown}", result);
+  }
+
+  @Test
+  public void testRenderDoesNotReplacePlaceholdersInValues() {
+    ChatMessageTemplate template = ChatMessageTemplate.compile("{text} by {username}");
+
+    String result = template.render(Map.of("username", "junit", "text", "{username}"));
+
+    assertEquals("{username} by junit", result);
+  }
+
+  @Test
+  public void testRenderWithoutPlaceholders() {
+    ChatMessageTemplate template = ChatMessageTemplate.compile("<div></div>");
+
+    assertEquals("<div></div>", template.render(Map.of()));
+  }
+}
@@ -0,0 +1,71 @@
+package com.faforever.client.chat;
+
+import com.faforever.client.test.ServiceTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RingBufferTest extends ServiceTest {
+
+  @Test
+  public void testAddEvictsOldest() {
+    RingBuffer<Integer> instance = new RingBuffer<>(3);
+
+    IntStream.range(0, 5).forEach(instance::add);
+
+    assertEquals(List.of(2, 3, 4), instance.toList());
+  }
+
+  @Test
+  public void testAddGrowsBeyondInitialArraySize() {
+    RingBuffer<Integer> instance = new RingBuffer<>(Integer.MAX_VALUE);
+
+    IntStream.range(0, 100).forEach(instance::add);
+
+    assertEquals(100, instance.size());
+    assertEquals(IntStream.range(0, 100).boxed().toList(), instance.toList());
+  }
+
+  @Test
+  public void testSetCapacityKeepsNewest() {
+    RingBuffer<Integer> instance = new RingBuffer<>(5);
+    IntStream.range(0, 7).forEach(instance::add);
+
+    instance.setCapacity(2);
+
+    assertEquals(List.of(5, 6), instance.toList());
+
+    instance.add(7);
+
+    assertEquals(List.of(6, 7), instance.toList());
+  }
+
+  @Test
+  public void testIncreaseCapacityOfFullBuffer() {
+    RingBuffer<Integer> instance = new RingBuffer<>(3);
+    IntStream.range(0, 4).forEach(instance::add);
+
+    instance.setCapacity(5);
+    IntStream.range(4, 7).forEach(instance::add);
+
+    assertEquals(List.of(2, 3, 4, 5, 6), instance.toList());
+  }
+
+  @Test
+  public void testZeroCapacity() {
+    RingBuffer<Integer> instance = new RingBuffer<>(0);
+
+    instance.add(1);
+
+    assertEquals(List.of(), instance.toList());
+  }
+
+  @Test
+  public void testNegativeCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(-1));
+  }
+}
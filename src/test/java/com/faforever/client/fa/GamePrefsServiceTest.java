@@ -0,0 +1,79 @@
+package com.faforever.client.fa;
+
+import com.faforever.client.preferences.ForgedAlliancePrefs;
+import com.faforever.client.test.ServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Spy;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class GamePrefsServiceTest extends ServiceTest {
+
+  @TempDir
+  public Path tempDirectory;
+
+  @Spy
+  private ForgedAlliancePrefs forgedAlliancePrefs;
+
+  private Path gamePrefsPath;
+  private GamePrefsService instance;
+
+  @BeforeEach
+  public void setUp() {
+    gamePrefsPath = tempDirectory.resolve("Game.prefs");
+    forgedAlliancePrefs.setPreferencesFile(gamePrefsPath);
+    instance = new GamePrefsService(forgedAlliancePrefs);
+  }
+
+  @Test
+  public void testGetActiveMods() throws Exception {
+    Files.writeString(gamePrefsPath, """
+        active_mods = {
+            ['a'] = true,
+            ['b'] = false
+        }
+        """);
+
+    assertEquals(Set.of("a"), instance.getActiveMods());
+  }
+
+  @Test
+  public void testRereadsChangedFile() throws Exception {
+    Files.writeString(gamePrefsPath, "active_mods = {\n    ['a'] = true\n}");
+    assertEquals(Set.of("a"), instance.getActiveMods());
+
+    Files.writeString(gamePrefsPath, "active_mods = {\n    ['a'] = true,\n    ['b'] = true\n}");
+    assertEquals(Set.of("a", "b"), instance.getActiveMods());
+  }
+
+  @Test
+  public void testSetActiveModsKeepsRestOfFile() throws Exception {
+    String profileName = "profile = 'Jürgen'\n";
+    Files.write(gamePrefsPath, (profileName + "active_mods = { }\n").getBytes(StandardCharsets.ISO_8859_1));
+
+    instance.setActiveMods(Set.of("a"));
+
+    assertArrayEquals((profileName + "active_mods = {\n    ['a'] = true\n}\n").getBytes(StandardCharsets.ISO_8859_1),
+                      Files.readAllBytes(gamePrefsPath));
+    assertEquals(Set.of("a"), instance.getActiveMods());
+  }
+
+  @Test
+  public void testSetActiveModsKeepsByteOrderMark() throws Exception {
+    byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    Files.write(gamePrefsPath, bom);
+
+    instance.setActiveMods(Set.of("a"));
+
+    byte[] content = Files.readAllBytes(gamePrefsPath);
+    assertEquals("\uFEFFactive_mods = {\n    ['a'] = true\n}", new String(content, StandardCharsets.UTF_8));
+  }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FilterTextFieldControllerTest extends PlatformTest {
@@ -39,6 +40,19 @@ public class FilterTextFieldControllerTest extends PlatformTest {
     assertFalse(instance.hasDefaultValue());
   }
 
+  @Test
+  public void testDefaultValueAcceptsAllItems() {
+    instance.registerListener((text, item) -> text.equals(item));
+    assertSame(AbstractFilterNodeController.acceptAll(), instance.getPredicate());
+
+    runOnFxThreadAndWait(() -> instance.getRoot().setText("text"));
+    assertTrue(instance.getPredicate().test("text"));
+    assertFalse(instance.getPredicate().test("other"));
+
+    runOnFxThreadAndWait(() -> instance.resetFilter());
+    assertSame(AbstractFilterNodeController.acceptAll(), instance.getPredicate());
+  }
+
   @Test
   public void testGetObservable() {
     assertEquals(instance.getRoot().textProperty(), instance.valueProperty());
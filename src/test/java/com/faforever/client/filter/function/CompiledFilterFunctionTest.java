@@ -0,0 +1,39 @@
+package com.faforever.client.filter.function;
+
+import com.faforever.client.test.ServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompiledFilterFunctionTest extends ServiceTest {
+
+  private final AtomicInteger compilations = new AtomicInteger();
+  private CompiledFilterFunction<List<String>, Set<String>, String> instance;
+
+  @BeforeEach
+  public void setUp() {
+    instance = new CompiledFilterFunction<>(values -> {
+      compilations.incrementAndGet();
+      return Set.copyOf(values);
+    }, Set::contains);
+  }
+
+  @Test
+  public void testCompilesOncePerValue() {
+    List<String> value = List.of("a", "b");
+    assertTrue(instance.apply(value, "a"));
+    assertTrue(instance.apply(value, "b"));
+    assertFalse(instance.apply(value, "c"));
+    assertEquals(1, compilations.get());
+
+    assertTrue(instance.apply(List.of("c"), "c"));
+    assertEquals(2, compilations.get());
+  }
+}
@@ -0,0 +1,94 @@
+package com.faforever.client.fx;
+
+import com.faforever.client.test.ServiceTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+public class FxUpdateCoalescerTest extends ServiceTest {
+
+  @Mock
+  private FxApplicationThreadExecutor fxApplicationThreadExecutor;
+
+  private final List<Runnable> scheduledRunnables = new ArrayList<>();
+  private final List<List<String>> appliedBatches = new ArrayList<>();
+  private FxUpdateCoalescer<Integer, String> instance;
+
+  @BeforeEach
+  public void setUp() {
+    when(fxApplicationThreadExecutor.asScheduler()).thenReturn(Schedulers.fromExecutor(scheduledRunnables::add));
+    instance = new FxUpdateCoalescer<>(fxApplicationThreadExecutor, appliedBatches::add);
+  }
+
+  @Test
+  public void testLatestUpdatePerKeyIsAppliedOnce() {
+    instance.offer(1, "game 1 open");
+    instance.offer(2, "game 2 open");
+    instance.offer(1, "game 1 playing");
+
+    assertEquals(1, scheduledRunnables.size());
+    assertTrue(appliedBatches.isEmpty());
+
+    runScheduled();
+
+    assertEquals(List.of(List.of("game 1 playing", "game 2 open")), appliedBatches);
+  }
+
+  @Test
+  public void testUpdatesAfterApplyingAreScheduledAgain() {
+    instance.offer(1, "game 1 open");
+    runScheduled();
+    instance.offer(1, "game 1 playing");
+    runScheduled();
+
+    assertEquals(List.of(List.of("game 1 open"), List.of("game 1 playing")), appliedBatches);
+  }
+
+  @Test
+  public void testFailingApplierDoesNotStopLaterUpdates() {
+    List<String> applied = new ArrayList<>();
+    instance = new FxUpdateCoalescer<>(fxApplicationThreadExecutor, updates -> {
+      if (updates.contains("broken")) {
+        throw new IllegalStateException("broken");
+      }
+      applied.addAll(updates);
+    });
+
+    instance.offer(1, "broken");
+    runScheduled();
+    instance.offer(1, "game 1 open");
+    runScheduled();
+
+    assertEquals(List.of("game 1 open"), applied);
+  }
+
+  @Test
+  public void testStatistics() {
+    instance.offer(1, "game 1 open");
+    instance.offer(1, "game 1 playing");
+    instance.offer(2, "game 2 open");
+    instance.offer(1, "game 1 closed");
+    runScheduled();
+
+    FxUpdateCoalescer.Statistics statistics = instance.getStatistics();
+    assertEquals(4, statistics.offered());
+    assertEquals(2, statistics.applied());
+    assertEquals(1, statistics.batches());
+    assertEquals(2.0, statistics.coalescingRatio());
+    assertTrue(statistics.maxLag().compareTo(statistics.averageLag()) >= 0);
+  }
+
+  private void runScheduled() {
+    List<Runnable> runnables = new ArrayList<>(scheduledRunnables);
+    scheduledRunnables.clear();
+    runnables.forEach(Runnable::run);
+  }
+}
@@ -0,0 +1,126 @@
+package com.faforever.client.fx;
+
+import com.faforever.client.test.ServiceTest;
+import javafx.beans.Observable;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexedObservableListTest extends ServiceTest {
+
+  private final List<String> changes = new ArrayList<>();
+  private IndexedObservableList<StringProperty> instance;
+
+  @BeforeEach
+  public void setUp() {
+    instance = new IndexedObservableList<>(item -> new Observable[]{item});
+    instance.addListener((ListChangeListener<StringProperty>) change -> {
+      while (change.next()) {
+        if (change.wasUpdated()) {
+          changes.add("updated " + change.getFrom());
+        } else {
+          change.getRemoved().forEach(item -> changes.add("removed " + item.get() + " at " + change.getFrom()));
+          for (int i = change.getFrom(); i < change.getTo(); i++) {
+            changes.add("added " + change.getList().get(i).get() + " at " + i);
+          }
+        }
+      }
+    });
+  }
+
+  @Test
+  public void testRemoveKeepsOrder() {
+    StringProperty a = new SimpleStringProperty("a");
+    StringProperty b = new SimpleStringProperty("b");
+    StringProperty c = new SimpleStringProperty("c");
+    instance.addAll(a, b, c);
+
+    assertTrue(instance.remove(b));
+    assertFalse(instance.remove(b));
+
+    assertEquals(List.of(a, c), instance);
+    assertEquals(1, instance.indexOf(c));
+    assertEquals(List.of("added a at 0", "added b at 1", "added c at 2", "removed b at 1"), changes);
+  }
+
+  @Test
+  public void testElementUpdates() {
+    StringProperty a = new SimpleStringProperty("a");
+    StringProperty b = new SimpleStringProperty("b");
+    instance.addAll(a, b);
+    instance.remove(a);
+    changes.clear();
+
+    b.set("c");
+    a.set("d");
+
+    assertEquals(List.of("updated 0"), changes);
+  }
+
+  @Test
+  public void testBatchReportsSingleChange() {
+    List<ListChangeListener.Change<? extends StringProperty>> batchChanges = new ArrayList<>();
+    instance.addListener((ListChangeListener<StringProperty>) batchChanges::add);
+    StringProperty a = new SimpleStringProperty("a");
+    StringProperty b = new SimpleStringProperty("b");
+    StringProperty c = new SimpleStringProperty("c");
+
+    instance.batch(() -> {
+      instance.add(a);
+      instance.add(b);
+      instance.add(c);
+      instance.remove(b);
+    });
+
+    assertEquals(List.of(a, c), instance);
+    assertEquals(1, batchChanges.size());
+  }
+
+  @Test
+  public void testRemoveAll() {
+    StringProperty a = new SimpleStringProperty("a");
+    StringProperty b = new SimpleStringProperty("b");
+    StringProperty c = new SimpleStringProperty("c");
+    StringProperty d = new SimpleStringProperty("d");
+    instance.addAll(a, b, c, d);
+    changes.clear();
+
+    instance.removeAll(List.of(a, c));
+
+    assertEquals(List.of(b, d), instance);
+    assertEquals(List.of("removed a at 0", "removed c at 1"), changes);
+  }
+
+  @Test
+  public void testOnlyAppends() {
+    instance.add(new SimpleStringProperty("a"));
+    assertThrows(UnsupportedOperationException.class, () -> instance.add(0, new SimpleStringProperty("b")));
+  }
+
+  @Test
+  public void testMirrorsMap() {
+    ObservableMap<String, StringProperty> map = FXCollections.observableHashMap();
+    ObservableList<StringProperty> list = JavaFxUtil.attachListToMap(instance, map);
+    StringProperty a = new SimpleStringProperty("a");
+    StringProperty b = new SimpleStringProperty("b");
+
+    map.put("a", a);
+    map.put("b", b);
+    map.remove("a");
+
+    assertEquals(List.of(b), list);
+  }
+}
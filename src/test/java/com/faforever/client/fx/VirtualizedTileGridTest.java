@@ -0,0 +1,102 @@
+package com.faforever.client.fx;
+
+import com.faforever.client.test.PlatformTest;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VirtualizedTileGridTest extends PlatformTest {
+
+  private final ObservableList<Integer> items = FXCollections.observableArrayList();
+  private final AtomicInteger createdTiles = new AtomicInteger();
+  private final AtomicInteger disposedTiles = new AtomicInteger();
+  private VirtualizedTileGrid<Integer> instance;
+
+  @BeforeEach
+  public void setUp() {
+    instance = new VirtualizedTileGrid<>(items, 100, 10, 10, this::createTile);
+  }
+
+  @Test
+  public void testRowsFollowItems() {
+    items.setAll(1, 2, 3);
+    assertEquals(List.of(List.of(1), List.of(2), List.of(3)), instance.getRows());
+
+    List<Integer> firstRow = instance.getRows().get(0);
+    items.remove(Integer.valueOf(2));
+    assertEquals(List.of(List.of(1), List.of(3)), instance.getRows());
+    assertSame(firstRow, instance.getRows().get(0));
+  }
+
+  @Test
+  public void testOnlyVisibleRowsHaveTiles() {
+    for (int i = 0; i < 500; i++) {
+      items.add(i);
+    }
+
+    runOnFxThreadAndWait(() -> {
+      Parent root = new StackPane(instance.getNode());
+      new Scene(root, 345, 500);
+      root.applyCss();
+      root.layout();
+    });
+
+    assertEquals(List.of(0, 1, 2), instance.getRows().get(0));
+    assertEquals(167, instance.getRows().size());
+    assertTrue(createdTiles.get() > 0);
+    assertTrue(createdTiles.get() < 50, "Created " + createdTiles.get() + " tiles");
+  }
+
+  @Test
+  public void testDisposeDisposesAllTiles() {
+    for (int i = 0; i < 500; i++) {
+      items.add(i);
+    }
+    runOnFxThreadAndWait(() -> {
+      Parent root = new StackPane(instance.getNode());
+      new Scene(root, 345, 500);
+      root.applyCss();
+      root.layout();
+    });
+
+    runOnFxThreadAndWait(() -> instance.dispose());
+
+    assertTrue(createdTiles.get() > 0);
+    assertEquals(createdTiles.get(), disposedTiles.get());
+  }
+
+  private VirtualizedTileGrid.Tile<Integer> createTile() {
+    createdTiles.incrementAndGet();
+    Region region = new Region();
+    region.setPrefSize(100, 100);
+    return new VirtualizedTileGrid.Tile<>() {
+      @Override
+      public Node getNode() {
+        return region;
+      }
+
+      @Override
+      public void setItem(Integer item) {
+        region.setUserData(item);
+      }
+
+      @Override
+      public void dispose() {
+        disposedTiles.incrementAndGet();
+      }
+    };
+  }
+}
@@ -40,7 +40,7 @@ public class GameTooltipControllerTest extends PlatformTest {
   
   @BeforeEach
   public void setUp() throws Exception {
-    when(uiService.loadFxml("theme/team_card.fxml")).thenReturn(teamCardController);
+    when(uiService.acquireFxml(UiService.TEAM_CARD)).thenReturn(teamCardController);
     when(teamCardController.getRoot()).then(invocation -> new Pane());
     when(teamCardController.playerIdsProperty()).thenReturn(new SimpleObjectProperty<>());
     when(teamCardController.teamIdProperty()).thenReturn(new SimpleIntegerProperty());
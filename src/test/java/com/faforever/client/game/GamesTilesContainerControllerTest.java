@@ -3,11 +3,15 @@ package com.faforever.client.game;
 import com.faforever.client.builders.GameBeanBuilder;
 import com.faforever.client.domain.GameBean;
 import com.faforever.client.game.GamesTilesContainerController.TilesSortingOrder;
+import com.faforever.client.player.PlayerService;
 import com.faforever.client.test.PlatformTest;
 import com.faforever.client.theme.UiService;
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
@@ -15,6 +19,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.testfx.util.WaitForAsyncUtils;
 
 import java.util.List;
 import java.util.Map;
@@ -24,7 +29,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class GamesTilesContainerControllerTest extends PlatformTest {
@@ -33,6 +40,8 @@ public class GamesTilesContainerControllerTest extends PlatformTest {
   private GameTileController gameTileController;
   @Mock
   private UiService uiService;
+  @Mock
+  private PlayerService playerService;
 
   @Mock
   private GameTooltipController gameTooltipController;
@@ -42,7 +51,8 @@ public class GamesTilesContainerControllerTest extends PlatformTest {
 
   @BeforeEach
   public void setUp() throws Exception {
-    when(uiService.loadFxml("theme/play/game_card.fxml")).thenReturn(gameTileController);
+    when(uiService.acquireFxml(UiService.GAME_CARD)).thenReturn(gameTileController);
+    when(playerService.getAverageRatingPropertyForGame(any())).thenReturn(new SimpleObjectProperty<>(0d));
     when(uiService.loadFxml("theme/play/game_tooltip.fxml")).thenReturn(gameTooltipController);
     when(gameTooltipController.getRoot()).thenReturn(new Pane());
     when(gameTileController.getRoot()).thenReturn(new Pane()).thenReturn(new FlowPane()).thenReturn(new StackPane());
@@ -60,7 +70,7 @@ public class GamesTilesContainerControllerTest extends PlatformTest {
     ObservableList<GameBean> observableList = FXCollections.observableArrayList();
 
     runOnFxThreadAndWait(() -> instance.createTiledFlowPane(observableList));
-    assertThat(instance.tiledFlowPane.getChildren(), empty());
+    assertThat(instance.getTileRows(), empty());
   }
 
   @Test
@@ -70,7 +80,7 @@ public class GamesTilesContainerControllerTest extends PlatformTest {
     observableList.add(new GameBean());
 
     runOnFxThreadAndWait(() -> instance.createTiledFlowPane(observableList));
-    assertThat(instance.tiledFlowPane.getChildren(), hasSize(1));
+    assertThat(getDisplayedGames(), hasSize(1));
   }
 
   @Test
@@ -82,12 +92,11 @@ public class GamesTilesContainerControllerTest extends PlatformTest {
       instance.createTiledFlowPane(observableList);
       observableList.add(new GameBean());
     });
-    assertThat(instance.tiledFlowPane.getChildren(), hasSize(1));
+    assertThat(getDisplayedGames(), hasSize(1));
   }
 
   @Test
   public void testCreateTiledFlowPaneWithPopulatedListAndPostInstantiatedGameInfoBean() {
-    ObservableList<Node> children = instance.tiledFlowPane.getChildren();
     doAnswer(invocation -> new Pane()).when(gameTileController).getRoot();
 
     ObservableList<GameBean> observableList = FXCollections.observableArrayList();
@@ -96,7 +105,7 @@ public class GamesTilesContainerControllerTest extends PlatformTest {
       instance.createTiledFlowPane(observableList);
       observableList.add(GameBeanBuilder.create().defaultValues().id(2).get());
     });
-    assertThat(children, hasSize(2));
+    assertThat(getDisplayedGames(), hasSize(2));
   }
 
   @Test
@@ -120,6 +129,58 @@ public class GamesTilesContainerControllerTest extends PlatformTest {
     instance.setSortingOrder(TilesSortingOrder.PLAYER_ASC);
 
     runOnFxThreadAndWait(() -> instance.createTiledFlowPane(observableList));
-    assertEquals(game2, instance.tiledFlowPane.getChildren().get(0).getUserData());
+    assertEquals(game2, getDisplayedGames().get(0));
+  }
+
+  @Test
+  public void testSortingFollowsPlayerCount() {
+    ObservableList<GameBean> observableList = FXCollections.observableArrayList();
+    GameBean game1 = GameBeanBuilder.create().defaultValues().id(1).get();
+    GameBean game2 = GameBeanBuilder.create().defaultValues().id(2).get();
+    game1.setTeams(Map.of(1, List.of(1, 2)));
+    game2.setTeams(Map.of(1, List.of(3)));
+    observableList.addAll(game1, game2);
+    instance.setSortingOrder(TilesSortingOrder.PLAYER_DES);
+
+    runOnFxThreadAndWait(() -> instance.createTiledFlowPane(observableList));
+    assertEquals(game1, getDisplayedGames().get(0));
+
+    runOnFxThreadAndWait(() -> game2.setTeams(Map.of(1, List.of(3, 4, 5))));
+    WaitForAsyncUtils.waitForFxEvents();
+    assertEquals(game2, getDisplayedGames().get(0));
+  }
+
+  @Test
+  public void testSelectsFirstGame() {
+    ObservableList<GameBean> observableList = FXCollections.observableArrayList();
+    GameBean game = GameBeanBuilder.create().defaultValues().get();
+    observableList.add(game);
+
+    runOnFxThreadAndWait(() -> instance.createTiledFlowPane(observableList));
+    assertEquals(game, instance.selectedGameProperty().get());
+  }
+
+  @Test
+  public void testHideReleasesGameCards() {
+    doAnswer(invocation -> new Pane()).when(gameTileController).getRoot();
+    ObservableList<GameBean> observableList = FXCollections.observableArrayList();
+    observableList.add(GameBeanBuilder.create().defaultValues().get());
+
+    runOnFxThreadAndWait(() -> {
+      instance.createTiledFlowPane(observableList);
+      Parent root = new StackPane(instance.getRoot());
+      new Scene(root, 800, 600);
+      root.applyCss();
+      root.layout();
+    });
+    verify(uiService).acquireFxml(UiService.GAME_CARD);
+
+    runOnFxThreadAndWait(() -> attached.set(false));
+
+    verify(uiService).releaseFxml(UiService.GAME_CARD, gameTileController);
+  }
+
+  private List<GameBean> getDisplayedGames() {
+    return instance.getTileRows().stream().flatMap(List::stream).toList();
   }
 }
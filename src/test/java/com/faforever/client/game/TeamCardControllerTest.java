@@ -48,7 +48,7 @@ public class TeamCardControllerTest extends PlatformTest {
     playerList.add(player);
     teams = FXCollections.observableHashMap();
 
-    when(uiService.loadFxml("theme/player_card.fxml")).thenReturn(playerCardController);
+    when(uiService.acquireFxml(UiService.PLAYER_CARD)).thenReturn(playerCardController);
     when(playerCardController.ratingProperty()).thenReturn(new SimpleObjectProperty<>());
     when(playerCardController.factionProperty()).thenReturn(new SimpleObjectProperty<>());
     when(playerCardController.playerProperty()).thenReturn(new SimpleObjectProperty<>());
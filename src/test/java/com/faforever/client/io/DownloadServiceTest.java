@@ -1,26 +1,78 @@
 package com.faforever.client.io;
 
+import com.faforever.client.io.DownloadService.DownloadStatistics;
+import com.faforever.client.io.DownloadService.FileDownload;
 import com.faforever.client.test.ServiceTest;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.springframework.core.io.ClassPathResource;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DownloadServiceTest extends ServiceTest {
   private static final ClassPathResource SAMPLE_FILE = new ClassPathResource("/io/sample-file.txt");
   private static final String SAMPLE_FILE_CHECKSUM = "b53227da4280f0e18270f21dd77c91d0";
+  private static final String CONTENT = "Some content";
 
-
+  @TempDir
+  public Path tempDirectory;
 
   @InjectMocks
   private DownloadService instance;
 
+  private MockWebServer fileServer;
+  private final Map<String, AtomicInteger> failuresLeftByPath = new ConcurrentHashMap<>();
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    fileServer = new MockWebServer();
+    fileServer.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        AtomicInteger failuresLeft = failuresLeftByPath.get(request.getPath());
+        if (failuresLeft != null && failuresLeft.getAndDecrement() > 0) {
+          return new MockResponse().setResponseCode(503);
+        }
+        String range = request.getHeader("Range");
+        if (range != null) {
+          int offset = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+          return new MockResponse().setResponseCode(206)
+              .setHeader("Content-Range", "bytes " + offset + "-" + (CONTENT.length() - 1) + "/" + CONTENT.length())
+              .setBody(CONTENT.substring(offset));
+        }
+        return new MockResponse().setBody(CONTENT);
+      }
+    });
+    fileServer.start();
+  }
+
+  @AfterEach
+  public void tearDown() throws Exception {
+    fileServer.shutdown();
+  }
+
   @Test
   public void testDownloadFile() throws Exception {
     Path temp = Files.createTempFile("download", ".dat");
@@ -36,4 +88,131 @@ public class DownloadServiceTest extends ServiceTest {
     assertThrows(ChecksumMismatchException.class, () -> instance.downloadFile(SAMPLE_FILE.getURL(), Map.of(), temp, (processed, total) -> {
     }, "00000000000000000000000000000000"));
   }
+
+  @Test
+  public void testDownloadFiles() throws Exception {
+    failuresLeftByPath.put("/file1", new AtomicInteger(1));
+    List<FileDownload> downloads = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      downloads.add(new FileDownload(List.of(fileServer.url("/file" + i).url()), Map.of(), tempDirectory.resolve("file" + i), SAMPLE_FILE_CHECKSUM));
+    }
+
+    AtomicLong maxProcessed = new AtomicLong();
+    instance.downloadFiles(downloads, 2, 2, (processed, total) -> {
+      assertEquals(5000, total);
+      maxProcessed.accumulateAndGet(processed, Math::max);
+    });
+
+    for (FileDownload download : downloads) {
+      assertArrayEquals(CONTENT.getBytes(), Files.readAllBytes(download.targetFile()));
+    }
+    assertEquals(6, fileServer.getRequestCount());
+    assertTrue(maxProcessed.get() <= 5000);
+  }
+
+  @Test
+  public void testDownloadFilesGivesUpAfterAttempts() throws Exception {
+    failuresLeftByPath.put("/file", new AtomicInteger(2));
+    List<FileDownload> downloads = List.of(new FileDownload(List.of(fileServer.url("/file")
+        .url()), Map.of(), tempDirectory.resolve("file"), SAMPLE_FILE_CHECKSUM));
+
+    assertThrows(IOException.class, () -> instance.downloadFiles(downloads, 2, 2, (processed, total) -> {}));
+    assertEquals(2, fileServer.getRequestCount());
+  }
+
+  @Test
+  public void testDownloadFilesBadChecksum() throws Exception {
+    List<FileDownload> downloads = List.of(new FileDownload(List.of(fileServer.url("/file")
+        .url()), Map.of(), tempDirectory.resolve("file"), "00000000000000000000000000000000"));
+
+    assertThrows(ChecksumMismatchException.class, () -> instance.downloadFiles(downloads, 2, 1, (processed, total) -> {}));
+  }
+
+  @Test
+  public void testDownloadFileResumesPartialFile() throws Exception {
+    Path targetFile = tempDirectory.resolve("file");
+    Files.writeString(tempDirectory.resolve("file." + SAMPLE_FILE_CHECKSUM + ".part"), "Some ");
+
+    DownloadStatistics statistics = instance.downloadFile(fileServer.url("/file")
+        .url(), Map.of(), targetFile, (processed, total) -> {}, SAMPLE_FILE_CHECKSUM);
+
+    assertEquals("bytes=5-", fileServer.takeRequest().getHeader("Range"));
+    assertArrayEquals(CONTENT.getBytes(), Files.readAllBytes(targetFile));
+    assertFalse(Files.exists(tempDirectory.resolve("file." + SAMPLE_FILE_CHECKSUM + ".part")));
+    assertEquals(12, statistics.fileSize());
+    assertEquals(7, statistics.bytesReceived());
+  }
+
+  @Test
+  public void testDownloadFileFailsOverToNextMirror() throws Exception {
+    failuresLeftByPath.put("/broken", new AtomicInteger(Integer.MAX_VALUE));
+    Path targetFile = tempDirectory.resolve("file");
+
+    DownloadStatistics statistics = instance.downloadFile(List.of(fileServer.url("/broken").url(), fileServer.url("/file")
+        .url()), Map.of(), targetFile, (processed, total) -> {}, SAMPLE_FILE_CHECKSUM, 3);
+
+    assertArrayEquals(CONTENT.getBytes(), Files.readAllBytes(targetFile));
+    assertEquals(fileServer.url("/file").url(), statistics.url());
+    assertEquals(1, statistics.failovers());
+    assertEquals(2, fileServer.getRequestCount());
+  }
+
+  @Test
+  public void testDownloadFileBadChecksumDeletesPartialFile() throws Exception {
+    Path targetFile = tempDirectory.resolve("file");
+
+    assertThrows(ChecksumMismatchException.class, () -> instance.downloadFile(fileServer.url("/file")
+        .url(), Map.of(), targetFile, (processed, total) -> {}, "00000000000000000000000000000000"));
+    assertFalse(Files.exists(tempDirectory.resolve("file.00000000000000000000000000000000.part")));
+    assertFalse(Files.exists(targetFile));
+  }
+
+  @Test
+  public void testDownloadFileDoesNotResumePartialFileOfOtherVersion() throws Exception {
+    Path targetFile = tempDirectory.resolve("file");
+    Path otherPartialFile = tempDirectory.resolve("file.00000000000000000000000000000000.part");
+    Files.writeString(otherPartialFile, "Other");
+
+    instance.downloadFile(fileServer.url("/file").url(), Map.of(), targetFile, (processed, total) -> {}, SAMPLE_FILE_CHECKSUM);
+
+    assertNull(fileServer.takeRequest().getHeader("Range"));
+    assertArrayEquals(CONTENT.getBytes(), Files.readAllBytes(targetFile));
+    assertFalse(Files.exists(otherPartialFile));
+  }
+
+  @Test
+  public void testDownloadFileDiscardsPartialFileIfRangeDoesNotMatch() throws Exception {
+    fileServer.setDispatcher(new Dispatcher() {
+      @Override
+      public MockResponse dispatch(RecordedRequest request) {
+        if (request.getHeader("Range") != null) {
+          return new MockResponse().setResponseCode(206)
+              .setHeader("Content-Range", "bytes 0-" + (CONTENT.length() - 1) + "/" + CONTENT.length())
+              .setBody(CONTENT);
+        }
+        return new MockResponse().setBody(CONTENT);
+      }
+    });
+    Path targetFile = tempDirectory.resolve("file");
+    Files.writeString(tempDirectory.resolve("file." + SAMPLE_FILE_CHECKSUM + ".part"), "Some ");
+
+    instance.downloadFile(fileServer.url("/file").url(), Map.of(), targetFile, (processed, total) -> {}, SAMPLE_FILE_CHECKSUM);
+
+    assertEquals("bytes=5-", fileServer.takeRequest().getHeader("Range"));
+    assertNull(fileServer.takeRequest().getHeader("Range"));
+    assertArrayEquals(CONTENT.getBytes(), Files.readAllBytes(targetFile));
+  }
+
+  @Test
+  public void testDownloadFileRetriesSameMirrorWithoutChecksum() throws Exception {
+    failuresLeftByPath.put("/file", new AtomicInteger(1));
+    Path targetFile = tempDirectory.resolve("file");
+
+    DownloadStatistics statistics = instance.downloadFile(fileServer.url("/file")
+        .url(), Map.of(), targetFile, (processed, total) -> {}, null);
+
+    assertArrayEquals(CONTENT.getBytes(), Files.readAllBytes(targetFile));
+    assertEquals(1, statistics.retries());
+    assertEquals(2, fileServer.getRequestCount());
+  }
 }
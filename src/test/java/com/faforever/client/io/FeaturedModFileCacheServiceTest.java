@@ -4,6 +4,7 @@ import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.Preferences;
 import com.faforever.client.test.ServiceTest;
 import com.faforever.commons.api.dto.FeaturedModFile;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -13,10 +14,13 @@ import org.mockito.Spy;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FeaturedModFileCacheServiceTest extends ServiceTest {
@@ -29,6 +33,8 @@ public class FeaturedModFileCacheServiceTest extends ServiceTest {
   private DataPrefs dataPrefs;
   @Spy
   private Preferences preferences;
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
 
   @InjectMocks
   private FeaturedModFileCacheService instance;
@@ -75,4 +81,68 @@ public class FeaturedModFileCacheServiceTest extends ServiceTest {
     assertTrue(Files.isRegularFile(targetPath));
     assertEquals(hashNewFile, instance.readHashFromFile(targetPath));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testReadHashFromFileOnlyRereadsChangedFiles() throws IOException {
+    Path file = Files.writeString(targetDirectory.resolve("test.nx2"), "content");
+    String hash = instance.readHashFromFile(file);
+    instance.saveHashManifest();
+
+    // Same size and last modified time, so a new instance must take the hash from the manifest
+    FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+    Files.writeString(file, "changed");
+    Files.setLastModifiedTime(file, lastModifiedTime);
+    FeaturedModFileCacheService otherInstance = new FeaturedModFileCacheService(dataPrefs, preferences, objectMapper);
+    assertEquals(hash, otherInstance.readHashFromFile(file));
+
+    Files.setLastModifiedTime(file, FileTime.fromMillis(lastModifiedTime.toMillis() + 1000));
+    assertNotEquals(hash, otherInstance.readHashFromFile(file));
+  }
+
+  @Test
+  public void testInstalledFileIsLinkedToCache() throws IOException {
+    FeaturedModFile featuredModFile = createCachedFile("gamedata", "test.nx2", "content");
+    Path targetPath = targetDirectory.resolve("gamedata").resolve("test.nx2");
+
+    instance.copyFeaturedModFileFromCache(featuredModFile, targetPath);
+
+    assertTrue(Files.isSameFile(instance.getCachedFilePath(featuredModFile), targetPath));
+  }
+
+  @Test
+  public void testReinstallingLinkedFileKeepsCachedFile() throws IOException {
+    preferences.setGameDataCacheActivated(true);
+    FeaturedModFile oldFile = createCachedFile("gamedata", "test.nx2", "old content");
+    FeaturedModFile newFile = createCachedFile("gamedata", "test.nx2", "new content");
+    Path targetPath = targetDirectory.resolve("gamedata").resolve("test.nx2");
+
+    instance.copyFeaturedModFileFromCache(oldFile, targetPath);
+    instance.copyFeaturedModFileFromCache(newFile, targetPath);
+
+    assertEquals("old content", Files.readString(instance.getCachedFilePath(oldFile)));
+    assertEquals("new content", Files.readString(targetPath));
+  }
+
+  @Test
+  public void testExecutableIsCopied() throws IOException {
+    FeaturedModFile featuredModFile = createCachedFile("bin", "ForgedAlliance.exe", "content");
+    Path targetPath = targetDirectory.resolve("bin").resolve("ForgedAlliance.exe");
+
+    instance.copyFeaturedModFileFromCache(featuredModFile, targetPath);
+
+    assertFalse(Files.isSameFile(instance.getCachedFilePath(featuredModFile), targetPath));
+    assertEquals("content", Files.readString(targetPath));
+  }
+
+  private FeaturedModFile createCachedFile(String group, String name, String content) throws IOException {
+    Path file = Files.writeString(Files.createTempFile(tempDirectory, "file", null), content);
+    FeaturedModFile featuredModFile = new FeaturedModFile();
+    featuredModFile.setGroup(group);
+    featuredModFile.setName(name);
+    featuredModFile.setMd5(instance.readHashFromFile(file));
+    Path cachedFilePath = instance.getCachedFilePath(featuredModFile);
+    Files.createDirectories(cachedFilePath.getParent());
+    Files.move(file, cachedFilePath);
+    return featuredModFile;
+  }
+}
@@ -1,6 +1,8 @@
 package com.faforever.client.map;
 
 import com.faforever.client.i18n.I18n;
+import com.faforever.client.io.DownloadService;
+import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.preferences.ForgedAlliancePrefs;
 import com.faforever.client.test.PlatformTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -29,13 +32,16 @@ public class DownloadMapBeanTaskTest extends PlatformTest {
   private I18n i18n;
   @Spy
   private ForgedAlliancePrefs forgedAlliancePrefs;
+  @Spy
+  private DataPrefs dataPrefs;
 
   private Path mapsDirectory;
 
   @BeforeEach
   public void setUp() throws Exception {
-    instance = new DownloadMapTask(i18n, forgedAlliancePrefs);
+    instance = new DownloadMapTask(i18n, forgedAlliancePrefs, dataPrefs, new DownloadService());
     forgedAlliancePrefs.setVaultBaseDirectory(tempDirectory);
+    dataPrefs.setBaseDataDirectory(tempDirectory);
     mapsDirectory = Files.createDirectory(tempDirectory.resolve("maps"));
   }
 
@@ -54,9 +60,10 @@ public class DownloadMapBeanTaskTest extends PlatformTest {
   @Test
   public void testCall() throws Exception {
     instance.setMapUrl(getClass().getResource("/maps/theta_passage_5.v0001.zip").toURI().toURL());
-    instance.setFolderName("");
+    instance.setFolderName("theta_passage_5.v0001");
     instance.call();
 
     assertTrue(Files.exists(mapsDirectory.resolve("theta_passage_5.v0001").resolve("theta_passage_5_scenario.lua")));
+    assertFalse(Files.exists(dataPrefs.getCacheDirectory().resolve("theta_passage_5.v0001.zip")));
   }
 }
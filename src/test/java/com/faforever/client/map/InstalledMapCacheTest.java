@@ -0,0 +1,106 @@
+package com.faforever.client.map;
+
+import com.faforever.client.builders.MapVersionBeanBuilder;
+import com.faforever.client.domain.MapVersionBean;
+import com.faforever.client.preferences.DataPrefs;
+import com.faforever.client.test.ServiceTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class InstalledMapCacheTest extends ServiceTest {
+
+  @TempDir
+  public Path tempDirectory;
+
+  @InjectMocks
+  private InstalledMapCache instance;
+
+  @Spy
+  private DataPrefs dataPrefs;
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+
+  private Path scenarioFile;
+  private MapVersionBean mapVersion;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    dataPrefs.setBaseDataDirectory(tempDirectory);
+    scenarioFile = Files.writeString(tempDirectory.resolve("test_scenario.lua"), "ScenarioInfo = {}");
+    mapVersion = MapVersionBeanBuilder.create()
+        .defaultValues()
+        .folderName("test.v0001")
+        .size(MapSize.valueOf(512, 1024))
+        .maxPlayers(4)
+        .version(new ComparableVersion("1"))
+        .get();
+  }
+
+  @Test
+  public void testGetUnknownScenario() throws Exception {
+    assertThat(instance.get(scenarioFile, readAttributes()), nullValue());
+  }
+
+  @Test
+  public void testGetCachedMap() throws Exception {
+    instance.put(scenarioFile, readAttributes(), mapVersion);
+
+    MapVersionBean cachedMapVersion = instance.get(scenarioFile, readAttributes());
+
+    assertThat(cachedMapVersion, notNullValue());
+    assertThat(cachedMapVersion.getFolderName(), is("test.v0001"));
+    assertThat(cachedMapVersion.getSize(), is(MapSize.valueOf(512, 1024)));
+    assertThat(cachedMapVersion.getMaxPlayers(), is(4));
+    assertThat(cachedMapVersion.getVersion(), is(new ComparableVersion("1")));
+    assertThat(cachedMapVersion.getMap().getDisplayName(), is(mapVersion.getMap().getDisplayName()));
+  }
+
+  @Test
+  public void testChangedScenarioIsNotTakenFromCache() throws Exception {
+    instance.put(scenarioFile, readAttributes(), mapVersion);
+
+    Files.setLastModifiedTime(scenarioFile, FileTime.from(Instant.now().plusSeconds(60)));
+
+    assertThat(instance.get(scenarioFile, readAttributes()), nullValue());
+  }
+
+  @Test
+  public void testSavedCacheIsReused() throws Exception {
+    instance.put(scenarioFile, readAttributes(), mapVersion);
+    instance.save();
+
+    InstalledMapCache otherInstance = new InstalledMapCache(dataPrefs, objectMapper);
+
+    assertThat(otherInstance.get(scenarioFile, readAttributes()).getFolderName(), is("test.v0001"));
+  }
+
+  @Test
+  public void testRetainAll() throws Exception {
+    instance.put(scenarioFile, readAttributes(), mapVersion);
+
+    instance.retainAll(List.of(tempDirectory.resolve("other_scenario.lua")));
+
+    assertThat(instance.get(scenarioFile, readAttributes()), nullValue());
+  }
+
+  private BasicFileAttributes readAttributes() throws Exception {
+    return Files.readAttributes(scenarioFile, BasicFileAttributes.class);
+  }
+}
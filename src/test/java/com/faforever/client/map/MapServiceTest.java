@@ -86,7 +86,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -124,6 +126,8 @@ public class MapServiceTest extends PlatformTest {
   private ObjectFactory<UninstallMapTask> uninstallMapTaskFactory;
   @Mock
   private FileSizeReader fileSizeReader;
+  @Mock
+  private InstalledMapCache installedMapCache;
   @Spy
   private MapMapper mapMapper = Mappers.getMapper(MapMapper.class);
   @Spy
@@ -160,7 +164,8 @@ public class MapServiceTest extends PlatformTest {
     instance = new MapService(notificationService, taskService, fafApiAccessor, assetService, i18n, uiService,
                               themeService, mapGeneratorService, playerService, mapMapper, fileSizeReader,
                               clientProperties, forgedAlliancePrefs, preferences, mapUploadTaskFactory,
-                              downloadMapTaskFactory, uninstallMapTaskFactory, fxApplicationThreadExecutor);
+                              downloadMapTaskFactory, uninstallMapTaskFactory, fxApplicationThreadExecutor,
+                              installedMapCache);
     instance.officialMaps = ImmutableSet.of();
     instance.afterPropertiesSet();
   }
@@ -227,6 +232,47 @@ public class MapServiceTest extends PlatformTest {
     assertThat(instance.isInstalled("ScMp_001"), is(true));
   }
 
+  @Test
+  public void testInstalledMapIsReadAndCached() throws Exception {
+    Path scmp001 = Files.createDirectory(mapsDirectory.resolve("SCMP_001"));
+    Path scenarioFile = scmp001.resolve("SCMP_001_scenario.lua");
+    Files.copy(getClass().getResourceAsStream("/maps/SCMP_001/SCMP_001_scenario.lua"), scenarioFile);
+
+    instance.afterPropertiesSet();
+
+    assertThat(instance.isInstalled("SCMP_001"), is(true));
+    verify(installedMapCache).put(eq(scenarioFile), any(), argThat(mapVersion -> mapVersion.getFolderName().equals("SCMP_001")));
+    verify(installedMapCache).retainAll(List.of(scenarioFile));
+    verify(installedMapCache, atLeastOnce()).save();
+  }
+
+  @Test
+  public void testUnexpectedErrorReadingMapDoesNotDropOtherMaps() throws Exception {
+    Path scmp001 = Files.createDirectory(mapsDirectory.resolve("SCMP_001"));
+    Files.copy(getClass().getResourceAsStream("/maps/SCMP_001/SCMP_001_scenario.lua"), scmp001.resolve("SCMP_001_scenario.lua"));
+    Path brokenMap = Files.createDirectory(mapsDirectory.resolve("broken_map"));
+    Files.writeString(brokenMap.resolve("broken_map_scenario.lua"), "not lua");
+    when(installedMapCache.get(eq(brokenMap.resolve("broken_map_scenario.lua")), any())).thenThrow(new IllegalStateException("broken"));
+
+    instance.afterPropertiesSet();
+
+    assertThat(instance.isInstalled("SCMP_001"), is(true));
+    assertThat(instance.isInstalled("broken_map"), is(false));
+  }
+
+  @Test
+  public void testInstalledMapIsTakenFromCache() throws Exception {
+    Path cachedMap = Files.createDirectory(mapsDirectory.resolve("cached_map"));
+    Files.writeString(cachedMap.resolve("cached_map_scenario.lua"), "not lua");
+    MapVersionBean cachedMapVersion = MapVersionBeanBuilder.create().defaultValues().folderName("cached_map").get();
+    when(installedMapCache.get(eq(cachedMap.resolve("cached_map_scenario.lua")), any())).thenReturn(cachedMapVersion);
+
+    instance.afterPropertiesSet();
+
+    assertThat(instance.isInstalled("cached_map"), is(true));
+    verify(installedMapCache, never()).put(any(), any(), any());
+  }
+
   @Test
   public void testLoadPreview() {
     for (PreviewSize previewSize : PreviewSize.values()) {
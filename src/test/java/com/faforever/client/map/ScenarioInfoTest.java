@@ -0,0 +1,62 @@
+package com.faforever.client.map;
+
+import com.faforever.client.test.ServiceTest;
+import com.faforever.client.util.LuaLiteralParser.UnsupportedSyntaxException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ScenarioInfoTest extends ServiceTest {
+
+  @Test
+  public void testParseMatchesEvaluation() throws Exception {
+    for (String scenarioFile : new String[]{"/maps/SCMP_001/SCMP_001_scenario.lua", "/maps/palaneum.v0001/Palaneum_scenario.lua", "/maps/palaneum.v0002/Palaneum_scenario.lua"}) {
+      Path path = Path.of(getClass().getResource(scenarioFile).toURI());
+
+      assertEquals(ScenarioInfo.evaluate(path), ScenarioInfo.parse(Files.readString(path)));
+    }
+  }
+
+  @Test
+  public void testParse() throws Exception {
+    Path path = Path.of(getClass().getResource("/maps/SCMP_001/SCMP_001_scenario.lua").toURI());
+
+    ScenarioInfo scenarioInfo = ScenarioInfo.parse(Files.readString(path));
+
+    assertEquals("Burial Mounds", scenarioInfo.name());
+    assertEquals("skirmish", scenarioInfo.type());
+    assertEquals(1024, scenarioInfo.width());
+    assertEquals(1024, scenarioInfo.height());
+    assertEquals(8, scenarioInfo.maxPlayers());
+    assertEquals("1", scenarioInfo.version());
+  }
+
+  @Test
+  public void testReadFallsBackToEvaluation() throws Exception {
+    String scenario = """
+        mapSize = 256
+        ScenarioInfo = {
+          name = 'Computed ' .. 'Name', description = '', type = 'skirmish', size = { mapSize, 2 * mapSize },
+          Configurations = { standard = { teams = { { armies = { 'ARMY_1', 'ARMY_2' } } } } },
+        }
+        """;
+    Path path = Files.writeString(Files.createTempFile("computed", "_scenario.lua"), scenario);
+
+    try {
+      assertThrows(UnsupportedSyntaxException.class, () -> ScenarioInfo.parse(scenario));
+
+      ScenarioInfo scenarioInfo = ScenarioInfo.read(path);
+
+      assertEquals("Computed Name", scenarioInfo.name());
+      assertEquals(256, scenarioInfo.width());
+      assertEquals(512, scenarioInfo.height());
+      assertEquals(2, scenarioInfo.maxPlayers());
+    } finally {
+      Files.delete(path);
+    }
+  }
+}
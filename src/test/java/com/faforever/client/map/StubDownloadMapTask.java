@@ -14,7 +14,7 @@ public class StubDownloadMapTask extends DownloadMapTask {
   public MapVersionBean mapToDownload;
 
   public StubDownloadMapTask(ForgedAlliancePrefs forgedAlliancePrefs, I18n i18n, Path customMapsDirectory) {
-    super(i18n, forgedAlliancePrefs);
+    super(i18n, forgedAlliancePrefs, null, null);
     this.customMapsDirectory = customMapsDirectory;
   }
 
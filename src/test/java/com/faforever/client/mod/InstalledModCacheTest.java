@@ -0,0 +1,133 @@
+package com.faforever.client.mod;
+
+import com.faforever.client.builders.ModVersionBeanBuilder;
+import com.faforever.client.domain.ModVersionBean;
+import com.faforever.client.domain.ModVersionBean.ModType;
+import com.faforever.client.preferences.DataPrefs;
+import com.faforever.client.test.ServiceTest;
+import com.faforever.commons.mod.MountInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.maven.artifact.versioning.ComparableVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class InstalledModCacheTest extends ServiceTest {
+
+  @TempDir
+  public Path tempDirectory;
+
+  @InjectMocks
+  private InstalledModCache instance;
+
+  @Spy
+  private DataPrefs dataPrefs;
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+
+  private Path modFolder;
+  private Path modInfoFile;
+  private ModVersionBean modVersion;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    dataPrefs.setBaseDataDirectory(tempDirectory);
+    modFolder = Files.createDirectories(tempDirectory.resolve("mods").resolve("test_mod"));
+    modInfoFile = Files.writeString(modFolder.resolve("mod_info.lua"), "name = 'Test'");
+    modVersion = ModVersionBeanBuilder.create()
+        .defaultValues()
+        .uid("test-uid")
+        .version(new ComparableVersion("3"))
+        .modType(ModType.SIM)
+        .imagePath(modFolder.resolve("textures").resolve("icon.png"))
+        .mountPoints(List.of(new MountInfo(Path.of("effects"), "/effects")))
+        .hookDirectories(List.of("/test"))
+        .get();
+  }
+
+  @Test
+  public void testGetUnknownModInfo() throws Exception {
+    assertThat(instance.get(modInfoFile, readAttributes()), nullValue());
+  }
+
+  @Test
+  public void testGetCachedMod() throws Exception {
+    instance.put(modInfoFile, readAttributes(), modVersion);
+
+    ModVersionBean cachedModVersion = instance.get(modInfoFile, readAttributes());
+
+    assertThat(cachedModVersion, notNullValue());
+    assertThat(cachedModVersion.getUid(), is("test-uid"));
+    assertThat(cachedModVersion.getVersion(), is(new ComparableVersion("3")));
+    assertThat(cachedModVersion.getModType(), is(ModType.SIM));
+    assertThat(cachedModVersion.getImagePath(), is(modFolder.resolve("textures").resolve("icon.png")));
+    assertThat(cachedModVersion.getMountPoints().get(0).getFile(), is(Path.of("effects")));
+    assertThat(cachedModVersion.getMountPoints().get(0).getMountPoint(), is("/effects"));
+    assertThat(cachedModVersion.getHookDirectories(), contains("/test"));
+    assertThat(cachedModVersion.getMod().getDisplayName(), is(modVersion.getMod().getDisplayName()));
+    assertThat(cachedModVersion.getMod().getAuthor(), is(modVersion.getMod().getAuthor()));
+  }
+
+  @Test
+  public void testChangedModInfoIsNotTakenFromCache() throws Exception {
+    instance.put(modInfoFile, readAttributes(), modVersion);
+
+    Files.setLastModifiedTime(modInfoFile, FileTime.from(Instant.now().plusSeconds(60)));
+
+    assertThat(instance.get(modInfoFile, readAttributes()), nullValue());
+  }
+
+  @Test
+  public void testReplacedModInfoIsNotTakenFromCache() throws Exception {
+    BasicFileAttributes attributes = readAttributes();
+    assumeTrue(attributes.fileKey() != null, "File system has no file keys");
+    instance.put(modInfoFile, attributes, modVersion);
+
+    // A file with the same size and modification time, but a different file key
+    Path replacement = Files.writeString(modFolder.resolve("mod_info.lua.new"), "name = 'Fake'");
+    Files.setLastModifiedTime(replacement, attributes.lastModifiedTime());
+    Files.move(replacement, modInfoFile, StandardCopyOption.REPLACE_EXISTING);
+
+    assertThat(instance.get(modInfoFile, readAttributes()), nullValue());
+  }
+
+  @Test
+  public void testSavedCacheIsReused() throws Exception {
+    instance.put(modInfoFile, readAttributes(), modVersion);
+    instance.save();
+
+    InstalledModCache otherInstance = new InstalledModCache(dataPrefs, objectMapper);
+
+    assertThat(otherInstance.get(modInfoFile, readAttributes()).getUid(), is("test-uid"));
+  }
+
+  @Test
+  public void testRetainAll() throws Exception {
+    instance.put(modInfoFile, readAttributes(), modVersion);
+
+    instance.retainAll(List.of(tempDirectory.resolve("other_mod").resolve("mod_info.lua")));
+
+    assertThat(instance.get(modInfoFile, readAttributes()), nullValue());
+  }
+
+  private BasicFileAttributes readAttributes() throws Exception {
+    return Files.readAttributes(modInfoFile, BasicFileAttributes.class);
+  }
+}
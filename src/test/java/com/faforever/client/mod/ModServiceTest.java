@@ -8,6 +8,7 @@ import com.faforever.client.domain.FeaturedModBean;
 import com.faforever.client.domain.ModBean;
 import com.faforever.client.domain.ModVersionBean;
 import com.faforever.client.domain.ModVersionBean.ModType;
+import com.faforever.client.fa.GamePrefsService;
 import com.faforever.client.fx.ImageViewHelper;
 import com.faforever.client.fx.PlatformService;
 import com.faforever.client.i18n.I18n;
@@ -87,7 +88,10 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -132,6 +136,8 @@ public class ModServiceTest extends PlatformTest {
   private UiService uiService;
   @Mock
   private ThemeService themeService;
+  @Mock
+  private InstalledModCache installedModCache;
   @Spy
   private ModMapper modMapper = Mappers.getMapper(ModMapper.class);
   @Spy
@@ -173,8 +179,8 @@ public class ModServiceTest extends PlatformTest {
 
     instance = new ModService(fafApiAccessor, taskService, notificationService, i18n, platformService, assetService,
                               uiService, themeService, fileSizeReader, modMapper, forgedAlliancePrefs, preferences,
-                              modUploadTaskFactory, downloadModTaskFactory, uninstallModTaskFactory,
-                              fxApplicationThreadExecutor);
+                              new GamePrefsService(forgedAlliancePrefs), modUploadTaskFactory, downloadModTaskFactory, uninstallModTaskFactory,
+                              fxApplicationThreadExecutor, installedModCache);
 
     instance.afterPropertiesSet();
   }
@@ -195,6 +201,40 @@ public class ModServiceTest extends PlatformTest {
     assertThat(installedModVersions.size(), is(1));
   }
 
+  @Test
+  public void testInstalledModIsReadAndCached() {
+    Path modInfoFile = modsDirectory.resolve(BLACK_OPS_UNLEASHED_DIRECTORY_NAME).resolve("mod_info.lua");
+
+    verify(installedModCache).put(eq(modInfoFile), any(), argThat(modVersion -> modVersion.getUid()
+        .equals(instance.getInstalledMods().get(0).getUid())));
+    verify(installedModCache).retainAll(List.of(modInfoFile));
+    verify(installedModCache, atLeastOnce()).save();
+  }
+
+  @Test
+  public void testInstalledModIsTakenFromCache() throws Exception {
+    Path cachedMod = Files.createDirectories(modsDirectory.resolve("cached_mod"));
+    Files.writeString(cachedMod.resolve("mod_info.lua"), "not lua");
+    ModVersionBean cachedModVersion = ModVersionBeanBuilder.create().defaultValues().uid("cached").get();
+    when(installedModCache.get(eq(cachedMod.resolve("mod_info.lua")), any())).thenReturn(cachedModVersion);
+
+    instance.afterPropertiesSet();
+    WaitForAsyncUtils.waitForFxEvents();
+
+    assertThat(instance.isInstalled("cached"), is(true));
+    assertThat(instance.getPathForMod(cachedModVersion), is(cachedMod));
+    verify(installedModCache, never()).put(eq(cachedMod.resolve("mod_info.lua")), any(), any());
+  }
+
+  @Test
+  public void testInstalledModCacheIsSavedOnDestroy() {
+    clearInvocations(installedModCache);
+
+    instance.destroy();
+
+    verify(installedModCache).save();
+  }
+
   @Test
   @Disabled("Flaky Test")
   public void testDownloadAndInstallMod() throws Exception {
@@ -441,7 +481,7 @@ public class ModServiceTest extends PlatformTest {
   }
 
   private DownloadModTask stubDownloadModTask() {
-    return new DownloadModTask(i18n, dataPrefs, forgedAlliancePrefs) {
+    return new DownloadModTask(i18n, dataPrefs, forgedAlliancePrefs, null) {
       @Override
       protected Void call() {
         return null;
@@ -7,11 +7,20 @@ import com.faforever.client.test.ServiceTest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Spy;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -26,6 +35,8 @@ public class PreferencesServiceTest extends ServiceTest {
   private ClientProperties clientProperties;
   @Spy
   private Preferences preferences;
+  @TempDir
+  private Path tempDirectory;
 
   @BeforeEach
   public void setUp() throws Exception {
@@ -39,6 +50,35 @@ public class PreferencesServiceTest extends ServiceTest {
 //    assertDoesNotThrow(() -> objectMapper.readValue(objectMapper.writeValueAsString(preferences), Preferences.class));
 //  }
 
+  @Test
+  public void testExecutableHashIsOnlyComputedWhenExecutableChanged() throws Exception {
+    Path executable = Files.createDirectories(tempDirectory.resolve("bin")).resolve(PreferencesService.FORGED_ALLIANCE_EXE);
+    Files.writeString(executable, "original");
+    FileTime lastModified = Files.getLastModifiedTime(executable);
+    preferences.getData().setBaseDataDirectory(tempDirectory.resolve("data"));
+    clientProperties.getVanillaGameHashes().add(sha256("vanilla!"));
+
+    assertNull(instance.isGamePathValidWithErrorMessage(tempDirectory));
+    ExecutableHash executableHash = preferences.getForgedAlliance().getExecutableHash();
+    assertEquals(sha256("original"), executableHash.sha256());
+
+    // Same size and modification time, so the stored hash is used
+    Files.writeString(executable, "vanilla!");
+    Files.setLastModifiedTime(executable, lastModified);
+    assertNull(instance.isGamePathValidWithErrorMessage(tempDirectory));
+    assertSame(executableHash, preferences.getForgedAlliance().getExecutableHash());
+
+    Files.setLastModifiedTime(executable, FileTime.fromMillis(lastModified.toMillis() + 1000));
+    assertEquals("gamePath.select.vanillaGameSelected", instance.isGamePathValidWithErrorMessage(tempDirectory));
+    assertEquals(sha256("vanilla!"), preferences.getForgedAlliance().getExecutableHash().sha256());
+  }
+
+  private static String sha256(String content) throws Exception {
+    return HexFormat.of()
+        .withUpperCase()
+        .formatHex(MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+  }
+
   @Test
   public void testIsVaultBasePathInvalidForAscii() {
     preferences.getForgedAlliance().setVaultBaseDirectory(Path.of("C:\\User\\test"));
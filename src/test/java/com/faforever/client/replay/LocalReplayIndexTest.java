@@ -0,0 +1,207 @@
+package com.faforever.client.replay;
+
+import com.faforever.client.config.ClientProperties;
+import com.faforever.client.preferences.DataPrefs;
+import com.faforever.client.replay.LocalReplayIndexEntry.Army;
+import com.faforever.client.test.ServiceTest;
+import com.faforever.commons.replay.ReplayMetadata;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LocalReplayIndexTest extends ServiceTest {
+
+  @TempDir
+  public Path tempDirectory;
+
+  @InjectMocks
+  private LocalReplayIndex instance;
+
+  @Mock
+  private ReplayFileReader replayFileReader;
+  @Spy
+  private ClientProperties clientProperties;
+  @Spy
+  private DataPrefs dataPrefs;
+  @Spy
+  private ObjectMapper objectMapper = new ObjectMapper();
+
+  private Path replayDirectory;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    dataPrefs.setBaseDataDirectory(tempDirectory);
+    replayDirectory = Files.createDirectories(dataPrefs.getReplaysDirectory());
+
+    ReplayMetadata replayMetadata = new ReplayMetadata();
+    replayMetadata.setUid(123);
+    replayMetadata.setTitle("title");
+    replayMetadata.setFeaturedMod("faf");
+    replayMetadata.setMapname("map");
+    replayMetadata.setTeams(Map.of("2", List.of("junit")));
+
+    when(replayFileReader.readReplayMetadata(any())).thenReturn(replayMetadata);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    instance.destroy();
+  }
+
+  @Test
+  public void testGetReplayFilesMostRecentFirst() throws Exception {
+    Path older = createReplayFile("older.fafreplay", 1000);
+    Path newer = createReplayFile("newer.fafreplay", 2000);
+    Files.createFile(replayDirectory.resolve("other.txt"));
+
+    assertThat(instance.getReplayFiles(), contains(newer, older));
+  }
+
+  @Test
+  public void testGetEntry() throws Exception {
+    Path replayFile = createReplayFile("replay.fafreplay", 1000);
+    instance.getReplayFiles();
+
+    LocalReplayIndexEntry entry = instance.getEntry(replayFile);
+
+    assertThat(entry.uid(), is(123));
+    assertThat(entry.title(), is("title"));
+    assertThat(entry.featuredMod(), is("faf"));
+    assertThat(entry.mapName(), is("map"));
+    assertThat(entry.teams(), is(Map.of("2", List.of("junit"))));
+    assertThat(entry.armies(), nullValue());
+    verify(replayFileReader, never()).parseReplay(any());
+  }
+
+  @Test
+  public void testGetEntryReadsReplayOnlyOnce() throws Exception {
+    Path replayFile = createReplayFile("replay.fafreplay", 1000);
+    instance.getReplayFiles();
+
+    instance.getEntry(replayFile);
+    instance.getEntry(replayFile);
+
+    verify(replayFileReader, times(1)).readReplayMetadata(replayFile);
+  }
+
+  @Test
+  public void testSavedIndexIsReused() throws Exception {
+    Path replayFile = createReplayFile("replay.fafreplay", 1000);
+    instance.getReplayFiles();
+    instance.getEntry(replayFile);
+    instance.save();
+
+    assertTrue(Files.exists(dataPrefs.getCacheDirectory().resolve(LocalReplayIndex.INDEX_FILE_NAME)));
+
+    LocalReplayIndex otherInstance = new LocalReplayIndex(replayFileReader, clientProperties, dataPrefs, objectMapper);
+    try {
+      otherInstance.getReplayFiles();
+      LocalReplayIndexEntry entry = otherInstance.getEntry(replayFile);
+
+      assertThat(entry.uid(), is(123));
+      verify(replayFileReader, times(1)).readReplayMetadata(replayFile);
+    } finally {
+      otherInstance.destroy();
+    }
+  }
+
+  @Test
+  public void testChangedReplayIsReadAgain() throws Exception {
+    Path replayFile = createReplayFile("replay.fafreplay", 1000);
+    instance.getReplayFiles();
+    instance.getEntry(replayFile);
+    instance.save();
+
+    Files.setLastModifiedTime(replayFile, FileTime.from(Instant.ofEpochMilli(2000)));
+
+    LocalReplayIndex otherInstance = new LocalReplayIndex(replayFileReader, clientProperties, dataPrefs, objectMapper);
+    try {
+      otherInstance.getReplayFiles();
+      otherInstance.getEntry(replayFile);
+
+      verify(replayFileReader, times(2)).readReplayMetadata(replayFile);
+    } finally {
+      otherInstance.destroy();
+    }
+  }
+
+  @Test
+  public void testPutArmies() throws Exception {
+    Path replayFile = createReplayFile("replay.fafreplay", 1000);
+    instance.getReplayFiles();
+    instance.getEntry(replayFile);
+
+    instance.putArmies(replayFile, List.of(new Army(1, "junit", "DE", 2, 1, 1500, 100)));
+
+    assertThat(instance.getEntry(replayFile).armies(), contains(new Army(1, "junit", "DE", 2, 1, 1500, 100)));
+  }
+
+  @Test
+  public void testSavedArmiesAreReused() throws Exception {
+    Path replayFile = createReplayFile("replay.fafreplay", 1000);
+    instance.getReplayFiles();
+    instance.getEntry(replayFile);
+    instance.putArmies(replayFile, List.of(new Army(1, "junit", "DE", 2, 1, 1500, 100)));
+    instance.save();
+
+    LocalReplayIndex otherInstance = new LocalReplayIndex(replayFileReader, clientProperties, dataPrefs, objectMapper);
+    try {
+      otherInstance.getReplayFiles();
+
+      assertThat(otherInstance.getEntry(replayFile).armies(), contains(new Army(1, "junit", "DE", 2, 1, 1500, 100)));
+      verify(replayFileReader, times(1)).readReplayMetadata(replayFile);
+    } finally {
+      otherInstance.destroy();
+    }
+  }
+
+  @Test
+  public void testPutArmiesIgnoresReplayNotIndexed() throws Exception {
+    Path replayFile = createReplayFile("replay.fafreplay", 1000);
+    instance.getReplayFiles();
+
+    instance.putArmies(replayFile, List.of(new Army(1, "junit", "DE", 2, 1, 1500, 100)));
+
+    assertThat(instance.getEntry(replayFile).armies(), nullValue());
+  }
+
+  @Test
+  public void testPutArmiesIgnoresReplayOutsideReplaysDirectory() throws Exception {
+    Path replayFile = createReplayFile("replay.fafreplay", 1000);
+    instance.getReplayFiles();
+    instance.getEntry(replayFile);
+
+    instance.putArmies(tempDirectory.resolve("replay.fafreplay"), List.of(new Army(1, "junit", "DE", 2, 1, 1500, 100)));
+
+    assertThat(instance.getEntry(replayFile).armies(), nullValue());
+  }
+
+  private Path createReplayFile(String fileName, long lastModified) throws Exception {
+    Path replayFile = Files.writeString(replayDirectory.resolve(fileName), fileName);
+    Files.setLastModifiedTime(replayFile, FileTime.from(Instant.ofEpochMilli(lastModified)));
+    return replayFile;
+  }
+}
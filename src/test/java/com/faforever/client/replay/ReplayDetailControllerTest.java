@@ -55,6 +55,7 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -138,7 +139,7 @@ public class ReplayDetailControllerTest extends PlatformTest {
         .get();
 
     when(i18n.get("game.notRatedYet")).thenReturn("not rated yet");
-    when(replayService.loadReplayDetails(any())).thenReturn(new ReplayDetails(List.of(), List.of(), mapBean));
+    when(replayService.loadReplayDetails(any())).thenReturn(new ReplayDetails(List.of(), List.of(), mapBean, Map.of()));
     when(mapService.isInstalledBinding(Mockito.<MapVersionBean>any())).thenReturn(installed);
     when(imageViewHelper.createPlaceholderImageOnErrorObservable(any())).thenAnswer(invocation -> new SimpleObjectProperty<>(invocation.getArgument(0)));
     when(reviewService.getReplayReviews(any())).thenReturn(Flux.empty());
@@ -217,7 +218,7 @@ public class ReplayDetailControllerTest extends PlatformTest {
 
   @Test
   public void setReplayLocal() throws Exception {
-    when(replayService.loadReplayDetails(any())).thenReturn(new ReplayDetails(localReplay.getChatMessages(), localReplay.getGameOptions(), mapBean));
+    when(replayService.loadReplayDetails(any())).thenReturn(new ReplayDetails(localReplay.getChatMessages(), localReplay.getGameOptions(), mapBean, Map.of()));
     when(ratingService.calculateQuality(localReplay)).thenReturn(Double.NaN);
 
     runOnFxThreadAndWait(() -> instance.setReplay(localReplay));
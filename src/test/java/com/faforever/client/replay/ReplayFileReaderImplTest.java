@@ -2,17 +2,21 @@ package com.faforever.client.replay;
 
 
 import com.faforever.client.test.ServiceTest;
+import com.faforever.commons.replay.ReplayMetadata;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 
 import java.io.BufferedInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ReplayFileReaderImplTest extends ServiceTest {
 
@@ -30,4 +34,27 @@ public class ReplayFileReaderImplTest extends ServiceTest {
     }
     assertThat(instance.parseReplay(tempFile).getData().length, is(197007));
   }
+
+  @Test
+  public void readReplayMetadata() throws Exception {
+    Path tempFile = temporaryFolder.resolve("replay.tmp");
+    try (InputStream inputStream = new BufferedInputStream(getClass().getResourceAsStream("/replay/test.fafreplay"))) {
+      Files.copy(inputStream, tempFile);
+    }
+
+    ReplayMetadata metadata = instance.readReplayMetadata(tempFile);
+
+    assertThat(metadata.getUid(), is(5670811));
+    assertThat(metadata.getTitle(), is("fun"));
+    assertThat(metadata.getMapname(), is("scmp_009"));
+    assertThat(metadata.getFeaturedMod(), is("faf"));
+    assertThat(metadata.getTeams().get("2"), is(List.of("Nojoke", "Jitsu", "sandwormsurfer", "hepko")));
+  }
+
+  @Test
+  public void readReplayMetadataOfEmptyFile() throws Exception {
+    Path tempFile = Files.createFile(temporaryFolder.resolve("replay.tmp"));
+
+    assertThrows(IOException.class, () -> instance.readReplayMetadata(tempFile));
+  }
 }
@@ -4,7 +4,9 @@ import com.faforever.client.config.ClientProperties;
 import com.faforever.client.i18n.I18n;
 import com.faforever.client.preferences.DataPrefs;
 import com.faforever.client.test.ServiceTest;
+import com.faforever.commons.replay.QtCompress;
 import com.faforever.commons.replay.ReplayMetadata;
+import com.google.common.io.BaseEncoding;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -12,11 +14,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 
-import java.io.ByteArrayOutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -43,8 +48,6 @@ public class ReplayFileWriterImplTest extends ServiceTest {
   @Spy
   private ClientProperties clientProperties;
   @Mock
-  private ByteArrayOutputStream replayData;
-  @Mock
   private ClientProperties.Replay replay;
   @Spy
   private DataPrefs dataPrefs;
@@ -67,13 +70,25 @@ public class ReplayFileWriterImplTest extends ServiceTest {
 
   @Test
   public void writeReplayData() throws Exception {
-    when(replayData.toByteArray()).thenReturn(replayBytes);
     ReplayMetadata replayInfo = new ReplayMetadata();
     replayInfo.setUid(UID);
     replayInfo.setRecorder(RECORDER);
-    instance.writeReplayDataToFile(replayData, replayInfo);
-    assertTrue(Files.exists(replaysDirectory.resolve(REPLAY_FILE_NAME)));
-    Files.deleteIfExists(replaysDirectory.resolve(REPLAY_FILE_NAME));
+    try (ReplayRecording replayRecording = new ReplayRecording(dataPrefs.getCacheDirectory())) {
+      replayRecording.write(replayBytes, 0, 10);
+      replayRecording.write(replayBytes, 10, replayBytes.length - 10);
+      instance.writeReplayDataToFile(replayRecording, replayInfo);
+    }
+
+    Path replayFile = replaysDirectory.resolve(REPLAY_FILE_NAME);
+    assertTrue(Files.exists(replayFile));
+
+    List<String> lines = Files.readAllLines(replayFile);
+    assertEquals(2, lines.size());
+    assertArrayEquals(replayBytes, QtCompress.qUncompress(BaseEncoding.base64().decode(lines.get(1))));
+    try (Stream<Path> cacheFiles = Files.list(dataPrefs.getCacheDirectory())) {
+      assertEquals(0, cacheFiles.count());
+    }
+    Files.deleteIfExists(replayFile);
   }
 }
 
@@ -0,0 +1,77 @@
+package com.faforever.client.replay;
+
+import com.faforever.client.test.ServiceTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReplayRelayTest extends ServiceTest {
+
+  @Test
+  public void testRelaysAllData() {
+    ByteArrayOutputStream remoteOutputStream = new ByteArrayOutputStream();
+    ReplayRelay instance = new ReplayRelay(remoteOutputStream);
+
+    byte[] bytes = "Hello, world".getBytes(UTF_8);
+    instance.relay(bytes, 0, 5);
+    instance.relay(bytes, 5, bytes.length - 5);
+    instance.close();
+
+    assertEquals("Hello, world", remoteOutputStream.toString(UTF_8));
+    assertEquals(bytes.length, instance.getBytesRelayed());
+    assertEquals(0, instance.getLag());
+    assertFalse(instance.isDropped());
+  }
+
+  @Test
+  public void testGivesUpIfRemoteCanNotKeepUp() {
+    CountDownLatch remoteBlocked = new CountDownLatch(1);
+    OutputStream remoteOutputStream = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        try {
+          remoteBlocked.await();
+        } catch (InterruptedException e) {
+          throw new IOException(e);
+        }
+      }
+    };
+    ReplayRelay instance = new ReplayRelay(remoteOutputStream, 1);
+
+    byte[] chunk = new byte[16384];
+    instance.relay(chunk, 0, chunk.length);
+    instance.relay(chunk, 0, chunk.length);
+    instance.relay(chunk, 0, chunk.length);
+
+    assertTrue(instance.isDropped());
+
+    remoteBlocked.countDown();
+    instance.close();
+  }
+
+  @Test
+  public void testGivesUpIfConnectionIsLost() throws Exception {
+    OutputStream remoteOutputStream = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("Connection reset");
+      }
+    };
+    ReplayRelay instance = new ReplayRelay(remoteOutputStream);
+
+    byte[] chunk = new byte[16384];
+    instance.relay(chunk, 0, chunk.length);
+    instance.close();
+
+    assertTrue(instance.isDropped());
+    assertEquals(0, instance.getBytesRelayed());
+  }
+}
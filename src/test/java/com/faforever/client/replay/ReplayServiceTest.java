@@ -22,6 +22,7 @@ import com.faforever.client.notification.NotificationService;
 import com.faforever.client.notification.PersistentNotification;
 import com.faforever.client.player.PlayerService;
 import com.faforever.client.preferences.DataPrefs;
+import com.faforever.client.replay.LocalReplayIndexEntry.Army;
 import com.faforever.client.reporting.ReportingService;
 import com.faforever.client.task.TaskService;
 import com.faforever.client.test.ApiTestUtil;
@@ -38,6 +39,7 @@ import com.faforever.commons.api.elide.ElideEntity;
 import com.faforever.commons.replay.GameOption;
 import com.faforever.commons.replay.ReplayDataParser;
 import com.faforever.commons.replay.ReplayMetadata;
+import org.apache.commons.compress.compressors.CompressorException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -78,6 +80,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -153,6 +156,8 @@ public class ReplayServiceTest extends ServiceTest {
   private FileSizeReader fileSizeReader;
   @Mock
   private ObjectFactory<ReplayDownloadTask> replayDownloadTaskFactory;
+  @Mock
+  private LocalReplayIndex localReplayIndex;
   @Spy
   private ReplayMapper replayMapper = Mappers.getMapper(ReplayMapper.class);
   @Spy
@@ -241,8 +246,9 @@ public class ReplayServiceTest extends ServiceTest {
     Path file1 = Files.createFile(replayDirectory.resolve("replay.fafreplay"));
     Path file2 = Files.createFile(replayDirectory.resolve("replay2.fafreplay"));
 
-    doThrow(new FakeTestException()).when(replayFileReader).parseReplay(file1);
-    doThrow(new FakeTestException()).when(replayFileReader).parseReplay(file2);
+    when(localReplayIndex.getReplayFiles()).thenReturn(List.of(file1, file2));
+    doThrow(new FakeTestException()).when(localReplayIndex).getEntry(file1);
+    doThrow(new FakeTestException()).when(localReplayIndex).getEntry(file2);
 
     Collection<ReplayBean> localReplays = new ArrayList<>(instance.loadLocalReplayPage(2, 1).get().getT1());
 
@@ -257,12 +263,8 @@ public class ReplayServiceTest extends ServiceTest {
   public void testLoadLocalReplays() throws Exception {
     Path file1 = Files.createFile(replayDirectory.resolve("replay.fafreplay"));
 
-    ReplayMetadata replayMetadata = new ReplayMetadata();
-    replayMetadata.setUid(123);
-    replayMetadata.setTitle("title");
-
-    when(replayDataParser.getMetadata()).thenReturn(replayMetadata);
-    when(replayFileReader.parseReplay(file1)).thenReturn(replayDataParser);
+    when(localReplayIndex.getReplayFiles()).thenReturn(List.of(file1));
+    when(localReplayIndex.getEntry(file1)).thenReturn(new LocalReplayIndexEntry("replay.fafreplay", 0, 0, 123, "title", "faf", TEST_MAP_NAME, 0, 0, Map.of("2", List.of("junit")), List.of(new Army(1, "junit", "DE", 2, 1, 1500, 100))));
     when(modService.getFeaturedMod(any())).thenReturn(Mono.empty());
     when(mapService.findByMapFolderName(any())).thenReturn(CompletableFuture.completedFuture(Optional.of(MapVersionBeanBuilder.create().defaultValues().get())));
 
@@ -271,6 +273,22 @@ public class ReplayServiceTest extends ServiceTest {
     assertThat(localReplays, hasSize(1));
     assertThat(localReplays.get(0).getId(), is(123));
     assertThat(localReplays.get(0).getTitle(), is("title"));
+    assertThat(localReplays.get(0).getTeams(), is(Map.of("2", List.of("junit"))));
+    assertThat(localReplays.get(0).getTeamPlayerStats().get("2"), hasSize(1));
+    verify(localReplayIndex).save();
+    verify(replayFileReader, never()).parseReplay(any());
+  }
+
+  @Test
+  public void testLoadReplayDetailsMovesLocalReplayWithCorruptBody() throws Exception {
+    Path file1 = Files.createFile(replayDirectory.resolve("replay.fafreplay"));
+    when(replayFileReader.parseReplay(file1)).thenThrow(new CompressorException("corrupt"));
+
+    assertThrows(CompressorException.class, () -> instance.loadReplayDetails(file1));
+
+    verify(notificationService).addNotification(any(PersistentNotification.class));
+    assertThat(Files.exists(file1), is(false));
+    verify(localReplayIndex, never()).putArmies(any(), any());
   }
 
   @Test
@@ -422,10 +440,14 @@ public class ReplayServiceTest extends ServiceTest {
     Path path = Path.of("foo.bar");
     when(replayFileReader.parseReplay(path)).thenReturn(replayDataParser);
 
-    instance.loadReplayDetails(path);
+    when(replayDataParser.getArmies()).thenReturn(Map.of(0, Map.of("Human", false, "OwnerID", "1", "PlayerName", "junit", "Country", "DE", "Team", 2f, "Faction", 1f, "MEAN", 1500f, "DEV", 100f)));
+
+    ReplayDetails replayDetails = instance.loadReplayDetails(path);
 
     verify(replayDataParser).getChatMessages();
     verify(replayDataParser, times(2)).getGameOptions();
+    verify(localReplayIndex).putArmies(path, List.of(new Army(1, "junit", "DE", 2, 1, 1500, 100)));
+    assertThat(replayDetails.teamPlayerStats().get("2"), hasSize(1));
   }
 
   @Test
@@ -0,0 +1,87 @@
+package com.faforever.client.task;
+
+import com.faforever.client.task.CompletableTask.Priority;
+import com.faforever.client.task.CompletableTask.ResourceClass;
+import com.faforever.client.test.PlatformTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PriorityTaskExecutorTest extends PlatformTest {
+
+  private PriorityTaskExecutor instance;
+  private final List<String> startedTasks = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  public void setUp() {
+    instance = new PriorityTaskExecutor(Map.of(ResourceClass.DISK, 1, ResourceClass.NETWORK, 1, ResourceClass.CPU, 1));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    instance.shutdown();
+  }
+
+  @Test
+  public void testHigherPriorityTasksStartFirst() throws Exception {
+    CountDownLatch blockingTaskLatch = new CountDownLatch(1);
+    CompletableTask<Void> blockingTask = createTask("blocking", Priority.LOW, ResourceClass.NETWORK, blockingTaskLatch);
+    CompletableTask<Void> lowTask = createTask("low", Priority.LOW, ResourceClass.NETWORK, null);
+    CompletableTask<Void> mediumTask = createTask("medium", Priority.MEDIUM, ResourceClass.NETWORK, null);
+    CompletableTask<Void> firstHighTask = createTask("high1", Priority.HIGH, ResourceClass.NETWORK, null);
+    CompletableTask<Void> secondHighTask = createTask("high2", Priority.HIGH, ResourceClass.NETWORK, null);
+
+    instance.execute(blockingTask);
+    instance.execute(lowTask);
+    instance.execute(mediumTask);
+    instance.execute(firstHighTask);
+    instance.execute(secondHighTask);
+    assertEquals(4, instance.getStatistics(ResourceClass.NETWORK).queued());
+
+    blockingTaskLatch.countDown();
+    CompletableFuture.allOf(blockingTask.getFuture(), lowTask.getFuture(), mediumTask.getFuture(), firstHighTask.getFuture(), secondHighTask.getFuture())
+        .get(10, TimeUnit.SECONDS);
+
+    assertEquals(List.of("blocking", "high1", "high2", "medium", "low"), startedTasks);
+    assertEquals(5, instance.getStatistics(ResourceClass.NETWORK).started());
+  }
+
+  @Test
+  public void testResourceClassesDontBlockEachOther() throws Exception {
+    CountDownLatch blockingTaskLatch = new CountDownLatch(1);
+    CompletableTask<Void> blockingTask = createTask("network", Priority.HIGH, ResourceClass.NETWORK, blockingTaskLatch);
+    CompletableTask<Void> diskTask = createTask("disk", Priority.LOW, ResourceClass.DISK, null);
+
+    instance.execute(blockingTask);
+    instance.execute(diskTask);
+
+    diskTask.getFuture().get(10, TimeUnit.SECONDS);
+    assertEquals(1, instance.getStatistics(ResourceClass.NETWORK).running());
+
+    blockingTaskLatch.countDown();
+    blockingTask.getFuture().get(10, TimeUnit.SECONDS);
+  }
+
+  private CompletableTask<Void> createTask(String name, Priority priority, ResourceClass resourceClass,
+                                           CountDownLatch latch) {
+    return new CompletableTask<>(priority, resourceClass) {
+      @Override
+      protected Void call() throws Exception {
+        startedTasks.add(name);
+        if (latch != null) {
+          latch.await();
+        }
+        return null;
+      }
+    };
+  }
+}
@@ -0,0 +1,128 @@
+package com.faforever.client.theme;
+
+import com.faforever.client.chat.ChatUserItemController;
+import com.faforever.client.fx.FxApplicationThreadExecutor;
+import com.faforever.client.game.GameTileController;
+import com.faforever.client.i18n.I18n;
+import com.faforever.client.test.ServiceTest;
+import com.faforever.client.theme.UiService.FxmlPoolStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.MessageSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class UiServiceTest extends ServiceTest {
+
+  private static final String NOT_POOLED_FXML = "theme/play/game_tooltip.fxml";
+
+  @Mock
+  private ThemeService themeService;
+  @Mock
+  private MessageSource messageSource;
+  @Mock
+  private ApplicationContext applicationContext;
+  @Mock
+  private I18n i18n;
+  @Mock
+  private FxApplicationThreadExecutor fxApplicationThreadExecutor;
+  @Mock
+  private GameTileController loadedGameTileController;
+  @Mock
+  private ChatUserItemController loadedChatUserItemController;
+
+  private UiService instance;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    instance = spy(new UiService(themeService, messageSource, applicationContext, i18n, fxApplicationThreadExecutor));
+    doReturn(loadedGameTileController).when(instance).loadFxml(UiService.GAME_CARD);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    instance.destroy();
+  }
+
+  @Test
+  public void testAcquireFromEmptyPoolLoadsController() {
+    GameTileController controller = instance.acquireFxml(UiService.GAME_CARD);
+
+    assertThat(controller, sameInstance(loadedGameTileController));
+    assertThat(instance.getFxmlPoolStatistics(), is(new FxmlPoolStatistics(0, 1)));
+  }
+
+  @Test
+  public void testReleasedControllerIsReused() {
+    GameTileController releasedController = mock(GameTileController.class);
+    instance.releaseFxml(UiService.GAME_CARD, releasedController);
+
+    GameTileController controller = instance.acquireFxml(UiService.GAME_CARD);
+
+    assertThat(controller, sameInstance(releasedController));
+    assertThat(instance.getFxmlPoolStatistics(), is(new FxmlPoolStatistics(1, 0)));
+  }
+
+  @Test
+  public void testAcquireRefillsPool() {
+    instance.acquireFxml(UiService.GAME_CARD);
+
+    // One load for the acquired controller, and one for each controller the pool holds
+    verify(instance, timeout(5000).times(17)).loadFxml(UiService.GAME_CARD);
+    GameTileController controller = instance.acquireFxml(UiService.GAME_CARD);
+
+    assertThat(controller, sameInstance(loadedGameTileController));
+    assertThat(instance.getFxmlPoolStatistics(), is(new FxmlPoolStatistics(1, 1)));
+  }
+
+  @Test
+  public void testChatUserItemPoolIsFilledOnFxThread() {
+    doReturn(loadedChatUserItemController).when(instance).loadFxml(UiService.CHAT_USER_ITEM);
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(fxApplicationThreadExecutor).runLater(any());
+
+    instance.acquireFxml(UiService.CHAT_USER_ITEM);
+
+    // One load for the acquired controller, and one per scheduled run for each controller the pool holds
+    verify(fxApplicationThreadExecutor, times(32)).runLater(any());
+    verify(instance, times(33)).loadFxml(UiService.CHAT_USER_ITEM);
+    ChatUserItemController controller = instance.acquireFxml(UiService.CHAT_USER_ITEM);
+
+    assertThat(controller, sameInstance(loadedChatUserItemController));
+    assertThat(instance.getFxmlPoolStatistics(), is(new FxmlPoolStatistics(1, 1)));
+  }
+
+  @Test
+  public void testNotPooledFxmlIsLoadedEveryTime() {
+    GameTileController notPooledController = mock(GameTileController.class);
+    doReturn(notPooledController).when(instance).loadFxml(NOT_POOLED_FXML);
+
+    instance.releaseFxml(NOT_POOLED_FXML, mock(GameTileController.class));
+    GameTileController controller = instance.acquireFxml(NOT_POOLED_FXML);
+
+    assertThat(controller, sameInstance(notPooledController));
+    verify(instance, times(1)).loadFxml(NOT_POOLED_FXML);
+    assertThat(instance.getFxmlPoolStatistics(), is(new FxmlPoolStatistics(0, 0)));
+  }
+
+  @Test
+  public void testHitRatio() {
+    assertThat(new FxmlPoolStatistics(0, 0).hitRatio(), is(0.0));
+    assertThat(new FxmlPoolStatistics(3, 1).hitRatio(), is(0.75));
+  }
+}
@@ -0,0 +1,53 @@
+package com.faforever.client.util;
+
+import com.faforever.client.test.ServiceTest;
+import com.faforever.client.util.LuaLiteralParser.UnsupportedSyntaxException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LuaLiteralParserTest extends ServiceTest {
+
+  @Test
+  public void testParseLiterals() throws Exception {
+    Map<String, Object> globals = LuaLiteralParser.parseAssignments("""
+        version = 3 -- Lua Version. Dont touch this
+        --[[ a long
+        comment ]]
+        info = {
+          name = "Double \\"quoted\\"",
+          other = 'single',
+          long = [==[
+        long ]] string]==],
+          ['key'] = -1.5,
+          [2] = true,
+          nothing = nil,
+          'first'; STRING( 'ARMY_9' ),
+        }
+        """);
+
+    assertEquals(3L, globals.get("version"));
+    Map<?, ?> info = (Map<?, ?>) globals.get("info");
+    assertEquals("Double \"quoted\"", info.get("name"));
+    assertEquals("single", info.get("other"));
+    assertEquals("long ]] string", info.get("long"));
+    assertEquals(-1.5, info.get("key"));
+    assertEquals("first", info.get(1L));
+    assertSame(LuaLiteralParser.UNRESOLVED, info.get(2L));
+    assertFalse(info.containsKey("nothing"));
+  }
+
+  @Test
+  public void testRejectsExpressions() {
+    assertThrows(UnsupportedSyntaxException.class, () -> LuaLiteralParser.parseAssignments("name = 'a' .. 'b'"));
+    assertThrows(UnsupportedSyntaxException.class, () -> LuaLiteralParser.parseAssignments("size = 2 * 512"));
+    assertThrows(UnsupportedSyntaxException.class, () -> LuaLiteralParser.parseAssignments("local size = 512"));
+    assertThrows(UnsupportedSyntaxException.class, () -> LuaLiteralParser.parseAssignments("info.name = 'a'"));
+    assertThrows(UnsupportedSyntaxException.class, () -> LuaLiteralParser.parseAssignments("{\"This is invalid\", \"}"));
+  }
+}
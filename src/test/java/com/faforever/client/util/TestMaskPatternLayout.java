@@ -10,7 +10,9 @@ import java.net.UnknownHostException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class TestMaskPatternLayout extends ServiceTest {
 
@@ -40,4 +42,27 @@ public class TestMaskPatternLayout extends ServiceTest {
     assertThat(cleanLogMessage, not(containsString(machineName)));
 
   }
+
+  @Test
+  public void testMaskingIgnoresCase() {
+    instance = new MaskPatternLayout("C:\\Users\\Bob", "BOB-PC", "bob");
+
+    assertThat(instance.maskMessage("Reading c:\\users\\bob\\game.prefs on bob-pc as BOB"),
+               is("Reading %USER_PROFILE%\\game.prefs on %CPU_NAME% as %USER%"));
+  }
+
+  @Test
+  public void testMessageWithoutSecretsIsReturnedAsIs() {
+    instance = new MaskPatternLayout("C:\\Users\\Bob", "BOB-PC", "bob");
+    String logMessage = "Connected to lobby server";
+
+    assertThat(instance.maskMessage(logMessage), sameInstance(logMessage));
+  }
+
+  @Test
+  public void testEmptyMachineNameIsNotMasked() {
+    instance = new MaskPatternLayout("/home/bob", "", "bob");
+
+    assertThat(instance.maskMessage("bob logged in"), is("%USER% logged in"));
+  }
 }
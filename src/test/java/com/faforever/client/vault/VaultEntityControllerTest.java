@@ -111,6 +111,11 @@ public class VaultEntityControllerTest extends PlatformTest {
         };
       }
 
+      @Override
+      protected void releaseEntityCard(VaultEntityCardController<Integer> entityCard) {
+        //Do Nothing
+      }
+
       @Override
       protected List<ShowRoomCategory> getShowRoomCategories() {
         List<ShowRoomCategory> categories = new ArrayList<>();